@@ -0,0 +1,98 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchReport;
+import seedu.address.logic.BatchReport.LineError;
+import seedu.address.logic.BatchRunner;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyTracker;
+import seedu.address.model.Tracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The entry point to run a script of commands against the tracker without the UI.<p>
+ *
+ * Usage: {@code java -cp letracker.jar seedu.address.BatchMain SCRIPT_FILE [COMMIT_INTERVAL]}<p>
+ *
+ * The tracker, config and preferences are the same as those of the application. The tracker is saved after every
+ * {@code COMMIT_INTERVAL} commands, or only at the end of the script if it is not given. The speed of the run is
+ * printed when the script ends, followed by the errors of the commands that failed with their line numbers. The exit
+ * status is 0 if every command succeeded, 1 if some commands failed, and 2 if the script could not be run.
+ */
+public class BatchMain {
+
+    private static final String MESSAGE_USAGE = "Usage: java -cp letracker.jar " + BatchMain.class.getName()
+            + " SCRIPT_FILE [COMMIT_INTERVAL]";
+
+    private static final int EXIT_SUCCESS = 0;
+    private static final int EXIT_COMMAND_ERRORS = 1;
+    private static final int EXIT_FAILURE = 2;
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    private static int run(String[] args) {
+        if (args.length < 1 || args.length > 2 || !FileUtil.isValidPath(args[0])) {
+            System.err.println(MESSAGE_USAGE);
+            return EXIT_FAILURE;
+        }
+
+        Path scriptPath = Paths.get(args[0]);
+        int commitInterval = BatchRunner.COMMIT_AT_END;
+        if (args.length == 2) {
+            if (!StringUtil.isNonZeroUnsignedInteger(args[1])) {
+                System.err.println("Commit interval must be a positive integer.\n" + MESSAGE_USAGE);
+                return EXIT_FAILURE;
+            }
+            commitInterval = Integer.parseInt(args[1]);
+        }
+
+        try {
+            Config config = ConfigUtil.readConfig(Config.DEFAULT_CONFIG_FILE).orElseGet(Config::new);
+            LogsCenter.init(config);
+
+            UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+            UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+            Storage storage = new StorageManager(MainApp.initTrackerStorage(userPrefs), userPrefsStorage);
+
+            // Unlike the application, a tracker that cannot be read is not replaced, as it would be saved over
+            Optional<ReadOnlyTracker> trackerOptional = storage.readTracker();
+            ModelManager model = new ModelManager(trackerOptional.orElseGet(Tracker::new), userPrefs);
+
+            BatchReport report;
+            try (BufferedReader script = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+                report = new BatchRunner(model, storage, commitInterval).run(script);
+            }
+
+            System.out.println(report);
+            for (LineError error : report.getErrors()) {
+                System.err.println(error);
+            }
+            return report.getErrors().isEmpty() ? EXIT_SUCCESS : EXIT_COMMAND_ERRORS;
+        } catch (DataConversionException e) {
+            System.err.println("Config, preferences or data file is not in the correct format: " + e.getMessage());
+            return EXIT_FAILURE;
+        } catch (IOException e) {
+            System.err.println("Failed to run script: " + StringUtil.getDetails(e));
+            return EXIT_FAILURE;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.TrackerFileFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
@@ -22,10 +23,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Tracker;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryTrackerStorage;
+import seedu.address.storage.JournalingTrackerStorage;
 import seedu.address.storage.JsonTrackerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedTrackerStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TrackerSaver;
 import seedu.address.storage.TrackerStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
@@ -43,9 +48,13 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected TrackerSaver trackerSaver;
     protected Model model;
     protected Config config;
 
+    // Whether the tracker of the model is the tracker in the data file, saved in the format in the user prefs
+    private boolean isTrackerSaved = false;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing Le Tracker ]===========================");
@@ -56,18 +65,36 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TrackerStorage trackerStorage = new JsonTrackerStorage(userPrefs.getTrackerFilePath());
+        TrackerStorage trackerStorage = initTrackerStorage(userPrefs);
         storage = new StorageManager(trackerStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        trackerSaver = new TrackerSaver(storage);
+        if (isTrackerSaved) {
+            trackerSaver.markSaved(model.getTracker());
+        }
+        logic = new LogicManager(model, storage, trackerSaver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code TrackerStorage} that saves the tracker in the format in {@code userPrefs}.
+     */
+    static TrackerStorage initTrackerStorage(ReadOnlyUserPrefs userPrefs) {
+        switch (userPrefs.getTrackerFileFormat()) {
+        case BINARY:
+            return new BinaryTrackerStorage(userPrefs.getTrackerFilePath());
+        case SHARDED:
+            return new ShardedTrackerStorage(userPrefs.getTrackerFilePath());
+        default:
+            return new JournalingTrackerStorage(userPrefs.getTrackerFilePath());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s tracker and {@code userPrefs}. <br>
      * The data from the sample tracker will be used instead if {@code storage}'s tracker is not found,
@@ -82,6 +109,9 @@ public class MainApp extends Application {
                 logger.info("Data file not found. Will be starting with a sample Tracker");
             }
             initialData = trackerOptional.orElseGet(SampleDataUtil::getSampleTracker);
+            if (trackerOptional.isPresent()) {
+                isTrackerSaved = convertTrackerFile(storage, trackerOptional.get(), userPrefs.getTrackerFileFormat());
+            }
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty Tracker");
             initialData = new Tracker();
@@ -93,6 +123,26 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Saves {@code tracker} again if the data file of {@code storage} is not in {@code format}, so that the data file
+     * is converted to the format in the user prefs.
+     *
+     * @return True if the data file is in {@code format}. Otherwise, returns false.
+     */
+    private boolean convertTrackerFile(Storage storage, ReadOnlyTracker tracker, TrackerFileFormat format) {
+        try {
+            TrackerFileFormat currentFormat = JsonTrackerStorage.detectFormat(storage.getTrackerFilePath());
+            if (currentFormat != format) {
+                logger.info("Converting data file from " + currentFormat + " to " + format);
+                storage.saveTracker(tracker);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warning("Failed to convert data file : " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -179,5 +229,18 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (trackerSaver == null) {
+            return;
+        }
+        try {
+            // Compacts the changes appended to the data file, so that the next start does not replay them
+            trackerSaver.requestCompaction(model.getTracker());
+            trackerSaver.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save tracker " + StringUtil.getDetails(e));
+        } catch (InterruptedException e) {
+            logger.severe("Interrupted while saving tracker " + StringUtil.getDetails(e));
+            Thread.currentThread().interrupt();
+        }
     }
 }
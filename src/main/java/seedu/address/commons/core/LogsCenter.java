@@ -36,11 +36,14 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a logger with the given name.
+     * Creates a logger with the given name.<br>
+     * The logging level of the logger is set as well as that of its handlers, so that
+     * {@code Logger#isLoggable(Level)} can be used to skip building messages that would not be logged.
      */
     public static Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
+        logger.setLevel(currentLogLevel);
 
         removeHandlers(logger);
         addConsoleHandler(logger);
@@ -0,0 +1,96 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Logs messages through a {@code Logger}, at most a given number of times per interval.<p>
+ *
+ * Messages are given as suppliers, which are only called if the message is logged, so that a message that is not
+ * logged costs nothing to build. Messages beyond the limit of an interval are dropped, and the number of dropped
+ * messages is logged with the first message of a later interval.
+ */
+public class RateLimitedLogger {
+
+    private final Logger logger;
+    private final int maxMessagesPerInterval;
+    private final long intervalNanos;
+    private final LongSupplier clock;
+
+    private long intervalStart;
+    private int messageCount = 0;
+    private int suppressedCount = 0;
+
+    /**
+     * Constructs a {@code RateLimitedLogger}.
+     *
+     * @param logger The logger to log messages through.
+     * @param maxMessagesPerInterval The largest number of messages logged in an interval. Must be positive.
+     * @param interval The length of an interval. Must be positive.
+     */
+    public RateLimitedLogger(Logger logger, int maxMessagesPerInterval, Duration interval) {
+        this(logger, maxMessagesPerInterval, interval, System::nanoTime);
+    }
+
+    /**
+     * Constructs a {@code RateLimitedLogger} that reads the time in nanoseconds from {@code clock}.
+     */
+    RateLimitedLogger(Logger logger, int maxMessagesPerInterval, Duration interval, LongSupplier clock) {
+        requireAllNonNull(logger, interval, clock);
+        checkArgument(maxMessagesPerInterval > 0, "Maximum number of messages must be positive.");
+        checkArgument(!interval.isNegative() && !interval.isZero(), "Interval must be positive.");
+        this.logger = logger;
+        this.maxMessagesPerInterval = maxMessagesPerInterval;
+        this.intervalNanos = interval.toNanos();
+        this.clock = clock;
+        this.intervalStart = clock.getAsLong();
+    }
+
+    /**
+     * Logs the message from {@code messageSupplier} at {@code level}, unless the level is disabled for the logger or
+     * the limit of the current interval has been reached.
+     *
+     * @param level The level of the message.
+     * @param messageSupplier The supplier of the message, which is only called if the message is logged.
+     * @return True if the message was logged. Otherwise, false.
+     */
+    public boolean log(Level level, Supplier<String> messageSupplier) {
+        requireAllNonNull(level, messageSupplier);
+
+        if (!logger.isLoggable(level)) {
+            return false;
+        }
+
+        int previouslySuppressedCount;
+        synchronized (this) {
+            long now = clock.getAsLong();
+            if (now - intervalStart >= intervalNanos) {
+                intervalStart = now;
+                messageCount = 0;
+            }
+
+            if (messageCount == maxMessagesPerInterval) {
+                suppressedCount++;
+                return false;
+            }
+
+            messageCount++;
+            previouslySuppressedCount = suppressedCount;
+            suppressedCount = 0;
+        }
+
+        if (previouslySuppressedCount == 0) {
+            logger.log(level, messageSupplier);
+        } else {
+            logger.log(level, () -> messageSupplier.get()
+                    + " (" + previouslySuppressedCount + " earlier message(s) suppressed)");
+        }
+        return true;
+    }
+}
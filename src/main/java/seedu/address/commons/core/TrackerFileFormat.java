@@ -0,0 +1,16 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats that the tracker data file can be stored in.
+ */
+public enum TrackerFileFormat {
+
+    /** Human-readable json, which can be edited by hand. */
+    JSON,
+
+    /** Compact binary format, which is faster to load for large trackers. */
+    BINARY,
+
+    /** One json file per module listed by a manifest, so that saving a change only rewrites the modules it affects. */
+    SHARDED
+}
@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value type.<p>
+ *
+ * Values are identified by a key, and the value created for a key is returned for every later request with an equal
+ * key for as long as the value is in use. As such, interned values that are equal are also the same instance and can
+ * be compared by reference.<p>
+ *
+ * The pool only holds its values weakly, so a value that is no longer used anywhere else is garbage collected and its
+ * entry is removed from the pool. The pool is safe to use from multiple threads.
+ *
+ * @param <K> The type of the key that identifies a value. It must be immutable.
+ * @param <V> The type of the value. It must be immutable.
+ */
+public class Interner<K, V> {
+
+    private final Map<K, ValueReference<K, V>> pool = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> collectedValues = new ReferenceQueue<>();
+    private final Function<? super K, ? extends V> creator;
+
+    /**
+     * Constructs an {@code Interner<K, V>}.
+     *
+     * @param creator Creates the value identified by a key that is not yet in the pool. Any exception thrown by it is
+     *                propagated and nothing is added to the pool.
+     */
+    public Interner(Function<? super K, ? extends V> creator) {
+        requireNonNull(creator);
+        this.creator = creator;
+    }
+
+    /**
+     * Returns the canonical value identified by {@code key}, creating it if it is not in the pool.
+     *
+     * @param key The key that identifies the value.
+     * @return The canonical value identified by {@code key}.
+     */
+    public V intern(K key) {
+        requireNonNull(key);
+        removeCollectedValues();
+
+        while (true) {
+            ValueReference<K, V> reference = pool.get(key);
+            V value = reference == null ? null : reference.get();
+            if (value != null) {
+                return value;
+            }
+
+            V createdValue = creator.apply(key);
+            ValueReference<K, V> createdReference = new ValueReference<>(key, createdValue, collectedValues);
+            boolean isAdded = reference == null
+                    ? pool.putIfAbsent(key, createdReference) == null
+                    : pool.replace(key, reference, createdReference);
+            if (isAdded) {
+                return createdValue;
+            }
+            // Another thread added a value for the key first, so its value is returned instead
+        }
+    }
+
+    /**
+     * Returns the number of values in the pool. Values that have been garbage collected but not yet removed from the
+     * pool may be counted.
+     *
+     * @return The number of values in the pool.
+     */
+    public int size() {
+        removeCollectedValues();
+        return pool.size();
+    }
+
+    /**
+     * Clears the reference to the value identified by {@code key} and queues it for removal, as the garbage collector
+     * does when the value is no longer used, so that the removal of collected values can be tested.
+     *
+     * @param key The key that identifies the value.
+     */
+    void simulateCollection(K key) {
+        requireNonNull(key);
+
+        ValueReference<K, V> reference = pool.get(key);
+        if (reference != null) {
+            reference.clear();
+            reference.enqueue();
+        }
+    }
+
+    /**
+     * Removes the entries of values that have been garbage collected from the pool.
+     */
+    @SuppressWarnings("unchecked")
+    private void removeCollectedValues() {
+        Reference<? extends V> collected;
+        while ((collected = collectedValues.poll()) != null) {
+            ValueReference<K, V> reference = (ValueReference<K, V>) collected;
+            pool.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a value in the pool that remembers the key of its entry.
+     */
+    private static class ValueReference<K, V> extends WeakReference<V> {
+        private final K key;
+
+        private ValueReference(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
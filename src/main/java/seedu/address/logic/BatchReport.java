@@ -0,0 +1,102 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of running a script of commands with a {@code BatchRunner}.
+ */
+public class BatchReport {
+
+    private final int commandCount;
+    private final int commitCount;
+    private final long elapsedNanos;
+    private final List<LineError> errors;
+
+    /**
+     * Constructs a {@code BatchReport}.
+     *
+     * @param commandCount The number of commands that were run, including the commands that failed.
+     * @param commitCount The number of times the tracker was saved.
+     * @param elapsedNanos The time taken to run the script, in nanoseconds.
+     * @param errors The errors of the commands that failed, in the order of their lines.
+     */
+    public BatchReport(int commandCount, int commitCount, long elapsedNanos, List<LineError> errors) {
+        requireAllNonNull(errors);
+        this.commandCount = commandCount;
+        this.commitCount = commitCount;
+        this.elapsedNanos = elapsedNanos;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public int getCommitCount() {
+        return commitCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public List<LineError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the number of commands run per second, including the time taken to save the tracker.
+     */
+    public double getCommandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : commandCount * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Ran %d commands in %.3f s (%.0f commands/s), saved %d times, %d failed",
+                commandCount, elapsedNanos / 1_000_000_000.0, getCommandsPerSecond(), commitCount, errors.size());
+    }
+
+    /**
+     * The error of a command in a script that failed.
+     */
+    public static class LineError {
+        private final int lineNumber;
+        private final String commandText;
+        private final String message;
+
+        /**
+         * Constructs a {@code LineError}.
+         *
+         * @param lineNumber The number of the line of the command in the script, starting from 1.
+         * @param commandText The command.
+         * @param message The message of the error.
+         */
+        public LineError(int lineNumber, String commandText, String message) {
+            requireAllNonNull(commandText, message);
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Line %d: %s\n    %s", lineNumber, commandText, message);
+        }
+    }
+}
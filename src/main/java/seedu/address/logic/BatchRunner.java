@@ -0,0 +1,146 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.BatchReport.LineError;
+import seedu.address.logic.archive.Archive;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.injector.Injector;
+import seedu.address.logic.injector.NavigationInjector;
+import seedu.address.logic.parser.TrackerParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.trackereventsystem.TrackerEventSystem;
+import seedu.address.logic.trackereventsystem.observers.NavigationObserver;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs a script of commands against a model without a UI.<p>
+ *
+ * Each line of the script is run as a command would be by {@link LogicManager}, including navigation injection, but
+ * the observers that only update the displayed lists are not subscribed to the tracker events, and the tracker is not
+ * saved after each command. Instead, the tracker is saved after every {@code commitInterval} commands if it has
+ * changed, and once more at the end of the script, so that a long script is saved a few times rather than once per
+ * line. Blank lines and lines starting with {@code #} are skipped. A command that fails is recorded with its line
+ * number, and the script continues with the next line.
+ */
+public class BatchRunner {
+
+    /** Commit interval with which the tracker is only saved at the end of the script. */
+    public static final int COMMIT_AT_END = 0;
+
+    private static final String COMMENT_MARKER = "#";
+
+    private final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final int commitInterval;
+    private final TrackerParser trackerParser = new TrackerParser();
+    private final Injector navigationInjector = new NavigationInjector();
+    private final TrackerEventSystem trackerEventSystem = new TrackerEventSystem();
+    private final Archive archive;
+
+    private long lastCommittedVersion;
+
+    /**
+     * Constructs a {@code BatchRunner} that runs commands against {@code model}, whose tracker was read from
+     * {@code storage}.
+     *
+     * @param model The model to run the commands against.
+     * @param storage The storage to save the tracker to.
+     * @param commitInterval The number of commands after which the tracker is saved, or {@link #COMMIT_AT_END} to
+     *                       only save it at the end of the script.
+     */
+    public BatchRunner(Model model, Storage storage, int commitInterval) {
+        requireAllNonNull(model, storage);
+        checkArgument(commitInterval >= 0, "Commit interval must not be negative.");
+        this.model = model;
+        this.storage = storage;
+        this.commitInterval = commitInterval;
+        this.archive = new Archive(storage);
+
+        this.lastCommittedVersion = model.getTracker().getVersion();
+
+        // Navigation is kept consistent with the tracker, as later commands are injected with it
+        NavigationObserver navObserver = new NavigationObserver(model);
+        trackerEventSystem.addOnModuleModifiedObserver(navObserver);
+        trackerEventSystem.addOnLectureModifiedObserver(navObserver);
+    }
+
+    /**
+     * Runs the commands in {@code script}, one per line.
+     *
+     * @param script The script to run.
+     * @return The report of the run.
+     * @throws IOException If the script could not be read, or the tracker could not be saved. The saved tracker is
+     *                     left as of the last commit.
+     */
+    public BatchReport run(BufferedReader script) throws IOException {
+        requireAllNonNull(script);
+
+        List<LineError> errors = new ArrayList<>();
+        int commandCount = 0;
+        int commitCount = 0;
+        long startTime = System.nanoTime();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            try {
+                runCommand(commandText);
+            } catch (CommandException | ParseException e) {
+                logger.fine("Line " + lineNumber + " failed: " + e.getMessage());
+                errors.add(new LineError(lineNumber, commandText, e.getMessage()));
+            }
+
+            commandCount++;
+            if (commitInterval != COMMIT_AT_END && commandCount % commitInterval == 0) {
+                commitCount += commit();
+            }
+        }
+        commitCount += commit();
+
+        BatchReport report = new BatchReport(commandCount, commitCount, System.nanoTime() - startTime, errors);
+        logger.info(report.toString());
+        return report;
+    }
+
+    private void runCommand(String commandText) throws CommandException, ParseException {
+        Command command = trackerParser.parseCommand(navigationInjector.inject(commandText, model));
+        CommandResult commandResult = LogicManager.executeCommand(command, model, storage, archive,
+                trackerEventSystem);
+        LogicManager.triggerTrackerEvents(trackerEventSystem, commandResult);
+    }
+
+    /**
+     * Saves the tracker if it has changed since it was last saved.
+     *
+     * @return The number of times the tracker was saved, which is 0 or 1.
+     */
+    private int commit() throws IOException {
+        long version = model.getTracker().getVersion();
+        if (version == lastCommittedVersion) {
+            return 0;
+        }
+        storage.saveTracker(model.getTracker());
+        lastCommittedVersion = version;
+        return 1;
+    }
+}
@@ -15,6 +15,7 @@ import seedu.address.logic.commands.CommandResult.LectureEditInfo;
 import seedu.address.logic.commands.CommandResult.ModuleEditInfo;
 import seedu.address.logic.commands.CommandResult.VideoEditInfo;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.injector.InjectedCommand;
 import seedu.address.logic.injector.Injector;
 import seedu.address.logic.injector.NavigationInjector;
 import seedu.address.logic.parser.TrackerParser;
@@ -22,14 +23,18 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.trackereventsystem.TrackerEventSystem;
 import seedu.address.logic.trackereventsystem.observers.ListObserver;
 import seedu.address.logic.trackereventsystem.observers.NavigationObserver;
+import seedu.address.logic.trackereventsystem.observers.TrackerChangeObserver;
 import seedu.address.model.DisplayListLevel;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyNavigation;
 import seedu.address.model.ReadOnlyTracker;
 import seedu.address.model.lecture.ReadOnlyLecture;
 import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.module.exceptions.LectureLoadingException;
 import seedu.address.model.video.Video;
+import seedu.address.storage.JsonAdaptedTrackerChange;
 import seedu.address.storage.Storage;
+import seedu.address.storage.TrackerSaver;
 
 /**
  * The main LogicManager of the app.
@@ -42,6 +47,7 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final TrackerSaver trackerSaver;
     private final TrackerParser trackerParser;
     private final Archive archive;
     private final Injector navigationInjector;
@@ -49,14 +55,24 @@ public class LogicManager implements Logic {
 
     private final ListObserver listObserver;
     private final NavigationObserver navObserver;
+    private final TrackerChangeObserver changeObserver;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
-     * {@code Storage}.
+     * {@code Storage}. The tracker is saved before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new TrackerSaver(storage, Runnable::run));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and
+     * {@code Storage}, which saves the tracker through {@code trackerSaver}.
+     */
+    public LogicManager(Model model, Storage storage, TrackerSaver trackerSaver) {
         this.model = model;
         this.storage = storage;
+        this.trackerSaver = trackerSaver;
         this.navigationInjector = new NavigationInjector();
 
         trackerParser = new TrackerParser();
@@ -65,39 +81,26 @@ public class LogicManager implements Logic {
 
         this.listObserver = new ListObserver(model);
         this.navObserver = new NavigationObserver(model);
+        this.changeObserver = new TrackerChangeObserver();
+        subscribeToTrackerEvents();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        InjectedCommand injectedCommand = preprocessCommand(commandText);
+        String injectedCommandText = injectedCommand.getCommandText();
 
-        subscribeToTrackerEvents();
-
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
-
-        commandText = preprocessCommand(commandText);
-
-        logger.info("----------------[POST INJECTION USER COMMAND][" + commandText + "]");
-
-        Command command = trackerParser.parseCommand(commandText);
-        CommandResult commandResult = command.execute(model);
+        // The command is logged once, with the injected command only if it differs
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]"
+                + (injectedCommandText.equals(commandText) ? "" : "[POST INJECTION][" + injectedCommandText + "]"));
 
-        if (!commandResult.getPath().isEmpty()) {
-            if (commandResult.isExporting()) {
-                archive.exportToArchive(commandResult.getPath().get(), model.getTracker(),
-                        commandResult.isOverwriting(), storage.getTrackerFilePath());
-            } else {
-                // modify CommandResult object to include ModuleEditInfo objects to update trackerEventSystem
-                commandResult = archive.importFromArchive(commandResult.getPath().get(), model,
-                        commandResult.isImportingWholeArchive(), commandResult.isOverwriting(),
-                        commandResult.getModuleCodesToImport(), trackerEventSystem);
-            }
-        }
+        Command command = trackerParser.parseCommand(injectedCommand);
+        CommandResult commandResult = executeCommand(command, model, storage, archive, trackerEventSystem);
 
-        triggerTrackerEvents(commandResult);
-        unsubscribeToTrackerEvents();
+        triggerTrackerEvents(trackerEventSystem, commandResult);
 
         try {
-            storage.saveTracker(model.getTracker());
+            trackerSaver.requestSave(model.getTracker(), toTrackerChanges(commandResult));
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -105,20 +108,41 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
-    private String preprocessCommand(String commandText) {
-        return navigationInjector.inject(commandText, model);
+    /**
+     * Returns the changes made to the tracker by the command with {@code commandResult}, as recorded from the
+     * tracker events, to be appended to the storage. Returns an empty list if the changes are not fully described by
+     * the events, so that the whole tracker is saved instead.
+     */
+    private List<JsonAdaptedTrackerChange> toTrackerChanges(CommandResult commandResult) {
+        List<JsonAdaptedTrackerChange> changes = changeObserver.takeChanges();
+
+        // Imports do not trigger events for the modules they add, and storages that cannot append changes do not
+        // need them
+        if (commandResult.getPath().isPresent() || !storage.canAppendChanges()) {
+            return List.of();
+        }
+        return changes;
     }
 
-    private void subscribeToTrackerEvents() {
-        this.trackerEventSystem.addOnModuleModifiedObserver(listObserver, navObserver);
-        this.trackerEventSystem.addOnLectureModifiedObserver(listObserver, navObserver);
-        this.trackerEventSystem.addOnVideoModifiedObserver(listObserver);
+    private InjectedCommand preprocessCommand(String commandText) {
+        return navigationInjector.inject(commandText, model);
     }
 
-    private void unsubscribeToTrackerEvents() {
-        this.trackerEventSystem.removeOnModuleModifiedObserver(navObserver, listObserver);
-        this.trackerEventSystem.removeOnLectureModifiedObserver(navObserver, listObserver);
-        this.trackerEventSystem.removeOnVideoModifiedObserver(listObserver);
+    /**
+     * Subscribes the observers to the tracker events once, for all the commands that are executed.<p>
+     * The list observer is called synchronously, as the lists are displayed as soon as the command returns.
+     */
+    private void subscribeToTrackerEvents() {
+        this.trackerEventSystem.addOnModuleModifiedObserver(navObserver);
+        this.trackerEventSystem.addOnLectureModifiedObserver(navObserver);
+        this.trackerEventSystem.addOnTrackerEditedObserver(listObserver);
+
+        // Changes are only recorded if they can be appended to the storage
+        if (storage.canAppendChanges()) {
+            this.trackerEventSystem.addOnModuleModifiedObserver(changeObserver);
+            this.trackerEventSystem.addOnLectureModifiedObserver(changeObserver);
+            this.trackerEventSystem.addOnVideoModifiedObserver(changeObserver);
+        }
     }
 
     @Override
@@ -166,7 +190,41 @@ public class LogicManager implements Logic {
         return model.getLastListLevel();
     }
 
-    private void triggerTrackerEvents(CommandResult commandResult) {
+    /**
+     * Executes {@code command} on {@code model}, and carries out the export or import in its result if there is one.
+     *
+     * @return The result of the command, which includes the modules added by an import.
+     * @throws CommandException If an error occurs during the execution of the command or of the export or import.
+     */
+    static CommandResult executeCommand(Command command, Model model, Storage storage, Archive archive,
+            TrackerEventSystem trackerEventSystem) throws CommandException {
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } catch (LectureLoadingException lle) {
+            throw new CommandException(FILE_READ_ERROR_MESSAGE + lle.getMessage(), lle);
+        }
+
+        if (!commandResult.getPath().isEmpty()) {
+            if (commandResult.isExporting()) {
+                archive.exportToArchive(commandResult.getPath().get(), model.getTracker(),
+                        commandResult.isOverwriting(), storage.getTrackerFilePath());
+            } else {
+                // modify CommandResult object to include ModuleEditInfo objects to update trackerEventSystem
+                commandResult = archive.importFromArchive(commandResult.getPath().get(), model,
+                        commandResult.isImportingWholeArchive(), commandResult.isOverwriting(),
+                        commandResult.getModuleCodesToImport(), trackerEventSystem);
+            }
+        }
+
+        return commandResult;
+    }
+
+    /**
+     * Triggers the events of {@code trackerEventSystem} for the modifications described in {@code commandResult},
+     * and publishes them to its observers.
+     */
+    static void triggerTrackerEvents(TrackerEventSystem trackerEventSystem, CommandResult commandResult) {
         List<ModuleEditInfo> moduleEditInfoList = commandResult.getModuleEditInfoList();
         for (ModuleEditInfo info : moduleEditInfoList) {
             trackerEventSystem.triggerOnModuleEditedEvent(info.getOriginalModule(), info.getEditedModule());
@@ -183,6 +241,8 @@ public class LogicManager implements Logic {
             trackerEventSystem.triggerOnVideoEditedEvent(info.getModuleCode(), info.getLectureName(),
                     info.getOriginalVideo(), info.getEditedVideo());
         }
+
+        trackerEventSystem.publishEvents();
     }
 
 }
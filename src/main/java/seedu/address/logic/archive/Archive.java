@@ -17,6 +17,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.trackereventsystem.TrackerEventSystem;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTracker;
+import seedu.address.model.Tracker;
 import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ReadOnlyModule;
@@ -81,10 +82,13 @@ public class Archive {
             throw new CommandException(String.format(Messages.MESSAGE_FILE_DOES_NOT_EXIST));
         }
 
-        ReadOnlyTracker archiveTracker;
+        Tracker archiveTracker;
 
         try {
-            archiveTracker = storage.readTracker(archivedPath).get();
+            // Only the requested modules are read, so that importing a few modules from a large archive is cheap
+            archiveTracker = new Tracker(isImportingWholeArchive
+                    ? storage.readTracker(archivedPath).get()
+                    : storage.readTracker(archivedPath, moduleCodeToImport).get());
         } catch (IOException ioe) {
             throw new CommandException(LogicManager.FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         } catch (DataConversionException dce) {
@@ -103,9 +107,8 @@ public class Archive {
         List<CommandResult.ModuleEditInfo> moduleEditInfoList = new ArrayList<>();
 
         for (ModuleCode moduleCode : moduleCodeToImport) {
-            ReadOnlyModule module = archiveTracker.getModule(moduleCode);
-            Module moduleToAdd = new Module(module.getCode(),
-                    module.getName(), module.getTags(), module.getLectureList());
+            Module module = archiveTracker.getModule(moduleCode);
+            Module moduleToAdd = new Module(module.getCode(), module.getName(), module.getTags(), module);
             if (model.hasModule(moduleToAdd.getCode())) {
                 ReadOnlyModule replacedModule = model.getModule(moduleToAdd.getCode());
                 model.setModule(replacedModule, moduleToAdd);
@@ -124,11 +127,8 @@ public class Archive {
                                                     boolean isOverwriting)
             throws CommandException {
 
-        List<ModuleCode> currentModuleList =
-                currentTracker.getModuleList().stream().map(ReadOnlyModule::getCode).collect(Collectors.toList());
-
         List<String> moduleExistInCurrentTracker =
-                moduleCodeSet.stream().filter(currentModuleList::contains)
+                moduleCodeSet.stream().filter(currentTracker::hasModule)
                         .map(moduleCode -> moduleCode.code)
                         .collect(Collectors.toList());
 
@@ -142,11 +142,8 @@ public class Archive {
     private void checkIfModuleExistInArchive(Set<ModuleCode> moduleCodeSet, ReadOnlyTracker tracker)
             throws CommandException {
 
-        List<ModuleCode> archivedModuleList =
-                tracker.getModuleList().stream().map(ReadOnlyModule::getCode).collect(Collectors.toList());
-
         List<String> moduleDoesNotExistInArchive =
-                moduleCodeSet.stream().filter(moduleCode -> !archivedModuleList.contains(moduleCode))
+                moduleCodeSet.stream().filter(moduleCode -> !tracker.hasModule(moduleCode))
                         .map(moduleCode -> moduleCode.code)
                         .collect(Collectors.toList());
 
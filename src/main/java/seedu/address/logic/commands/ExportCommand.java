@@ -26,7 +26,11 @@ public class ExportCommand extends Command {
             + "(2) Archive all modules currently in Le Tracker to an existing file.\n"
             + "Parameter: "
             + "{file_name} " + PREFIX_OVERWRITE + "\n"
-            + "Example: " + COMMAND_WORD + " hello.json " + PREFIX_OVERWRITE;
+            + "Example: " + COMMAND_WORD + " hello.json " + PREFIX_OVERWRITE + "\n\n"
+            + "Archives with file names ending in .bin are saved in a compact binary format.\n"
+            + "Example: " + COMMAND_WORD + " hello.bin\n\n"
+            + "Archives with file names ending in .gz are saved as compressed json.\n"
+            + "Example: " + COMMAND_WORD + " hello.json.gz";
     public static final String MESSAGE_SUCCESS = "All modules archived to %1$s";
 
     private final String fileName;
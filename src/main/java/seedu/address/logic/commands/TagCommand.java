@@ -135,7 +135,7 @@ public class TagCommand extends Command {
             throw new CommandException(String.format(Messages.MESSAGE_MODULE_DOES_NOT_EXIST, moduleCode));
         }
 
-        ReadOnlyModule taggingModule = model.getModule(this.moduleCode);
+        Module taggingModule = model.getModule(this.moduleCode);
 
         Set<Tag> currentTags = taggingModule.getTags();
 
@@ -144,7 +144,7 @@ public class TagCommand extends Command {
         newTags.addAll(currentTags);
 
         Module taggedModule = new Module(taggingModule.getCode(),
-                taggingModule.getName(), newTags, taggingModule.getLectureList());
+                taggingModule.getName(), newTags, taggingModule);
         model.setModule(taggingModule, taggedModule);
         return new CommandResult(String.format(MESSAGE_SUCCESS, moduleCode),
                 new ModuleEditInfo(taggingModule, taggedModule));
@@ -161,15 +161,15 @@ public class TagCommand extends Command {
                     moduleCode));
         }
 
-        ReadOnlyModule targetModule = model.getModule(this.moduleCode);
-        ReadOnlyLecture taggingLecture = targetModule.getLecture(this.lectureName);
+        Module targetModule = model.getModule(this.moduleCode);
+        Lecture taggingLecture = targetModule.getLecture(this.lectureName);
 
         Set<Tag> currentTags = taggingLecture.getTags();
         Set<Tag> newTags = new HashSet<>();
         newTags.addAll(this.tags);
         newTags.addAll(currentTags);
 
-        Lecture taggedLecture = new Lecture(taggingLecture.getName(), newTags, taggingLecture.getVideoList());
+        Lecture taggedLecture = new Lecture(taggingLecture.getName(), newTags, taggingLecture);
         model.setLecture(targetModule, taggingLecture, taggedLecture);
         return new CommandResult(String.format(MESSAGE_SUCCESS, lectureName),
                 new LectureEditInfo(moduleCode, taggingLecture, taggedLecture));
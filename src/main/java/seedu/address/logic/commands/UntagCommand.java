@@ -136,7 +136,7 @@ public class UntagCommand extends Command {
             throw new CommandException(String.format(Messages.MESSAGE_MODULE_DOES_NOT_EXIST, moduleCode));
         }
 
-        ReadOnlyModule untaggingModule = model.getModule(this.moduleCode);
+        Module untaggingModule = model.getModule(this.moduleCode);
 
         Set<Tag> currentTags = untaggingModule.getTags();
 
@@ -156,7 +156,7 @@ public class UntagCommand extends Command {
                 .collect(Collectors.toSet());
 
         Module untaggedModule = new Module(untaggingModule.getCode(),
-                untaggingModule.getName(), newTags, untaggingModule.getLectureList());
+                untaggingModule.getName(), newTags, untaggingModule);
         model.setModule(untaggingModule, untaggedModule);
         return new CommandResult(String.format(MESSAGE_SUCCESS, moduleCode),
                 new ModuleEditInfo(untaggingModule, untaggedModule));
@@ -172,8 +172,8 @@ public class UntagCommand extends Command {
                     moduleCode));
         }
 
-        ReadOnlyModule targetModule = model.getModule(this.moduleCode);
-        ReadOnlyLecture untaggingLecture = targetModule.getLecture(this.lectureName);
+        Module targetModule = model.getModule(this.moduleCode);
+        Lecture untaggingLecture = targetModule.getLecture(this.lectureName);
 
         Set<Tag> currentTags = untaggingLecture.getTags();
 
@@ -191,7 +191,7 @@ public class UntagCommand extends Command {
         newTags = newTags.stream().filter(tag -> !deletingTags.contains(tag))
                 .collect(Collectors.toSet());
 
-        Lecture untaggedLecture = new Lecture(untaggingLecture.getName(), newTags, untaggingLecture.getVideoList());
+        Lecture untaggedLecture = new Lecture(untaggingLecture.getName(), newTags, untaggingLecture);
         model.setLecture(targetModule, untaggingLecture, untaggedLecture);
         return new CommandResult(String.format(MESSAGE_SUCCESS, lectureName),
                 new LectureEditInfo(moduleCode, untaggingLecture, untaggedLecture));
@@ -9,9 +9,12 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandResult.LectureEditInfo;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.MultipleEventsParser;
+import seedu.address.model.Batch;
 import seedu.address.model.Model;
 import seedu.address.model.lecture.LectureName;
+import seedu.address.model.lecture.ReadOnlyLecture;
 import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ReadOnlyModule;
 
 /**
  * Deletes multiple lectures identified using their respective lecture names
@@ -57,14 +60,17 @@ public class DeleteMultipleLecturesCommand extends DeleteCommand {
 
         if (invalidLectureNames.size() == 0) {
             LectureEditInfo[] editedLectures = new LectureEditInfo[this.targetLectureNames.size()];
+            ReadOnlyModule module = model.getModule(this.moduleCode);
+            Batch batch = new Batch();
 
             for (int i = 0; i < this.targetLectureNames.size(); i++) {
                 LectureName lectureName = this.targetLectureNames.get(i);
-                DeleteLectureCommand dlc = new DeleteLectureCommand(this.moduleCode, lectureName);
-                CommandResult r = dlc.execute(model);
+                ReadOnlyLecture lectureToDelete = model.getLecture(this.moduleCode, lectureName);
+                batch.deleteLecture(module, lectureToDelete);
 
-                editedLectures[i] = r.getLectureEditInfoList().get(0);
+                editedLectures[i] = new LectureEditInfo(this.moduleCode, lectureToDelete, null);
             }
+            model.batch(batch);
 
             return new CommandResult(String.format(MESSAGE_SUCCESS,
                     this.targetLectureNames.size(),
@@ -9,8 +9,10 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandResult.ModuleEditInfo;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.MultipleEventsParser;
+import seedu.address.model.Batch;
 import seedu.address.model.Model;
 import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ReadOnlyModule;
 
 /**
  * Deletes multiple modules identified using their resepective module codes
@@ -48,14 +50,16 @@ public class DeleteMultipleModulesCommand extends DeleteCommand {
 
         if (invalidModuleCodes.size() == 0) {
             ModuleEditInfo[] editedModules = new ModuleEditInfo[this.targetModuleCodes.size()];
+            Batch batch = new Batch();
 
             for (int i = 0; i < this.targetModuleCodes.size(); i++) {
                 ModuleCode moduleCode = this.targetModuleCodes.get(i);
-                DeleteModuleCommand dmc = new DeleteModuleCommand(moduleCode);
-                CommandResult r = dmc.execute(model);
+                ReadOnlyModule moduleToDelete = model.getModule(moduleCode);
+                batch.deleteModule(moduleToDelete);
 
-                editedModules[i] = r.getModuleEditInfoList().get(0);
+                editedModules[i] = new ModuleEditInfo(moduleToDelete, null);
             }
+            model.batch(batch);
 
 
 
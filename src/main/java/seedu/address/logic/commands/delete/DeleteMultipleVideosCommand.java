@@ -9,9 +9,12 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandResult.VideoEditInfo;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.MultipleEventsParser;
+import seedu.address.model.Batch;
 import seedu.address.model.Model;
 import seedu.address.model.lecture.LectureName;
+import seedu.address.model.lecture.ReadOnlyLecture;
 import seedu.address.model.module.ModuleCode;
+import seedu.address.model.video.Video;
 import seedu.address.model.video.VideoName;
 
 /**
@@ -67,14 +70,17 @@ public class DeleteMultipleVideosCommand extends DeleteCommand {
 
         if (invalidVideoNames.size() == 0) {
             VideoEditInfo[] editedVideos = new VideoEditInfo[this.targetVideoNames.size()];
+            ReadOnlyLecture lecture = model.getLecture(this.moduleCode, this.lectureName);
+            Batch batch = new Batch();
 
             for (int i = 0; i < this.targetVideoNames.size(); i++) {
                 VideoName videoName = this.targetVideoNames.get(i);
-                DeleteVideoCommand dvc = new DeleteVideoCommand(this.moduleCode, this.lectureName, videoName);
-                CommandResult r = dvc.execute(model);
+                Video targetVideo = model.getVideo(this.moduleCode, this.lectureName, videoName);
+                batch.deleteVideo(lecture, targetVideo);
 
-                editedVideos[i] = r.getVideoEditInfoList().get(0);
+                editedVideos[i] = new VideoEditInfo(this.moduleCode, this.lectureName, targetVideo, null);
             }
+            model.batch(batch);
 
             return new CommandResult(String.format(MESSAGE_SUCCESS,
                     targetVideoNames.size(),
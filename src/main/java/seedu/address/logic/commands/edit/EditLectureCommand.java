@@ -5,7 +5,6 @@ import static seedu.address.commons.core.Messages.MESSAGE_LECTURE_DOES_NOT_EXIST
 import static seedu.address.commons.core.Messages.MESSAGE_MODULE_DOES_NOT_EXIST;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -17,10 +16,10 @@ import seedu.address.model.Model;
 import seedu.address.model.lecture.Lecture;
 import seedu.address.model.lecture.LectureName;
 import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ReadOnlyModule;
 import seedu.address.model.tag.Tag;
-import seedu.address.model.video.Video;
 
 /**
  * Edits the details of a lecture in a module.
@@ -59,8 +58,8 @@ public class EditLectureCommand extends EditCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        ReadOnlyModule module = getModuleContainingLecture(model);
-        ReadOnlyLecture lectureToEdit = getLectureToEdit(module);
+        Module module = getModuleContainingLecture(model);
+        Lecture lectureToEdit = getLectureToEdit(module);
         Lecture editedLecture = createEditedLecture(lectureToEdit);
 
         validateLectureIsNotDuplicate(module, lectureToEdit, editedLecture);
@@ -87,7 +86,7 @@ public class EditLectureCommand extends EditCommand {
                 && editLectureDescriptor.equals(otherCommand.editLectureDescriptor);
     }
 
-    private ReadOnlyModule getModuleContainingLecture(Model model) throws CommandException {
+    private Module getModuleContainingLecture(Model model) throws CommandException {
         requireNonNull(model);
 
         if (!model.hasModule(moduleCode)) {
@@ -97,7 +96,7 @@ public class EditLectureCommand extends EditCommand {
         return model.getModule(moduleCode);
     }
 
-    private ReadOnlyLecture getLectureToEdit(ReadOnlyModule module) throws CommandException {
+    private Lecture getLectureToEdit(Module module) throws CommandException {
         requireNonNull(module);
 
         if (!module.hasLecture(lectureName)) {
@@ -107,15 +106,13 @@ public class EditLectureCommand extends EditCommand {
         return module.getLecture(lectureName);
     }
 
-    private Lecture createEditedLecture(ReadOnlyLecture lectureToEdit) {
+    private Lecture createEditedLecture(Lecture lectureToEdit) {
         requireNonNull(lectureToEdit);
 
         LectureName updatedName = editLectureDescriptor.getName().orElse(lectureToEdit.getName());
         Set<Tag> updatedTags = editLectureDescriptor.getTags().orElse(lectureToEdit.getTags());
 
-        List<Video> videos = lectureToEdit.getVideoList();
-
-        return new Lecture(updatedName, updatedTags, videos);
+        return new Lecture(updatedName, updatedTags, lectureToEdit);
     }
 
     private void validateLectureIsNotDuplicate(ReadOnlyModule module, ReadOnlyLecture lectureToEdit,
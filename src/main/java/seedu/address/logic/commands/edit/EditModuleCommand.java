@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_MODULE_DOES_NOT_EXIST;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -13,7 +12,6 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandResult.ModuleEditInfo;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.lecture.ReadOnlyLecture;
 import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ModuleName;
@@ -52,7 +50,7 @@ public class EditModuleCommand extends EditCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        ReadOnlyModule moduleToEdit = getModuleToEdit(model);
+        Module moduleToEdit = getModuleToEdit(model);
         Module editedModule = createEditedModule(moduleToEdit);
 
         validateModuleIsNotDuplicate(model, moduleToEdit, editedModule);
@@ -78,7 +76,7 @@ public class EditModuleCommand extends EditCommand {
                 && editModuleDescriptor.equals(otherCommand.editModuleDescriptor);
     }
 
-    private ReadOnlyModule getModuleToEdit(Model model) throws CommandException {
+    private Module getModuleToEdit(Model model) throws CommandException {
         requireNonNull(model);
 
         if (!model.hasModule(moduleCode)) {
@@ -88,16 +86,14 @@ public class EditModuleCommand extends EditCommand {
         return model.getModule(moduleCode);
     }
 
-    private Module createEditedModule(ReadOnlyModule moduleToEdit) {
+    private Module createEditedModule(Module moduleToEdit) {
         requireNonNull(moduleToEdit);
 
         ModuleCode updatedCode = editModuleDescriptor.getCode().orElse(moduleToEdit.getCode());
         ModuleName updateName = editModuleDescriptor.getName().orElse(moduleToEdit.getName());
         Set<Tag> updatedTags = editModuleDescriptor.getTags().orElse(moduleToEdit.getTags());
 
-        List<? extends ReadOnlyLecture> lectures = moduleToEdit.getLectureList();
-
-        return new Module(updatedCode, updateName, updatedTags, lectures);
+        return new Module(updatedCode, updateName, updatedTags, moduleToEdit);
     }
 
     private void validateModuleIsNotDuplicate(Model model, ReadOnlyModule moduleToEdit, ReadOnlyModule editedModule)
@@ -9,6 +9,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandResult.VideoEditInfo;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.MultipleEventsParser;
+import seedu.address.model.Batch;
 import seedu.address.model.Model;
 import seedu.address.model.lecture.LectureName;
 import seedu.address.model.lecture.ReadOnlyLecture;
@@ -114,15 +115,17 @@ public class MarkAsWatchedCommand extends MarkCommand {
 
         ArrayList<VideoName> videoNamesArrayList = new ArrayList<>();
         VideoEditInfo[] editedVideosInfos = new VideoEditInfo[inputLength];
+        Batch batch = new Batch();
         for (int i = 0; i < inputLength; i++) {
             videoNamesArrayList.add(targetVideoNames.get(i));
 
             Video targetVideo = originalVideos[i];
             Video newVideo = newVideos[i];
 
-            model.setVideo(lecture, targetVideo, newVideo);
+            batch.setVideo(lecture, targetVideo, newVideo);
             editedVideosInfos[i] = new VideoEditInfo(this.moduleCode, this.lectureName, targetVideo, newVideo);
         }
+        model.batch(batch);
 
         return new CommandResult(String.format(MESSAGE_MARK_VIDEO_SUCCESS,
                         MultipleEventsParser.convertArrayListToString(videoNamesArrayList),
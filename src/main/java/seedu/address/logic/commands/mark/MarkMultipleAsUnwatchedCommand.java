@@ -9,6 +9,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandResult.VideoEditInfo;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.MultipleEventsParser;
+import seedu.address.model.Batch;
 import seedu.address.model.Model;
 import seedu.address.model.lecture.LectureName;
 import seedu.address.model.lecture.ReadOnlyLecture;
@@ -76,13 +77,15 @@ public class MarkMultipleAsUnwatchedCommand extends MarkCommand {
 
         ReadOnlyLecture lecture = model.getLecture(moduleCode, lectureName);
         VideoEditInfo[] editedVideos = new VideoEditInfo[this.videoNames.size()];
+        Batch batch = new Batch();
         for (int i = 0; i < this.videoNames.size(); i++) {
             VideoName targetVideoName = this.videoNames.get(i);
             Video targetVideo = model.getVideo(moduleCode, lectureName, targetVideoName);
             Video newVideo = new Video(targetVideoName, false, targetVideo.getTimestamp(), targetVideo.getTags());
             editedVideos[i] = new VideoEditInfo(moduleCode, lectureName, targetVideo, newVideo);
-            model.setVideo(lecture, targetVideo, newVideo);
+            batch.setVideo(lecture, targetVideo, newVideo);
         }
+        model.batch(batch);
 
         return new CommandResult(String.format(MESSAGE_MARK_VIDEO_SUCCESS,
                         MultipleEventsParser.convertArrayListToString(this.videoNames),
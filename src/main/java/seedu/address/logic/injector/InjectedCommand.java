@@ -0,0 +1,60 @@
+package seedu.address.logic.injector;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+
+import seedu.address.logic.parser.TokenizedArguments;
+
+/**
+ * Represents the command text returned by an {@code Injector}, with its arguments as they were scanned for prefixes
+ * by the injector, if it scanned them. The scanned arguments are passed on to the command parser, so that the command
+ * is only scanned once.
+ */
+public class InjectedCommand {
+
+    private final String commandText;
+    private final TokenizedArguments arguments;
+
+    /**
+     * Constructs an {@code InjectedCommand} whose arguments were not scanned.
+     *
+     * @param commandText The command text.
+     */
+    public InjectedCommand(String commandText) {
+        requireNonNull(commandText);
+        this.commandText = commandText;
+        this.arguments = null;
+    }
+
+    /**
+     * Constructs an {@code InjectedCommand} whose arguments were scanned.
+     *
+     * @param commandText The command text.
+     * @param arguments The scanned arguments of the command text, which follow its command word.
+     */
+    public InjectedCommand(String commandText, TokenizedArguments arguments) {
+        requireAllNonNull(commandText, arguments);
+        this.commandText = commandText;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Returns the command text.
+     *
+     * @return The command text.
+     */
+    public String getCommandText() {
+        return commandText;
+    }
+
+    /**
+     * Returns the scanned arguments of the command text, if the injector scanned them.
+     *
+     * @return The scanned arguments, or an empty {@code Optional} if they were not scanned.
+     */
+    public Optional<TokenizedArguments> getArguments() {
+        return Optional.ofNullable(arguments);
+    }
+}
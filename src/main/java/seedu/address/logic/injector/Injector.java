@@ -3,7 +3,8 @@ package seedu.address.logic.injector;
 import seedu.address.model.Model;
 
 /**
- * Represents an input injector that parses raw command text from the user and returns a modified command text.
+ * Represents an input injector that parses raw command text from the user and returns a modified command text, with
+ * its arguments if the injector scanned them.
  */
 public abstract class Injector {
 
@@ -11,7 +12,7 @@ public abstract class Injector {
      * Parses and modifies user input.
      *
      * @param commandText full user input string
-     * @return modified user input string
+     * @return modified user input string, with its arguments if they were scanned
      */
-    public abstract String inject(String commandText, Model model);
+    public abstract InjectedCommand inject(String commandText, Model model);
 }
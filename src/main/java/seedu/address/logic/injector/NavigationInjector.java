@@ -9,8 +9,8 @@ import java.util.regex.Matcher;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.navigation.NavCommand;
-import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.TokenizedArguments;
 import seedu.address.logic.parser.TrackerParser;
 import seedu.address.model.Model;
 import seedu.address.model.navigation.NavigationContext;
@@ -24,17 +24,21 @@ public class NavigationInjector extends Injector {
             {NavCommand.COMMAND_WORD, ImportCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD};
 
     @Override
-    public String inject(String commandText, Model model) {
+    public InjectedCommand inject(String commandText, Model model) {
         final Matcher matcher = TrackerParser.BASIC_COMMAND_FORMAT.matcher(commandText.trim());
 
         if (shouldIgnoreCommand(matcher)) {
-            return commandText;
+            return new InjectedCommand(commandText);
         }
 
-        final String arguments = matcher.group("arguments");
+        final String commandWord = matcher.group("commandWord");
+        final TokenizedArguments arguments = ArgumentTokenizer.scan(matcher.group("arguments"));
 
-        commandText = removeRootPrefix(commandText);
-        return injectMissingArgs(commandText, arguments, model).trim();
+        // The injected arguments are derived from the scanned arguments, and are returned for the command parser so
+        // that the command is only scanned once
+        TokenizedArguments injectedArguments = injectMissingArgs(arguments.withoutPrefix(PREFIX_ROOT), arguments,
+                model);
+        return new InjectedCommand((commandWord + injectedArguments.getArgsString()).trim(), injectedArguments);
     }
 
     private boolean shouldIgnoreCommand(Matcher matcher) {
@@ -50,46 +54,36 @@ public class NavigationInjector extends Injector {
         return false;
     }
 
-    private String injectMissingArgs(String commandText, String arguments, Model model) {
+    private TokenizedArguments injectMissingArgs(TokenizedArguments injectedArguments, TokenizedArguments arguments,
+            Model model) {
         NavigationContext navContext = model.getCurrentNavContext();
 
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(arguments, PREFIX_ROOT, PREFIX_MODULE, PREFIX_LECTURE);
-
-        boolean hasRootPrefix = argMultimap.getValue(PREFIX_ROOT).isPresent();
-        boolean hasLecturePrefix = argMultimap.getValue(PREFIX_LECTURE).isPresent();
-        boolean hasModulePrefix = argMultimap.getValue(PREFIX_MODULE).isPresent();
+        boolean hasRootPrefix = arguments.hasPrefix(PREFIX_ROOT);
+        boolean hasLecturePrefix = arguments.hasPrefix(PREFIX_LECTURE);
+        boolean hasModulePrefix = arguments.hasPrefix(PREFIX_MODULE);
 
         // Don't inject context prefixes if only root prefix present.
         if (hasRootPrefix && !hasLecturePrefix) {
-            return commandText;
+            return injectedArguments;
         }
 
         // Inject context prefixes.
         if (!hasModulePrefix) {
-            commandText = injectModulePrefixArg(commandText, navContext);
+            injectedArguments = injectPrefixArg(injectedArguments, navContext.getModulePrefixArg());
             if (!hasLecturePrefix) {
-                commandText = injectLecturePrefixArg(commandText, navContext);
+                injectedArguments = injectPrefixArg(injectedArguments, navContext.getLecturePrefixArg());
             }
         }
 
-        return commandText;
-    }
-
-    private String removeRootPrefix(String commandText) {
-        return commandText.replaceAll("\\" + PREFIX_ROOT.getPrefix() + "[^\\/]*", "");
-    }
-
-    private String injectModulePrefixArg(String commandText, NavigationContext navContext) {
-        return commandText + " " + navContext.getModulePrefixArg();
+        return injectedArguments;
     }
 
-    private String injectLecturePrefixArg(String commandText, NavigationContext navContext) {
-        return commandText + " " + navContext.getLecturePrefixArg();
+    private TokenizedArguments injectPrefixArg(TokenizedArguments arguments, String prefixArg) {
+        return prefixArg.isEmpty() ? arguments : arguments.append(prefixArg);
     }
 
     private boolean isValidCommandWord(String commandWord) {
-        return !commandWord.matches(PREFIX_ROOT.toString());
+        return !commandWord.equals(PREFIX_ROOT.getPrefix());
     }
 
     private boolean isCommandWhitelisted(String commandWord) {
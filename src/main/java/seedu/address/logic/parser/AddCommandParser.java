@@ -30,14 +30,14 @@ import seedu.address.model.video.VideoTimestamp;
 /**
  * Parses input arguments and creates a new {@code AddCommand} object.
  */
-public class AddCommandParser implements Parser<AddCommand> {
+public class AddCommandParser extends PrefixedArgumentsParser<AddCommand> {
     /**
-     * Parses the given {@code String} of arguments in the context of the AddCommand
+     * Parses the given arguments in the context of the AddCommand
      * and returns an {@code AddCommand} object for execution.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
-    public AddCommand parse(String args) throws ParseException {
+    public AddCommand parse(TokenizedArguments args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
                 args, PREFIX_NAME, PREFIX_MODULE, PREFIX_LECTURE, PREFIX_TAG, PREFIX_WATCH, PREFIX_TIMESTAMP);
 
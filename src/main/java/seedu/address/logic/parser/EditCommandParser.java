@@ -32,15 +32,15 @@ import seedu.address.model.video.VideoTimestamp;
 /**
  * Parses input arguments and creates a new EditCommand object
  */
-public class EditCommandParser implements Parser<EditCommand> {
+public class EditCommandParser extends PrefixedArgumentsParser<EditCommand> {
 
     /**
-     * Parses the given {@code String} of arguments in the context of the EditCommand
+     * Parses the given arguments in the context of the EditCommand
      * and returns an {@code EditCommand} object for execution.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
-    public EditCommand parse(String args) throws ParseException {
+    public EditCommand parse(TokenizedArguments args) throws ParseException {
         requireNonNull(args);
 
         ArgumentMultimap argMultimap =
@@ -15,14 +15,14 @@ import seedu.address.model.module.ModuleCode;
 /**
  * Parses input arguments and creates a new ListCommand object
  */
-public class ListCommandParser implements Parser<ListCommand> {
+public class ListCommandParser extends PrefixedArgumentsParser<ListCommand> {
 
     /**
-     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * Parses the given arguments in the context of the ListCommand
      * and returns an ListCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public ListCommand parse(String args) throws ParseException {
+    public ListCommand parse(TokenizedArguments args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE, PREFIX_LECTURE);
 
         Optional<String> moduleCodeOpt = argMultimap.getValue(PREFIX_MODULE);
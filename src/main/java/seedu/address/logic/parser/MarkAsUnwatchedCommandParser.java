@@ -17,14 +17,14 @@ import seedu.address.model.video.VideoName;
 /**
  * Parses input arguments and creates a new MarkAsUnwatchedCommand executable object
  */
-public class MarkAsUnwatchedCommandParser implements Parser<MarkCommand> {
+public class MarkAsUnwatchedCommandParser extends PrefixedArgumentsParser<MarkCommand> {
 
     /**
-     * Parses the given {@code String} of arguments in the context of the MarkAsUnwatchedCommand
+     * Parses the given arguments in the context of the MarkAsUnwatchedCommand
      * and returns a MarkAsUnwatchedCommand object for execution.
      * @throws ParseException if the user input does not conform to the expected format
      */
-    public MarkCommand parse(String args) throws ParseException {
+    public MarkCommand parse(TokenizedArguments args) throws ParseException {
 
         ArgumentMultimap argMultiMap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE, PREFIX_LECTURE);
 
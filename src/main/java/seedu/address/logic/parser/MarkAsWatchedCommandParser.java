@@ -16,14 +16,14 @@ import seedu.address.model.video.VideoName;
 /**
  * Parses input arguments and creates a new MarkAsWatchedCommand executable object
  */
-public class MarkAsWatchedCommandParser implements Parser<MarkAsWatchedCommand> {
+public class MarkAsWatchedCommandParser extends PrefixedArgumentsParser<MarkAsWatchedCommand> {
 
     /**
-     * Parses the given {@code String} of arguments in the context of the MarkAsWatched Command
+     * Parses the given arguments in the context of the MarkAsWatched Command
      * and returns a MarkAsWatchedCommand object for execution.
      * @throws ParseException if the user input does not conform to the expected format
      */
-    public MarkAsWatchedCommand parse(String args) throws ParseException {
+    public MarkAsWatchedCommand parse(TokenizedArguments args) throws ParseException {
         ArgumentMultimap argMultiMap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE, PREFIX_LECTURE);
 
         Optional<String> moduleCodeOptional = argMultiMap.getValue(PREFIX_MODULE);
@@ -13,4 +13,13 @@ public interface Parser<T extends Command> {
      * @throws ParseException if {@code userInput} does not conform the expected format
      */
     T parse(String userInput) throws ParseException;
+
+    /**
+     * Parses {@code arguments}, which were already scanned for prefixes, into a command and returns it.<p>
+     * By default, the arguments string is parsed as it is.
+     * @throws ParseException if {@code arguments} does not conform the expected format
+     */
+    default T parse(TokenizedArguments arguments) throws ParseException {
+        return parse(arguments.getArgsString());
+    }
 }
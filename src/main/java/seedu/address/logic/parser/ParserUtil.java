@@ -34,7 +34,7 @@ public class ParserUtil {
     public static Set<Tag> parseMultiTags(String tags) throws ParseException {
         requireNonNull(tags);
         if (tags.trim().equals("")) {
-            return new HashSet<>();
+            return Tag.setOf(List.of());
         }
 
         String[] arrayOfTags = tags.split(",", -1);
@@ -51,10 +51,10 @@ public class ParserUtil {
 
         List<Tag> listOfTags = Arrays.stream(arrayOfTags)
                 .map(tag -> tag.trim())
-                .map(trimmedTag -> new Tag(trimmedTag))
+                .map(trimmedTag -> Tag.of(trimmedTag))
                 .collect(Collectors.toList());
 
-        return new HashSet<>(listOfTags);
+        return Tag.setOf(listOfTags);
     }
 
     /**
@@ -78,10 +78,10 @@ public class ParserUtil {
 
         List<Tag> listOfTags = tags.stream()
                 .map(tag -> tag.trim())
-                .map(trimmedTag -> new Tag(trimmedTag))
+                .map(trimmedTag -> Tag.of(trimmedTag))
                 .collect(Collectors.toList());
 
-        return new HashSet<>(listOfTags);
+        return Tag.setOf(listOfTags);
     }
 
 
@@ -97,7 +97,7 @@ public class ParserUtil {
         if (!ModuleCode.isValidCode(trimmedModuleCode)) {
             throw new ParseException(ModuleCode.MESSAGE_CONSTRAINTS);
         }
-        return new ModuleCode(trimmedModuleCode);
+        return ModuleCode.of(trimmedModuleCode);
     }
 
     /**
@@ -127,7 +127,7 @@ public class ParserUtil {
 
         List<ModuleCode> listOfModuleCode = Arrays.stream(arrayOfModuleCode)
                 .map(moduleCode -> moduleCode.trim())
-                .map(trimmedModuleCode -> new ModuleCode(trimmedModuleCode))
+                .map(trimmedModuleCode -> ModuleCode.of(trimmedModuleCode))
                 .collect(Collectors.toList());
 
         return new HashSet<>(listOfModuleCode);
@@ -160,7 +160,7 @@ public class ParserUtil {
         if (!LectureName.isValidName(trimmedLectureName)) {
             throw new ParseException(LectureName.MESSAGE_CONSTRAINTS);
         }
-        return new LectureName(trimmedLectureName);
+        return LectureName.of(trimmedLectureName);
     }
 
     /**
@@ -188,11 +188,9 @@ public class ParserUtil {
         requireNonNull(videoTimestamp);
         String trimmedVideoTimestamp = videoTimestamp.trim();
         try {
-            VideoTimestamp.validateTimestamp(trimmedVideoTimestamp);
+            return new VideoTimestamp(trimmedVideoTimestamp);
         } catch (IllegalArgumentException iae) {
             throw new ParseException(iae.getMessage());
         }
-
-        return new VideoTimestamp(trimmedVideoTimestamp);
     }
 }
@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A trie of a set of prefixes, which finds the prefix that a part of an arguments string is without copying it.<p>
+ *
+ * The trie is built once for a set of prefixes, and is then walked one character at a time, so that finding a prefix
+ * costs as much as reading it regardless of how many prefixes are in the set.
+ */
+class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Constructs a {@code PrefixTrie} of {@code prefixes}. The empty prefix of the preamble is ignored.
+     *
+     * @param prefixes The prefixes in the trie.
+     */
+    PrefixTrie(Prefix... prefixes) {
+        requireNonNull(prefixes);
+
+        for (Prefix prefix : prefixes) {
+            String prefixString = prefix.getPrefix();
+            if (prefixString.isEmpty()) {
+                continue;
+            }
+
+            Node node = root;
+            for (int i = 0; i < prefixString.length(); i++) {
+                node = node.children.computeIfAbsent(prefixString.charAt(i), c -> new Node());
+            }
+            node.prefix = prefix;
+        }
+    }
+
+    /**
+     * Returns the prefix in the trie that is exactly the characters of {@code argsString} from {@code start}
+     * (inclusive) to {@code end} (exclusive).
+     *
+     * @param argsString The arguments string.
+     * @param start The index of the first character.
+     * @param end The index after the last character.
+     * @return The prefix, or null if the characters are not a prefix in the trie.
+     */
+    Prefix match(String argsString, int start, int end) {
+        Node node = root;
+        for (int i = start; i < end && node != null; i++) {
+            node = node.children.get(argsString.charAt(i));
+        }
+        return node == null ? null : node.prefix;
+    }
+
+    /**
+     * A node of the trie, which is reached by the characters of the prefixes that start with the same characters.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Prefix prefix;
+    }
+}
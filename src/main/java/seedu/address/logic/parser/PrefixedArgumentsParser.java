@@ -0,0 +1,21 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Represents a Parser of arguments of the form {@code preamble <prefix>value <prefix>value ...} into a
+ * {@code Command} of type {@code T}.<p>
+ * The arguments are parsed from their {@link TokenizedArguments}, so that arguments that were already scanned for
+ * prefixes, e.g. by the {@code NavigationInjector}, are not scanned again.
+ */
+public abstract class PrefixedArgumentsParser<T extends Command> implements Parser<T> {
+
+    @Override
+    public T parse(String userInput) throws ParseException {
+        return parse(ArgumentTokenizer.scan(userInput));
+    }
+
+    @Override
+    public abstract T parse(TokenizedArguments arguments) throws ParseException;
+}
@@ -21,14 +21,14 @@ import seedu.address.model.video.VideoName;
  * Parses input arguments and creates a new TagCommand object
  */
 
-public class TagCommandParser implements Parser<TagCommand> {
+public class TagCommandParser extends PrefixedArgumentsParser<TagCommand> {
     /**
-     * Parses the given {@code String} of arguments in the context of the TagCommand
+     * Parses the given arguments in the context of the TagCommand
      * and returns an TagCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
 
-    public TagCommand parse(String args) throws ParseException {
+    public TagCommand parse(TokenizedArguments args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args,
                         PREFIX_TAG, PREFIX_MODULE, PREFIX_LECTURE);
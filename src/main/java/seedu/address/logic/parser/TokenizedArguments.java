@@ -0,0 +1,214 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * An arguments string of the form {@code preamble <prefix>value <prefix>value ...}, with the positions of the
+ * prefixes in it found in a single scan.<p>
+ *
+ * The scan finds every word that looks like a prefix, i.e. that matches {@code Prefix#VALIDATION_REGEX}, and that is
+ * preceded by a whitespace. Which of these words are prefixes only depends on the set of prefixes that the arguments
+ * are tokenized with, so the same scan is used to tokenize the arguments with any set of prefixes. A word that looks
+ * like a prefix but is not in the set ends the value before it, as described in {@link ArgumentTokenizer}.<p>
+ *
+ * Instances are immutable. Prefixes are removed and appended by creating new instances, without scanning the
+ * unchanged part of the arguments string again.
+ */
+public class TokenizedArguments {
+
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    private final String argsString;
+    private final int[] wordStarts;
+    private final int[] wordEnds;
+    private final int wordCount;
+
+    private TokenizedArguments(String argsString, int[] wordStarts, int[] wordEnds, int wordCount) {
+        this.argsString = argsString;
+        this.wordStarts = wordStarts;
+        this.wordEnds = wordEnds;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * Scans {@code argsString} for the words that look like prefixes.
+     *
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @return The scanned arguments.
+     */
+    static TokenizedArguments scan(String argsString) {
+        requireNonNull(argsString);
+
+        int[] wordStarts = new int[4];
+        int[] wordEnds = new int[4];
+        int wordCount = 0;
+
+        int length = argsString.length();
+        int i = 0;
+        while (i < length) {
+            // A prefix must be preceded by a whitespace, so a word at the start of the string is never one
+            if (i == 0 || argsString.charAt(i) == ' ' || argsString.charAt(i - 1) != ' ') {
+                i++;
+                continue;
+            }
+
+            int wordEnd = argsString.indexOf(' ', i);
+            wordEnd = wordEnd == -1 ? length : wordEnd;
+            if (isPrefixLike(argsString, i, wordEnd)) {
+                if (wordCount == wordStarts.length) {
+                    wordStarts = Arrays.copyOf(wordStarts, wordCount * 2);
+                    wordEnds = Arrays.copyOf(wordEnds, wordCount * 2);
+                }
+                wordStarts[wordCount] = i;
+                wordEnds[wordCount] = wordEnd;
+                wordCount++;
+            }
+            i = wordEnd;
+        }
+
+        return new TokenizedArguments(argsString, wordStarts, wordEnds, wordCount);
+    }
+
+    /**
+     * Returns true if the word from {@code start} to {@code end} is a slash followed by one or more alphabetical
+     * characters, as required by {@code Prefix#VALIDATION_REGEX}.
+     */
+    private static boolean isPrefixLike(String argsString, int start, int end) {
+        if (end - start < 2 || argsString.charAt(start) != '/') {
+            return false;
+        }
+        for (int i = start + 1; i < end; i++) {
+            char c = argsString.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the arguments string.
+     *
+     * @return The arguments string.
+     */
+    public String getArgsString() {
+        return argsString;
+    }
+
+    /**
+     * Returns true if {@code prefix} appears in the arguments string.
+     *
+     * @param prefix The prefix to check for.
+     * @return True if {@code prefix} appears in the arguments string. Otherwise, false.
+     */
+    public boolean hasPrefix(Prefix prefix) {
+        requireNonNull(prefix);
+
+        for (int i = 0; i < wordCount; i++) {
+            if (isWord(i, prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns these arguments without any occurrence of {@code prefix}. The value of each occurrence is removed with
+     * it, up to the next word that looks like a prefix.
+     *
+     * @param prefix The prefix to remove.
+     * @return The arguments without {@code prefix}.
+     */
+    public TokenizedArguments withoutPrefix(Prefix prefix) {
+        requireNonNull(prefix);
+
+        if (!hasPrefix(prefix)) {
+            return this;
+        }
+
+        StringBuilder newArgsString = new StringBuilder(argsString.length());
+        int[] newWordStarts = new int[wordCount];
+        int[] newWordEnds = new int[wordCount];
+        int newWordCount = 0;
+
+        int copyFrom = 0;
+        for (int i = 0; i < wordCount; i++) {
+            if (isWord(i, prefix)) {
+                // The whitespace before the prefix is kept, so that the words after it are still preceded by one
+                newArgsString.append(argsString, copyFrom, wordStarts[i]);
+                copyFrom = i + 1 < wordCount ? wordStarts[i + 1] : argsString.length();
+                continue;
+            }
+
+            int shift = newArgsString.length() - copyFrom;
+            newWordStarts[newWordCount] = wordStarts[i] + shift;
+            newWordEnds[newWordCount] = wordEnds[i] + shift;
+            newWordCount++;
+        }
+        newArgsString.append(argsString, copyFrom, argsString.length());
+
+        return new TokenizedArguments(newArgsString.toString(), newWordStarts, newWordEnds, newWordCount);
+    }
+
+    /**
+     * Returns these arguments with {@code arguments} appended after a whitespace. Only {@code arguments} is scanned.
+     *
+     * @param arguments The arguments to append, of the form {@code <prefix>value <prefix>value ...}
+     * @return The arguments with {@code arguments} appended.
+     */
+    public TokenizedArguments append(String arguments) {
+        requireNonNull(arguments);
+
+        TokenizedArguments appended = scan(" " + arguments);
+        int offset = argsString.length();
+        int[] newWordStarts = Arrays.copyOf(wordStarts, wordCount + appended.wordCount);
+        int[] newWordEnds = Arrays.copyOf(wordEnds, wordCount + appended.wordCount);
+        for (int i = 0; i < appended.wordCount; i++) {
+            newWordStarts[wordCount + i] = appended.wordStarts[i] + offset;
+            newWordEnds[wordCount + i] = appended.wordEnds[i] + offset;
+        }
+
+        return new TokenizedArguments(argsString + appended.argsString, newWordStarts, newWordEnds,
+                wordCount + appended.wordCount);
+    }
+
+    /**
+     * Returns an {@code ArgumentMultimap} that maps the prefixes in {@code prefixTrie} to their values in these
+     * arguments.
+     */
+    ArgumentMultimap toArgumentMultimap(PrefixTrie prefixTrie) {
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+        int valueEnd = -1;
+        for (int i = 0; i < wordCount; i++) {
+            Prefix prefix = prefixTrie.match(argsString, wordStarts[i], wordEnds[i]);
+            if (prefix == null) {
+                // A word that looks like a prefix ends the value, even though it is not one of the prefixes
+                valueEnd = valueEnd == -1 ? wordStarts[i] : valueEnd;
+                continue;
+            }
+
+            argMultimap.put(currentPrefix, extractValue(valueStart, valueEnd == -1 ? wordStarts[i] : valueEnd));
+            currentPrefix = prefix;
+            valueStart = wordEnds[i];
+            valueEnd = -1;
+        }
+        argMultimap.put(currentPrefix, extractValue(valueStart, valueEnd == -1 ? argsString.length() : valueEnd));
+
+        return argMultimap;
+    }
+
+    private String extractValue(int start, int end) {
+        return argsString.substring(start, end).trim();
+    }
+
+    private boolean isWord(int index, Prefix prefix) {
+        String prefixString = prefix.getPrefix();
+        return wordEnds[index] - wordStarts[index] == prefixString.length()
+                && argsString.startsWith(prefixString, wordStarts[index]);
+    }
+}
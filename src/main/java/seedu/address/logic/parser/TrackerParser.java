@@ -24,6 +24,7 @@ import seedu.address.logic.commands.mark.MarkAsUnwatchedCommand;
 import seedu.address.logic.commands.mark.MarkAsWatchedCommand;
 import seedu.address.logic.commands.navigation.BackNavCommand;
 import seedu.address.logic.commands.navigation.NavCommand;
+import seedu.address.logic.injector.InjectedCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.navigation.NavCommandParser;
 
@@ -45,13 +46,36 @@ public class TrackerParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
+        final Matcher matcher = matchCommand(userInput);
+        return parseCommand(matcher.group("commandWord"), ArgumentTokenizer.scan(matcher.group("arguments")));
+    }
+
+    /**
+     * Parses injected user input into command for execution. Arguments that were scanned by the injector are parsed
+     * without scanning them again.
+     *
+     * @param injectedCommand user input returned by an injector
+     * @return the command based on the user input
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parseCommand(InjectedCommand injectedCommand) throws ParseException {
+        if (injectedCommand.getArguments().isEmpty()) {
+            return parseCommand(injectedCommand.getCommandText());
+        }
+
+        final Matcher matcher = matchCommand(injectedCommand.getCommandText());
+        return parseCommand(matcher.group("commandWord"), injectedCommand.getArguments().get());
+    }
+
+    private Matcher matchCommand(String userInput) throws ParseException {
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
         if (!matcher.matches()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
+        return matcher;
+    }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+    private Command parseCommand(String commandWord, TokenizedArguments arguments) throws ParseException {
         switch (commandWord) {
         case NavCommand.COMMAND_WORD:
             return new NavCommandParser().parse(arguments);
@@ -96,10 +120,10 @@ public class TrackerParser {
             return new HelpCommand();
 
         case ExportCommand.COMMAND_WORD:
-            return new ExportCommandParser().parse(arguments);
+            return new ExportCommandParser().parse(arguments.getArgsString());
 
         case ImportCommand.COMMAND_WORD:
-            return new ImportCommandParser().parse(arguments);
+            return new ImportCommandParser().parse(arguments.getArgsString());
 
 
         default:
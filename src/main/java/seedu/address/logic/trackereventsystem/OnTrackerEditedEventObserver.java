@@ -0,0 +1,14 @@
+package seedu.address.logic.trackereventsystem;
+
+/**
+ * Represents an observer that is triggered once with all the modules, lectures, and videos that a command added,
+ * edited, or deleted.
+ */
+public interface OnTrackerEditedEventObserver {
+    /**
+     * Called when a command has added, edited, or deleted modules, lectures, or videos.
+     *
+     * @param batch The events triggered by the command, grouped by the list that they affect.
+     */
+    void onTrackerEdited(TrackerEventBatch batch);
+}
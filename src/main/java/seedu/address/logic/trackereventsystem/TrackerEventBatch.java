@@ -0,0 +1,226 @@
+package seedu.address.logic.trackereventsystem;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.lecture.LectureName;
+import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.video.Video;
+
+/**
+ * The events triggered by a single command, grouped by the list that they affect.<p>
+ *
+ * Module events affect the module list, lecture events affect the lecture list of their module, and video events
+ * affect the video list of their lecture. An observer that refreshes a list can look up the events of that list, and
+ * refresh it once however many events affect it. Within each list, events are kept in the order they were triggered.
+ * <p>
+ * A batch is filled by the {@code TrackerEventSystem}, and is not modified after it is published.
+ */
+public class TrackerEventBatch {
+
+    private final List<ModuleEditedEvent> moduleEvents = new ArrayList<>();
+    private final List<LectureEditedEvent> lectureEvents = new ArrayList<>();
+    private final List<VideoEditedEvent> videoEvents = new ArrayList<>();
+    private final Map<ModuleCode, List<LectureEditedEvent>> lectureEventsByModule = new HashMap<>();
+    private final Map<ModuleCode, Map<LectureName, List<VideoEditedEvent>>> videoEventsByLecture = new HashMap<>();
+
+    void addModuleEvent(ModuleEditedEvent event) {
+        moduleEvents.add(event);
+    }
+
+    void addLectureEvent(LectureEditedEvent event) {
+        lectureEvents.add(event);
+        lectureEventsByModule.computeIfAbsent(event.getModuleCode(), code -> new ArrayList<>()).add(event);
+    }
+
+    void addVideoEvent(VideoEditedEvent event) {
+        videoEvents.add(event);
+        videoEventsByLecture.computeIfAbsent(event.getModuleCode(), code -> new HashMap<>())
+                .computeIfAbsent(event.getLectureName(), name -> new ArrayList<>())
+                .add(event);
+    }
+
+    /**
+     * Returns true if the batch has no events.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of events in the batch.
+     */
+    public int size() {
+        return moduleEvents.size() + lectureEvents.size() + videoEvents.size();
+    }
+
+    /**
+     * Returns the events that affect the module list, in the order they were triggered.
+     */
+    public List<ModuleEditedEvent> getModuleEvents() {
+        return Collections.unmodifiableList(moduleEvents);
+    }
+
+    /**
+     * Returns the last event of the module with code {@code moduleCode} before it was edited, or null if there is
+     * none.
+     */
+    public ModuleEditedEvent getLastModuleEvent(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+
+        for (int i = moduleEvents.size() - 1; i >= 0; i--) {
+            ReadOnlyModule originalModule = moduleEvents.get(i).getOriginalModule();
+            if (originalModule != null && originalModule.getCode().equals(moduleCode)) {
+                return moduleEvents.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the events of all lectures, in the order they were triggered.
+     */
+    public List<LectureEditedEvent> getLectureEvents() {
+        return Collections.unmodifiableList(lectureEvents);
+    }
+
+    /**
+     * Returns the events that affect the lecture list of the module with code {@code moduleCode}.
+     */
+    public List<LectureEditedEvent> getLectureEvents(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return Collections.unmodifiableList(lectureEventsByModule.getOrDefault(moduleCode, List.of()));
+    }
+
+    /**
+     * Returns the events of all videos, in the order they were triggered.
+     */
+    public List<VideoEditedEvent> getVideoEvents() {
+        return Collections.unmodifiableList(videoEvents);
+    }
+
+    /**
+     * Returns the events that affect the video list of the lecture with name {@code lectureName} in the module with
+     * code {@code moduleCode}.
+     */
+    public List<VideoEditedEvent> getVideoEvents(ModuleCode moduleCode, LectureName lectureName) {
+        requireNonNull(moduleCode);
+        requireNonNull(lectureName);
+        return Collections.unmodifiableList(videoEventsByLecture.getOrDefault(moduleCode, Map.of())
+                .getOrDefault(lectureName, List.of()));
+    }
+
+    /**
+     * An event triggered when a module is added, edited, or deleted.
+     */
+    public static class ModuleEditedEvent {
+        private final ReadOnlyModule originalModule;
+        private final ReadOnlyModule editedModule;
+
+        /**
+         * Constructs a {@code ModuleEditedEvent}.
+         *
+         * @param originalModule The original module. {@code null} if the module was added.
+         * @param editedModule The edited module. {@code null} if the module was deleted.
+         */
+        public ModuleEditedEvent(ReadOnlyModule originalModule, ReadOnlyModule editedModule) {
+            this.originalModule = originalModule;
+            this.editedModule = editedModule;
+        }
+
+        public ReadOnlyModule getOriginalModule() {
+            return originalModule;
+        }
+
+        public ReadOnlyModule getEditedModule() {
+            return editedModule;
+        }
+    }
+
+    /**
+     * An event triggered when a lecture is added, edited, or deleted.
+     */
+    public static class LectureEditedEvent {
+        private final ModuleCode moduleCode;
+        private final ReadOnlyLecture originalLecture;
+        private final ReadOnlyLecture editedLecture;
+
+        /**
+         * Constructs a {@code LectureEditedEvent}.
+         *
+         * @param moduleCode The code of the module that the lecture belongs to.
+         * @param originalLecture The original lecture. {@code null} if the lecture was added.
+         * @param editedLecture The edited lecture. {@code null} if the lecture was deleted.
+         */
+        public LectureEditedEvent(ModuleCode moduleCode, ReadOnlyLecture originalLecture,
+                ReadOnlyLecture editedLecture) {
+            requireNonNull(moduleCode);
+            this.moduleCode = moduleCode;
+            this.originalLecture = originalLecture;
+            this.editedLecture = editedLecture;
+        }
+
+        public ModuleCode getModuleCode() {
+            return moduleCode;
+        }
+
+        public ReadOnlyLecture getOriginalLecture() {
+            return originalLecture;
+        }
+
+        public ReadOnlyLecture getEditedLecture() {
+            return editedLecture;
+        }
+    }
+
+    /**
+     * An event triggered when a video is added, edited, or deleted.
+     */
+    public static class VideoEditedEvent {
+        private final ModuleCode moduleCode;
+        private final LectureName lectureName;
+        private final Video originalVideo;
+        private final Video editedVideo;
+
+        /**
+         * Constructs a {@code VideoEditedEvent}.
+         *
+         * @param moduleCode The code of the module that the lecture with name {@code lectureName} belongs to.
+         * @param lectureName The name of the lecture that the video belongs to.
+         * @param originalVideo The original video. {@code null} if the video was added.
+         * @param editedVideo The edited video. {@code null} if the video was deleted.
+         */
+        public VideoEditedEvent(ModuleCode moduleCode, LectureName lectureName, Video originalVideo,
+                Video editedVideo) {
+            requireNonNull(moduleCode);
+            requireNonNull(lectureName);
+            this.moduleCode = moduleCode;
+            this.lectureName = lectureName;
+            this.originalVideo = originalVideo;
+            this.editedVideo = editedVideo;
+        }
+
+        public ModuleCode getModuleCode() {
+            return moduleCode;
+        }
+
+        public LectureName getLectureName() {
+            return lectureName;
+        }
+
+        public Video getOriginalVideo() {
+            return originalVideo;
+        }
+
+        public Video getEditedVideo() {
+            return editedVideo;
+        }
+    }
+}
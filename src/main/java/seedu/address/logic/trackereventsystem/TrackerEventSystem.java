@@ -1,30 +1,56 @@
 package seedu.address.logic.trackereventsystem;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.RateLimitedLogger;
+import seedu.address.logic.trackereventsystem.TrackerEventBatch.LectureEditedEvent;
+import seedu.address.logic.trackereventsystem.TrackerEventBatch.ModuleEditedEvent;
+import seedu.address.logic.trackereventsystem.TrackerEventBatch.VideoEditedEvent;
 import seedu.address.model.lecture.LectureName;
 import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ReadOnlyModule;
 import seedu.address.model.video.Video;
 
-// TODO: Test this
 /**
- * An event system that is triggered when a command makes modifications to the {@code Tracker}.
+ * An event system that is triggered when a command makes modifications to the {@code Tracker}.<p>
+ *
+ * Observers are registered once, and are kept until they are removed. The events triggered by a command are collected
+ * into a {@link TrackerEventBatch}, which is delivered when {@link #publishEvents()} is called after the command. The
+ * observers of the "on module edited", "on lecture edited" and "on video edited" events are called synchronously for
+ * each event, in the order the events were triggered. The observers of the "on tracker edited" event are called once
+ * with the whole batch, so that an observer that refreshes a list refreshes it once however many events affect it.
+ * They are called through the executor they were registered with, which may call them asynchronously so that a
+ * slow observer does not delay the command.
  */
 public class TrackerEventSystem {
 
+    /** Number of events logged per second, so that a command that modifies many entities does not flood the log. */
+    private static final int MAX_LOGGED_EVENTS_PER_SECOND = 20;
+
     private final Logger logger = LogsCenter.getLogger(getClass());
+    private final RateLimitedLogger eventLogger = new RateLimitedLogger(logger, MAX_LOGGED_EVENTS_PER_SECOND,
+            Duration.ofSeconds(1));
 
     private final List<OnModuleEditedEventObserver> onModuleEditedEventObservers = new ArrayList<>();
     private final List<OnLectureEditedEventObserver> onLectureEditedEventObservers = new ArrayList<>();
     private final List<OnVideoEditedEventObserver> onVideoEditedEventObservers = new ArrayList<>();
+    private final Map<OnTrackerEditedEventObserver, Executor> onTrackerEditedEventObservers = new LinkedHashMap<>();
+
+    private TrackerEventBatch pendingBatch = new TrackerEventBatch();
 
     /**
      * Add observer(s) to the "on module edited" event which is triggered when a module is added, edited, or
@@ -34,7 +60,7 @@ public class TrackerEventSystem {
      */
     public void addOnModuleModifiedObserver(OnModuleEditedEventObserver... observer) {
         requireNonNull(observer);
-        onModuleEditedEventObservers.addAll(Arrays.asList(observer));
+        addAbsent(onModuleEditedEventObservers, observer);
     }
 
     /**
@@ -45,7 +71,7 @@ public class TrackerEventSystem {
      */
     public void addOnLectureModifiedObserver(OnLectureEditedEventObserver... observer) {
         requireNonNull(observer);
-        onLectureEditedEventObservers.addAll(Arrays.asList(observer));
+        addAbsent(onLectureEditedEventObservers, observer);
     }
 
     /**
@@ -56,7 +82,30 @@ public class TrackerEventSystem {
      */
     public void addOnVideoModifiedObserver(OnVideoEditedEventObserver observer) {
         requireNonNull(observer);
-        onVideoEditedEventObservers.add(observer);
+        addAbsent(onVideoEditedEventObservers, observer);
+    }
+
+    /**
+     * Adds an observer to the "on tracker edited" event which is triggered once for all the modifications made by a
+     * command. The observer is called synchronously when the events are published.
+     *
+     * @param observer The observer to be added.
+     */
+    public void addOnTrackerEditedObserver(OnTrackerEditedEventObserver observer) {
+        addOnTrackerEditedObserver(observer, Runnable::run);
+    }
+
+    /**
+     * Adds an observer to the "on tracker edited" event which is triggered once for all the modifications made by a
+     * command. The observer is called through {@code executor} when the events are published.
+     *
+     * @param observer The observer to be added.
+     * @param executor The executor to call the observer with. It should run calls one at a time in the order they
+     *                 are made, so that the observer receives the batches in order.
+     */
+    public void addOnTrackerEditedObserver(OnTrackerEditedEventObserver observer, Executor executor) {
+        requireAllNonNull(observer, executor);
+        onTrackerEditedEventObservers.put(observer, executor);
     }
 
     /**
@@ -93,7 +142,18 @@ public class TrackerEventSystem {
     }
 
     /**
-     * Triggers the "on module edited" event.<p>
+     * Removes an observer from the "on tracker edited" event which is triggered once for all the modifications made
+     * by a command.
+     *
+     * @param observer The observer to be removed.
+     */
+    public void removeOnTrackerEditedObserver(OnTrackerEditedEventObserver observer) {
+        requireNonNull(observer);
+        onTrackerEditedEventObservers.remove(observer);
+    }
+
+    /**
+     * Triggers the "on module edited" event, which is delivered when the events are published.<p>
      *
      * Should be called when a module is added, edited, or deleted.
      *
@@ -102,16 +162,14 @@ public class TrackerEventSystem {
      */
     public void triggerOnModuleEditedEvent(ReadOnlyModule originalModule, ReadOnlyModule editedModule) {
 
-        logger.info(String.format("Trigger \"on module edited\" event:\noriginal: %s\nedited: %s",
-                originalModule, editedModule));
+        eventLogger.log(Level.FINE, () -> String.format("Trigger \"on module edited\" event: original: %s, edited: %s",
+                summarize(originalModule), summarize(editedModule)));
 
-        for (OnModuleEditedEventObserver observer : onModuleEditedEventObservers) {
-            observer.onModuleEdited(originalModule, editedModule);
-        }
+        pendingBatch.addModuleEvent(new ModuleEditedEvent(originalModule, editedModule));
     }
 
     /**
-     * Triggers the "on lecture edited" event. <p>
+     * Triggers the "on lecture edited" event, which is delivered when the events are published.<p>
      *
      * Should be called when a lecture is added, edited, or deleted.
      *
@@ -122,16 +180,15 @@ public class TrackerEventSystem {
     public void triggerOnLectureEditedEvent(ModuleCode moduleCode, ReadOnlyLecture originalLecture,
             ReadOnlyLecture editedLecture) {
 
-        logger.info(String.format("Trigger \"on lecture edited\" event on module %s:\noriginal: %s\nedited: %s",
-                moduleCode, originalLecture, editedLecture));
+        eventLogger.log(Level.FINE, () -> String.format(
+                "Trigger \"on lecture edited\" event on module %s: original: %s, edited: %s",
+                moduleCode, summarize(originalLecture), summarize(editedLecture)));
 
-        for (OnLectureEditedEventObserver observer : onLectureEditedEventObservers) {
-            observer.onLectureEdited(moduleCode, originalLecture, editedLecture);
-        }
+        pendingBatch.addLectureEvent(new LectureEditedEvent(moduleCode, originalLecture, editedLecture));
     }
 
     /**
-     * Triggers the "on video edited" event. <p>
+     * Triggers the "on video edited" event, which is delivered when the events are published.<p>
      *
      * Should be called when a video is added, edited, or deleted.
      *
@@ -143,13 +200,83 @@ public class TrackerEventSystem {
     public void triggerOnVideoEditedEvent(ModuleCode moduleCode, LectureName lectureName, Video originalVideo,
             Video editedVideo) {
 
-        logger.info(String.format("Trigger \"on video edited\" event on module %s lecture %s:"
-                + "\noriginal: %s\nedited: %s",
+        eventLogger.log(Level.FINE, () -> String.format(
+                "Trigger \"on video edited\" event on module %s lecture %s: original: %s, edited: %s",
                 moduleCode, lectureName, originalVideo, editedVideo));
 
-        for (OnVideoEditedEventObserver observer : onVideoEditedEventObservers) {
-            observer.onVideoEdited(moduleCode, lectureName, originalVideo, editedVideo);
+        pendingBatch.addVideoEvent(new VideoEditedEvent(moduleCode, lectureName, originalVideo, editedVideo));
+    }
+
+    /**
+     * Delivers the events triggered since the events were last published to the observers.<p>
+     *
+     * Should be called once after each command. The events are taken before they are delivered, so that they are
+     * not delivered again if an observer throws.
+     */
+    public void publishEvents() {
+        TrackerEventBatch batch = pendingBatch;
+        pendingBatch = new TrackerEventBatch();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        for (ModuleEditedEvent event : batch.getModuleEvents()) {
+            for (OnModuleEditedEventObserver observer : onModuleEditedEventObservers) {
+                observer.onModuleEdited(event.getOriginalModule(), event.getEditedModule());
+            }
+        }
+        for (LectureEditedEvent event : batch.getLectureEvents()) {
+            for (OnLectureEditedEventObserver observer : onLectureEditedEventObservers) {
+                observer.onLectureEdited(event.getModuleCode(), event.getOriginalLecture(), event.getEditedLecture());
+            }
+        }
+        for (VideoEditedEvent event : batch.getVideoEvents()) {
+            for (OnVideoEditedEventObserver observer : onVideoEditedEventObservers) {
+                observer.onVideoEdited(event.getModuleCode(), event.getLectureName(), event.getOriginalVideo(),
+                        event.getEditedVideo());
+            }
+        }
+
+        onTrackerEditedEventObservers.forEach((observer, executor) ->
+                executor.execute(() -> observer.onTrackerEdited(batch)));
+    }
+
+    /**
+     * Adds each of {@code observers} to {@code registeredObservers} unless it is already registered, so that an
+     * observer is never called twice for the same event.
+     */
+    @SafeVarargs
+    private static <T> void addAbsent(List<T> registeredObservers, T... observers) {
+        for (T observer : observers) {
+            requireNonNull(observer);
+            if (!registeredObservers.contains(observer)) {
+                registeredObservers.add(observer);
+            }
+        }
+    }
+
+    /**
+     * Returns a summary of {@code module} for logging, which does not include its lectures, so that it is cheap to
+     * build and does not load the lectures.
+     */
+    private static String summarize(ReadOnlyModule module) {
+        if (module == null) {
+            return "none";
+        }
+        if (module instanceof Module && !((Module) module).isLecturesLoaded()) {
+            return module.getCode() + " (lectures not loaded)";
+        }
+        return module.getCode() + " (" + module.getLectureList().size() + " lecture(s))";
+    }
+
+    /**
+     * Returns a summary of {@code lecture} for logging, which does not include its videos.
+     */
+    private static String summarize(ReadOnlyLecture lecture) {
+        if (lecture == null) {
+            return "none";
         }
+        return lecture.getName() + " (" + lecture.getVideoList().size() + " video(s))";
     }
 
 }
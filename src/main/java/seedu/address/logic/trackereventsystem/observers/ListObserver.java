@@ -2,25 +2,26 @@ package seedu.address.logic.trackereventsystem.observers;
 
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MODULES;
 
-import seedu.address.logic.trackereventsystem.OnLectureEditedEventObserver;
-import seedu.address.logic.trackereventsystem.OnModuleEditedEventObserver;
-import seedu.address.logic.trackereventsystem.OnVideoEditedEventObserver;
+import java.util.List;
+
+import seedu.address.logic.trackereventsystem.OnTrackerEditedEventObserver;
+import seedu.address.logic.trackereventsystem.TrackerEventBatch;
+import seedu.address.logic.trackereventsystem.TrackerEventBatch.LectureEditedEvent;
+import seedu.address.logic.trackereventsystem.TrackerEventBatch.ModuleEditedEvent;
 import seedu.address.model.DisplayListLevel;
 import seedu.address.model.Model;
-import seedu.address.model.lecture.LectureName;
 import seedu.address.model.lecture.LecturePredicate;
 import seedu.address.model.lecture.ReadOnlyLecture;
-import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ReadOnlyModule;
-import seedu.address.model.video.Video;
 import seedu.address.model.video.VideoPredicate;
 
 /**
- * Represents a list observer that responds to on-module-edited, on-lecture-edited
- * and on-video-edited events.
+ * Represents a list observer that responds to on-tracker-edited events.<p>
+ *
+ * Only the list that is displayed is refreshed, and it is refreshed at most once for all the events of a command that
+ * affect it.
  */
-public class ListObserver implements
-        OnModuleEditedEventObserver, OnLectureEditedEventObserver, OnVideoEditedEventObserver {
+public class ListObserver implements OnTrackerEditedEventObserver {
 
     private final Model model;
 
@@ -29,103 +30,110 @@ public class ListObserver implements
     }
 
     @Override
-    public void onVideoEdited(ModuleCode moduleCode, LectureName lectureName, Video originalVideo, Video editedVideo) {
-        ReadOnlyModule curModule = model.getListedLecturesByModule();
-        ReadOnlyLecture curLecture = model.getListedVideosByLecture();
-        DisplayListLevel curDisplayListLevel = model.getLastListLevel();
-
-        if (isVideosAffectedByVideoEdit(curDisplayListLevel, curModule, curLecture, moduleCode, lectureName)) {
-            model.updateFilteredVideoList(new VideoPredicate(curLecture), curModule.getCode(), curLecture);
+    public void onTrackerEdited(TrackerEventBatch batch) {
+        // Each kind of event is handled with the lists as left by the previous kind, as they would be if the events
+        // were handled one at a time
+        if (!onModulesEdited(batch)) {
+            return;
         }
+        if (!onLecturesEdited(batch)) {
+            return;
+        }
+        onVideosEdited(batch);
     }
 
-    private boolean isVideosAffectedByVideoEdit(DisplayListLevel curDisplayListLevel,
-            ReadOnlyModule curModule, ReadOnlyLecture curLecture,
-            ModuleCode editedInModuleCode, LectureName editedInLectureName) {
-        return curDisplayListLevel == DisplayListLevel.VIDEO
-                && editedInModuleCode.equals(curModule.getCode())
-                && editedInLectureName.equals(curLecture.getName());
-    }
+    /**
+     * Refreshes the displayed list if it is affected by the module events in {@code batch}.
+     *
+     * @return False if the displayed list was hidden, as its module was deleted. Otherwise, true.
+     */
+    private boolean onModulesEdited(TrackerEventBatch batch) {
+        if (batch.getModuleEvents().isEmpty()) {
+            return true;
+        }
 
-    @Override
-    public void onLectureEdited(ModuleCode moduleCode, ReadOnlyLecture originalLecture, ReadOnlyLecture editedLecture) {
-        ReadOnlyModule curModule = model.getListedLecturesByModule();
-        ReadOnlyLecture curLecture = model.getListedVideosByLecture();
         DisplayListLevel curDisplayListLevel = model.getLastListLevel();
 
-        if (isLecturesAffectedByLectureEdit(curDisplayListLevel, curModule, originalLecture, moduleCode)) {
-            model.updateFilteredLectureList(new LecturePredicate(curModule), curModule);
+        if (curDisplayListLevel == DisplayListLevel.MODULE) {
+            model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+            return true;
         }
 
-        if (isVideosAffectedByLectureEdit(curDisplayListLevel, curModule, curLecture, originalLecture, moduleCode)) {
-            if (editedLecture == null) { // Lecture is deleted
-                model.updateAllFilteredListAsHidden();
-                return;
-            }
-            model.updateFilteredVideoList(new VideoPredicate(curLecture), curModule.getCode(), curLecture);
+        ReadOnlyModule curModule = model.getListedLecturesByModule();
+        ModuleEditedEvent event = batch.getLastModuleEvent(curModule.getCode());
+        if (event == null) {
+            return true;
         }
-    }
 
-    private boolean isLecturesAffectedByLectureEdit(DisplayListLevel curDisplayListLevel,
-            ReadOnlyModule curModule, ReadOnlyLecture curLecture,
-            ModuleCode editedInModuleCode) {
-        return curDisplayListLevel == DisplayListLevel.LECTURE
-                && editedInModuleCode.equals(curModule.getCode());
-    }
+        ReadOnlyModule editedModule = event.getEditedModule();
+        if (editedModule == null) { // Module is deleted
+            model.updateAllFilteredListAsHidden();
+            return false;
+        }
 
-    private boolean isVideosAffectedByLectureEdit(DisplayListLevel curDisplayListLevel,
-            ReadOnlyModule curModule, ReadOnlyLecture curLecture,
-            ReadOnlyLecture originalLecture, ModuleCode editedInModuleCode) {
-        return curDisplayListLevel == DisplayListLevel.VIDEO
-                && editedInModuleCode.equals(curModule.getCode())
-                && originalLecture != null
-                && originalLecture.equals(curLecture);
+        if (curDisplayListLevel == DisplayListLevel.LECTURE) {
+            model.updateFilteredLectureList(new LecturePredicate(editedModule), editedModule);
+        } else if (curDisplayListLevel == DisplayListLevel.VIDEO) {
+            ReadOnlyLecture curLecture = model.getListedVideosByLecture();
+            ReadOnlyLecture editedLecture = editedModule.getLecture(curLecture.getName());
+            model.updateFilteredVideoList(new VideoPredicate(editedLecture), editedModule.getCode(), editedLecture);
+        }
+        return true;
     }
 
-    @Override
-    public void onModuleEdited(ReadOnlyModule originalModule, ReadOnlyModule editedModule) {
-        ReadOnlyModule curModule = model.getListedLecturesByModule();
-        ReadOnlyLecture curLecture = model.getListedVideosByLecture();
+    /**
+     * Refreshes the displayed list if it is affected by the lecture events in {@code batch}.
+     *
+     * @return False if the displayed list was hidden, as its lecture was deleted. Otherwise, true.
+     */
+    private boolean onLecturesEdited(TrackerEventBatch batch) {
         DisplayListLevel curDisplayListLevel = model.getLastListLevel();
+        if (curDisplayListLevel == DisplayListLevel.MODULE) {
+            return true;
+        }
 
-        if (isModulesAffectedByModuleEdit(curDisplayListLevel)) {
-            model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+        ReadOnlyModule curModule = model.getListedLecturesByModule();
+        List<LectureEditedEvent> events = batch.getLectureEvents(curModule.getCode());
+        if (events.isEmpty()) {
+            return true;
         }
 
-        if (isLecturesAffectedByModuleEdit(curDisplayListLevel, curModule, originalModule)) {
-            if (editedModule == null) { // Module is deleted
-                model.updateAllFilteredListAsHidden();
-                return;
-            }
-            model.updateFilteredLectureList(new LecturePredicate(editedModule), editedModule);
+        if (curDisplayListLevel == DisplayListLevel.LECTURE) {
+            model.updateFilteredLectureList(new LecturePredicate(curModule), curModule);
+            return true;
         }
 
-        if (isVideosAffectedByModuleEdit(curDisplayListLevel, curModule, originalModule)) {
-            if (editedModule == null) { // Module is deleted
-                model.updateAllFilteredListAsHidden();
-                return;
+        ReadOnlyLecture curLecture = model.getListedVideosByLecture();
+        LectureEditedEvent lastEvent = null;
+        for (LectureEditedEvent event : events) {
+            if (curLecture.equals(event.getOriginalLecture())) {
+                lastEvent = event;
             }
-
-            ReadOnlyLecture editedLecture = editedModule.getLecture(curLecture.getName());
-            model.updateFilteredVideoList(new VideoPredicate(editedLecture), editedModule.getCode(), editedLecture);
         }
-    }
+        if (lastEvent == null) {
+            return true;
+        }
 
-    private boolean isModulesAffectedByModuleEdit(DisplayListLevel curDisplayListLevel) {
-        return curDisplayListLevel == DisplayListLevel.MODULE;
+        if (lastEvent.getEditedLecture() == null) { // Lecture is deleted
+            model.updateAllFilteredListAsHidden();
+            return false;
+        }
+        model.updateFilteredVideoList(new VideoPredicate(curLecture), curModule.getCode(), curLecture);
+        return true;
     }
 
-    private boolean isLecturesAffectedByModuleEdit(DisplayListLevel curDisplayListLevel,
-            ReadOnlyModule curModule, ReadOnlyModule originalModule) {
-        return curDisplayListLevel == DisplayListLevel.LECTURE
-                && originalModule != null
-                && curModule.getCode().equals(originalModule.getCode());
-    }
+    /**
+     * Refreshes the displayed list if it is affected by the video events in {@code batch}.
+     */
+    private void onVideosEdited(TrackerEventBatch batch) {
+        if (model.getLastListLevel() != DisplayListLevel.VIDEO) {
+            return;
+        }
 
-    private boolean isVideosAffectedByModuleEdit(DisplayListLevel curDisplayListLevel,
-            ReadOnlyModule curModule, ReadOnlyModule originalModule) {
-        return curDisplayListLevel == DisplayListLevel.VIDEO
-                && originalModule != null
-                && curModule.getCode().equals(originalModule.getCode());
+        ReadOnlyModule curModule = model.getListedLecturesByModule();
+        ReadOnlyLecture curLecture = model.getListedVideosByLecture();
+        if (!batch.getVideoEvents(curModule.getCode(), curLecture.getName()).isEmpty()) {
+            model.updateFilteredVideoList(new VideoPredicate(curLecture), curModule.getCode(), curLecture);
+        }
     }
 }
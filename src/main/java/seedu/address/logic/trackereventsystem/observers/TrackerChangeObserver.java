@@ -0,0 +1,50 @@
+package seedu.address.logic.trackereventsystem.observers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.trackereventsystem.OnLectureEditedEventObserver;
+import seedu.address.logic.trackereventsystem.OnModuleEditedEventObserver;
+import seedu.address.logic.trackereventsystem.OnVideoEditedEventObserver;
+import seedu.address.model.lecture.LectureName;
+import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.video.Video;
+import seedu.address.storage.JsonAdaptedTrackerChange;
+
+/**
+ * Represents an observer that records on-module-edited, on-lecture-edited and on-video-edited events as changes to
+ * be saved to the storage, so that the storage only has to save the modules that were changed.
+ */
+public class TrackerChangeObserver implements
+        OnModuleEditedEventObserver, OnLectureEditedEventObserver, OnVideoEditedEventObserver {
+
+    private final List<JsonAdaptedTrackerChange> changes = new ArrayList<>();
+
+    @Override
+    public void onModuleEdited(ReadOnlyModule originalModule, ReadOnlyModule editedModule) {
+        changes.add(new JsonAdaptedTrackerChange(originalModule, editedModule));
+    }
+
+    @Override
+    public void onLectureEdited(ModuleCode moduleCode, ReadOnlyLecture originalLecture, ReadOnlyLecture editedLecture) {
+        changes.add(new JsonAdaptedTrackerChange(moduleCode, originalLecture, editedLecture));
+    }
+
+    @Override
+    public void onVideoEdited(ModuleCode moduleCode, LectureName lectureName, Video originalVideo, Video editedVideo) {
+        changes.add(new JsonAdaptedTrackerChange(moduleCode, lectureName, originalVideo, editedVideo));
+    }
+
+    /**
+     * Returns the changes recorded since the last call, in the order they were made, and stops recording them.
+     *
+     * @return The recorded changes.
+     */
+    public List<JsonAdaptedTrackerChange> takeChanges() {
+        List<JsonAdaptedTrackerChange> recordedChanges = new ArrayList<>(changes);
+        changes.clear();
+        return recordedChanges;
+    }
+}
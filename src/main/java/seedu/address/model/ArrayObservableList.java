@@ -0,0 +1,39 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@code GroupableObservableList} that stores its items in an {@code ArrayList}.
+ *
+ * @param <E> The type of the items in the list.
+ */
+class ArrayObservableList<E> extends GroupableObservableList<E> {
+
+    private final List<E> items = new ArrayList<>();
+
+    @Override
+    public E get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E item) {
+        items.add(index, item);
+    }
+
+    @Override
+    protected E doSet(int index, E item) {
+        return items.set(index, item);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return items.remove(index);
+    }
+}
@@ -0,0 +1,252 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import seedu.address.model.exceptions.DataNotFoundException;
+import seedu.address.model.exceptions.DuplicateDataException;
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.lecture.exceptions.DuplicateLectureException;
+import seedu.address.model.lecture.exceptions.LectureNotFoundException;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.module.exceptions.DuplicateModuleException;
+import seedu.address.model.module.exceptions.ModuleNotFoundException;
+import seedu.address.model.video.Video;
+import seedu.address.model.video.exceptions.DuplicateVideoException;
+import seedu.address.model.video.exceptions.VideoNotFoundException;
+
+/**
+ * A unit of work that stages changes to the modules, lectures and videos of a tracker, so that they can be applied
+ * together through {@link Model#batch(Batch)}.<p>
+ *
+ * Changes are grouped by the list that they change. When the batch is applied, all changes are validated first, and
+ * then each list is changed in a single pass. As such, listeners of a list are notified once regardless of the number
+ * of changes made to it, and either all changes are applied or none is.<p>
+ *
+ * Changes to videos are applied before changes to lectures, which are applied before changes to modules. A replaced
+ * lecture or module therefore does not receive the changes staged against its children.
+ */
+public class Batch {
+
+    private final Map<ReadOnlyLecture, Changes<Video, Video>> videoChanges = new IdentityHashMap<>();
+    private final Map<ReadOnlyModule, Changes<ReadOnlyLecture, Lecture>> lectureChanges = new IdentityHashMap<>();
+    private final Changes<ReadOnlyModule, Module> moduleChanges = new Changes<>();
+
+    // The staged changes in the order they were staged, for models that apply them one at a time
+    private final List<Consumer<Model>> operations = new ArrayList<>();
+
+    /**
+     * Stages the addition of {@code module} to the tracker.
+     *
+     * @param module The module to add.
+     */
+    public void addModule(Module module) {
+        requireNonNull(module);
+        moduleChanges.toAdd.add(module);
+        operations.add(model -> model.addModule(module));
+    }
+
+    /**
+     * Stages the replacement of {@code target} with {@code editedModule} in the tracker.
+     *
+     * @param target The module to be replaced.
+     * @param editedModule The module that will replace.
+     */
+    public void setModule(ReadOnlyModule target, Module editedModule) {
+        requireAllNonNull(target, editedModule);
+        moduleChanges.toRemove.add(target);
+        moduleChanges.toAdd.add(editedModule);
+        operations.add(model -> model.setModule(target, editedModule));
+    }
+
+    /**
+     * Stages the removal of {@code target} from the tracker.
+     *
+     * @param target The module to be removed.
+     */
+    public void deleteModule(ReadOnlyModule target) {
+        requireNonNull(target);
+        moduleChanges.toRemove.add(target);
+        operations.add(model -> model.deleteModule(target));
+    }
+
+    /**
+     * Stages the addition of {@code lecture} to {@code module}.
+     *
+     * @param module The module to add the lecture to.
+     * @param lecture The lecture to add.
+     */
+    public void addLecture(ReadOnlyModule module, Lecture lecture) {
+        requireAllNonNull(module, lecture);
+        lectureChanges.computeIfAbsent(module, m -> new Changes<>()).toAdd.add(lecture);
+        operations.add(model -> model.addLecture(module, lecture));
+    }
+
+    /**
+     * Stages the replacement of {@code target} with {@code editedLecture} in {@code module}.
+     *
+     * @param module The module containing the lecture.
+     * @param target The lecture to be replaced.
+     * @param editedLecture The lecture that will replace.
+     */
+    public void setLecture(ReadOnlyModule module, ReadOnlyLecture target, Lecture editedLecture) {
+        requireAllNonNull(module, target, editedLecture);
+        Changes<ReadOnlyLecture, Lecture> changes = lectureChanges.computeIfAbsent(module, m -> new Changes<>());
+        changes.toRemove.add(target);
+        changes.toAdd.add(editedLecture);
+        operations.add(model -> model.setLecture(module, target, editedLecture));
+    }
+
+    /**
+     * Stages the removal of {@code target} from {@code module}.
+     *
+     * @param module The module containing the lecture.
+     * @param target The lecture to be removed.
+     */
+    public void deleteLecture(ReadOnlyModule module, ReadOnlyLecture target) {
+        requireAllNonNull(module, target);
+        lectureChanges.computeIfAbsent(module, m -> new Changes<>()).toRemove.add(target);
+        operations.add(model -> model.deleteLecture(module, target));
+    }
+
+    /**
+     * Stages the addition of {@code video} to {@code lecture}.
+     *
+     * @param lecture The lecture to add the video to.
+     * @param video The video to add.
+     */
+    public void addVideo(ReadOnlyLecture lecture, Video video) {
+        requireAllNonNull(lecture, video);
+        videoChanges.computeIfAbsent(lecture, l -> new Changes<>()).toAdd.add(video);
+        operations.add(model -> model.addVideo(lecture, video));
+    }
+
+    /**
+     * Stages the replacement of {@code target} with {@code editedVideo} in {@code lecture}.
+     *
+     * @param lecture The lecture containing the video.
+     * @param target The video to be replaced.
+     * @param editedVideo The video that will replace.
+     */
+    public void setVideo(ReadOnlyLecture lecture, Video target, Video editedVideo) {
+        requireAllNonNull(lecture, target, editedVideo);
+        Changes<Video, Video> changes = videoChanges.computeIfAbsent(lecture, l -> new Changes<>());
+        changes.toRemove.add(target);
+        changes.toAdd.add(editedVideo);
+        operations.add(model -> model.setVideo(lecture, target, editedVideo));
+    }
+
+    /**
+     * Stages the removal of {@code video} from {@code lecture}.
+     *
+     * @param lecture The lecture containing the video.
+     * @param video The video to be removed.
+     */
+    public void deleteVideo(ReadOnlyLecture lecture, Video video) {
+        requireAllNonNull(lecture, video);
+        videoChanges.computeIfAbsent(lecture, l -> new Changes<>()).toRemove.add(video);
+        operations.add(model -> model.deleteVideo(lecture, video));
+    }
+
+    /**
+     * Returns true if no changes have been staged.
+     *
+     * @return True if no changes have been staged. Otherwise, false.
+     */
+    public boolean isEmpty() {
+        return videoChanges.isEmpty() && lectureChanges.isEmpty() && moduleChanges.isEmpty();
+    }
+
+    /**
+     * Validates and applies the staged changes to {@code tracker}.
+     *
+     * @param tracker The tracker containing the modules, lectures and videos that the changes are staged against.
+     * @throws DataNotFoundException Indicates that a module, lecture or video to be removed does not exist.
+     * @throws DuplicateDataException Indicates that a module, lecture or video to be added is the same as another.
+     */
+    void applyTo(Tracker tracker) {
+        requireNonNull(tracker);
+
+        videoChanges.forEach((lecture, changes) -> changes.validate(Video::getName, lecture::getVideo,
+                DuplicateVideoException::new, VideoNotFoundException::new));
+        lectureChanges.forEach((module, changes) -> changes.validate(ReadOnlyLecture::getName, module::getLecture,
+                DuplicateLectureException::new, LectureNotFoundException::new));
+        moduleChanges.validate(ReadOnlyModule::getCode, tracker::getModule,
+                DuplicateModuleException::new, ModuleNotFoundException::new);
+
+        videoChanges.forEach((lecture, changes) -> {
+            Lecture lectureToChange = (Lecture) lecture;
+            lectureToChange.applyVideoChanges(changes.toRemove, changes.toAdd);
+        });
+        lectureChanges.forEach((module, changes) -> {
+            Module moduleToChange = (Module) module;
+            moduleToChange.applyLectureChanges(changes.toRemove, changes.toAdd);
+        });
+        if (!moduleChanges.isEmpty()) {
+            tracker.applyModuleChanges(moduleChanges.toRemove, moduleChanges.toAdd);
+        }
+    }
+
+    /**
+     * Applies the staged changes to {@code model} one at a time, in the order they were staged, through the individual
+     * mutation methods of {@code model}.
+     *
+     * @param model The model to apply the changes to.
+     */
+    void applyIndividually(Model model) {
+        requireNonNull(model);
+        operations.forEach(operation -> operation.accept(model));
+    }
+
+    /**
+     * The changes staged against a single list.
+     *
+     * @param <R> The type of the data to be removed.
+     * @param <A> The type of the data to be added.
+     */
+    private static class Changes<R, A extends R> {
+
+        private final List<R> toRemove = new ArrayList<>();
+        private final List<A> toAdd = new ArrayList<>();
+
+        boolean isEmpty() {
+            return toRemove.isEmpty() && toAdd.isEmpty();
+        }
+
+        /**
+         * Checks that the data to be removed exist, and that the data to be added are unique after the removals.
+         */
+        <K> void validate(Function<? super R, ? extends K> keyExtractor, Function<? super K, ? extends R> lookup,
+                Supplier<? extends DuplicateDataException> duplicateExceptionCreator,
+                Supplier<? extends DataNotFoundException> notFoundExceptionCreator) {
+
+            Set<K> removedKeys = new HashSet<>();
+            for (R data : toRemove) {
+                K key = keyExtractor.apply(data);
+                if (!removedKeys.add(key) || !data.equals(lookup.apply(key))) {
+                    throw notFoundExceptionCreator.get();
+                }
+            }
+
+            Set<K> addedKeys = new HashSet<>();
+            for (A data : toAdd) {
+                K key = keyExtractor.apply(data);
+                if (!addedKeys.add(key) || (!removedKeys.contains(key) && lookup.apply(key) != null)) {
+                    throw duplicateExceptionCreator.get();
+                }
+            }
+        }
+    }
+}
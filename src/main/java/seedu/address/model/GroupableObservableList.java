@@ -0,0 +1,34 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * A modifiable observable list whose modifications can be grouped, so that its listeners are notified of them as a
+ * single change.<p>
+ *
+ * The change still describes each modification at its own position, so that views of the list only update the items
+ * that were modified.
+ *
+ * @param <E> The type of the items in the list.
+ */
+public abstract class GroupableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    /**
+     * Runs {@code modifications}, which modify this list, and notifies the listeners of the list of all of them as a
+     * single change once they are done.
+     *
+     * @param modifications The modifications to this list.
+     */
+    public void groupChanges(Runnable modifications) {
+        requireNonNull(modifications);
+
+        beginChange();
+        try {
+            modifications.run();
+        } finally {
+            endChange();
+        }
+    }
+}
@@ -121,7 +121,7 @@ public interface Model {
      * @param moduleCode The code of the module to be returned.
      * @return The module whose module code is the same as {@code moduleCode}. If no such module exist, return null.
      */
-    ReadOnlyModule getModule(ModuleCode moduleCode);
+    Module getModule(ModuleCode moduleCode);
 
     /**
      * Removes the given module {@code target} from the tracker.
@@ -169,7 +169,7 @@ public interface Model {
      * @return The lecture with name {@code lectureName} found in module of code {@code moduleCode}. If the no such
      *         module or lecture exist, returns null.
      */
-    ReadOnlyLecture getLecture(ModuleCode moduleCode, LectureName lectureName);
+    Lecture getLecture(ModuleCode moduleCode, LectureName lectureName);
 
     /**
      * Deletes the given lecture {@code target} from the module {@code module}.
@@ -258,6 +258,21 @@ public interface Model {
      */
     void setVideo(ReadOnlyLecture lecture, Video target, Video editedVideo);
 
+    /**
+     * Applies the changes to modules, lectures and videos staged in {@code batch}.<p>
+     * Implementations should validate all changes before applying any of them, and change each list in a single pass
+     * so that its listeners are notified once. By default, the changes are applied one at a time, in the order they
+     * were staged, through the other mutation methods of this model.
+     *
+     * @param batch The batch of changes to apply.
+     * @throws DataNotFoundException Indicates that a module, lecture or video to be removed or replaced does not
+     *                               exist.
+     * @throws DuplicateDataException Indicates that a module, lecture or video to be added is the same as another.
+     */
+    default void batch(Batch batch) {
+        batch.applyIndividually(this);
+    }
+
     /**
      * Returns an unmodifiable view of the filtered module list.
      *
@@ -32,9 +32,14 @@ public class ModelManager implements Model {
     private final Navigation navigation;
     private ReadOnlyModule listedLecturesByModule;
     private ReadOnlyLecture listedVideosByLecture;
-    private FilteredList<? extends ReadOnlyModule> filteredModules;
-    private FilteredList<? extends ReadOnlyLecture> filteredLectures;
-    private FilteredList<? extends Video> filteredVideos;
+    // One filtered view is kept for each level, and is rebound to the list to display rather than replaced, so that
+    // the displayed lists are never rebuilt
+    private final RebindableList<ReadOnlyModule> modules = new RebindableList<>();
+    private final RebindableList<ReadOnlyLecture> lectures = new RebindableList<>();
+    private final RebindableList<Video> videos = new RebindableList<>();
+    private final FilteredList<ReadOnlyModule> filteredModules = new FilteredList<>(modules);
+    private final FilteredList<ReadOnlyLecture> filteredLectures = new FilteredList<>(lectures);
+    private final FilteredList<Video> filteredVideos = new FilteredList<>(videos);
     private DisplayListLevel lastListLevel;
 
     /**
@@ -46,12 +51,15 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyTracker tracker, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(tracker, userPrefs);
 
-        logger.fine("Initializing with tracker: " + tracker + " and user prefs " + userPrefs);
+        // The tracker is summarized, as printing it would load the lectures of every module
+        logger.fine("Initializing with tracker of " + tracker.getModuleList().size() + " module(s) and user prefs "
+                + userPrefs);
 
+        // Only the module list is copied, so modules whose lectures have not been loaded remain unloaded
         this.tracker = new Tracker(tracker);
         this.userPrefs = new UserPrefs(userPrefs);
         this.navigation = new NavigationStack();
-        filteredModules = new FilteredList<>(this.tracker.getModuleList());
+        modules.setSource(this.tracker.getModuleList());
         lastListLevel = DisplayListLevel.MODULE;
     }
 
@@ -122,7 +130,7 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public ReadOnlyModule getModule(ModuleCode moduleCode) {
+    public Module getModule(ModuleCode moduleCode) {
         return tracker.getModule(moduleCode);
     }
 
@@ -147,9 +155,8 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public ReadOnlyLecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
-        ReadOnlyModule mod = tracker.getModule(moduleCode);
-        return mod == null ? null : mod.getLecture(lectureName);
+    public Lecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
+        return tracker.getLecture(moduleCode, lectureName);
     }
 
     @Override
@@ -158,6 +165,7 @@ public class ModelManager implements Model {
         //CHECKSTYLE.OFF: SeparatorWrap
         ((Module) module).removeLecture(target);
         //CHECKSTYLE.ON: SeparatorWrap
+        tracker.markChanged();
     }
 
     @Override
@@ -166,6 +174,7 @@ public class ModelManager implements Model {
         //CHECKSTYLE.OFF: SeparatorWrap
         ((Module) module).addLecture(lecture);
         //CHECKSTYLE.ON: SeparatorWrap
+        tracker.markChanged();
     }
 
     @Override
@@ -174,6 +183,7 @@ public class ModelManager implements Model {
         //CHECKSTYLE.OFF: SeparatorWrap
         ((Module) module).setLecture(target, editedLecture);
         //CHECKSTYLE.ON: SeparatorWrap
+        tracker.markChanged();
     }
 
     @Override
@@ -183,19 +193,7 @@ public class ModelManager implements Model {
 
     @Override
     public Video getVideo(ModuleCode moduleCode, LectureName lectureName, VideoName videoName) {
-        requireAllNonNull(moduleCode, lectureName, videoName);
-
-        ReadOnlyModule mod = tracker.getModule(moduleCode);
-        if (mod == null) {
-            return null;
-        }
-
-        ReadOnlyLecture lec = mod.getLecture(lectureName);
-        if (lec == null) {
-            return null;
-        }
-
-        return lec.getVideo(videoName);
+        return tracker.getVideo(moduleCode, lectureName, videoName);
     }
 
     @Override
@@ -204,6 +202,7 @@ public class ModelManager implements Model {
         //CHECKSTYLE.OFF: SeparatorWrap
         ((Lecture) lecture).removeVideo(video);
         //CHECKSTYLE.ON: SeparatorWrap
+        tracker.markChanged();
     }
 
     @Override
@@ -212,6 +211,7 @@ public class ModelManager implements Model {
         //CHECKSTYLE.OFF: SeparatorWrap
         ((Lecture) lecture).addVideo(video);
         //CHECKSTYLE.ON: SeparatorWrap
+        tracker.markChanged();
     }
 
     @Override
@@ -220,18 +220,46 @@ public class ModelManager implements Model {
         //CHECKSTYLE.OFF: SeparatorWrap
         ((Lecture) lecture).setVideo(target, editedVideo);
         //CHECKSTYLE.ON: SeparatorWrap
+        tracker.markChanged();
+    }
+
+    @Override
+    public void batch(Batch batch) {
+        requireNonNull(batch);
+        batch.applyTo(tracker);
+        tracker.markChanged();
     }
 
     //=========== Filtered List Accessors =============================================================
 
     @Override
     public void updateAllFilteredListAsHidden() {
-        filteredModules.setPredicate(PREDICATE_HIDE_ALL_MODULES);
-        if (filteredLectures != null) {
-            filteredLectures.setPredicate(PREDICATE_HIDE_ALL_LECTURES);
+        filter(filteredModules, PREDICATE_HIDE_ALL_MODULES);
+        filter(filteredLectures, PREDICATE_HIDE_ALL_LECTURES);
+        filter(filteredVideos, PREDICATE_HIDE_ALL_VIDEOS);
+    }
+
+    /**
+     * Filters {@code filteredList} with {@code predicate}, unless it is already filtered with an equal predicate.<p>
+     * Changes to the items of the source of {@code filteredList} are applied to it as they are made, so filtering it
+     * again with an equal predicate would only display the same items again.
+     */
+    private static <T> void filter(FilteredList<T> filteredList, Predicate<? super T> predicate) {
+        if (!predicate.equals(filteredList.getPredicate())) {
+            filteredList.setPredicate(predicate);
         }
-        if (filteredVideos != null) {
-            filteredVideos.setPredicate(PREDICATE_HIDE_ALL_VIDEOS);
+    }
+
+    /**
+     * Binds {@code source} to {@code newSource}, and filters {@code filteredList} of it with {@code predicate}.
+     */
+    private static <T> void rebind(RebindableList<T> source, FilteredList<T> filteredList,
+            ObservableList<? extends T> newSource, Predicate<? super T> predicate) {
+        if (source.setSource(newSource)) {
+            // The items are different, so the predicate is applied to them even if it is equal to the previous one
+            filteredList.setPredicate(predicate);
+        } else {
+            filter(filteredList, predicate);
         }
     }
 
@@ -264,17 +292,12 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredModuleList(Predicate<? super ReadOnlyModule> predicate) {
         requireNonNull(predicate);
-        filteredModules = new FilteredList<>(this.tracker.getModuleList());
-        filteredModules.setPredicate(predicate);
+        filter(filteredModules, predicate);
         setLastListLevel(DisplayListLevel.MODULE);
 
         // Hide other list components
-        if (filteredLectures != null) {
-            filteredLectures.setPredicate(PREDICATE_HIDE_ALL_LECTURES);
-        }
-        if (filteredVideos != null) {
-            filteredVideos.setPredicate(PREDICATE_HIDE_ALL_VIDEOS);
-        }
+        filter(filteredLectures, PREDICATE_HIDE_ALL_LECTURES);
+        filter(filteredVideos, PREDICATE_HIDE_ALL_VIDEOS);
     }
 
     //=========== Filtered Lecture List Accessors =============================================================
@@ -288,15 +311,12 @@ public class ModelManager implements Model {
     public void updateFilteredLectureList(Predicate<? super ReadOnlyLecture> predicate, ReadOnlyModule module) {
         requireNonNull(predicate);
         listedLecturesByModule = module;
-        filteredLectures = new FilteredList<>(module.getLectureList());
-        filteredLectures.setPredicate(predicate);
+        rebind(lectures, filteredLectures, module.getLectureList(), predicate);
         setLastListLevel(DisplayListLevel.LECTURE);
 
         // Hide other list components
-        filteredModules.setPredicate(PREDICATE_HIDE_ALL_MODULES);
-        if (filteredVideos != null) {
-            filteredVideos.setPredicate(PREDICATE_HIDE_ALL_VIDEOS);
-        }
+        filter(filteredModules, PREDICATE_HIDE_ALL_MODULES);
+        filter(filteredVideos, PREDICATE_HIDE_ALL_VIDEOS);
     }
 
     //=========== Filtered Video List Accessors =============================================================
@@ -312,15 +332,12 @@ public class ModelManager implements Model {
         requireNonNull(predicate);
         listedLecturesByModule = this.tracker.getModule(moduleCode);
         listedVideosByLecture = lecture;
-        filteredVideos = new FilteredList<>(lecture.getVideoList());
-        filteredVideos.setPredicate(predicate);
+        rebind(videos, filteredVideos, lecture.getVideoList(), predicate);
         setLastListLevel(DisplayListLevel.VIDEO);
 
         // Hide other list components
-        filteredModules.setPredicate(PREDICATE_HIDE_ALL_MODULES);
-        if (filteredLectures != null) {
-            filteredLectures.setPredicate(PREDICATE_HIDE_ALL_LECTURES);
-        }
+        filter(filteredModules, PREDICATE_HIDE_ALL_MODULES);
+        filter(filteredLectures, PREDICATE_HIDE_ALL_LECTURES);
     }
 
     //=========== Navigation =================================================================================
@@ -385,12 +402,8 @@ public class ModelManager implements Model {
         boolean isNavigationEqual = navigation.equals(other.navigation);
         boolean isLastListEqual = lastListLevel.equals(other.lastListLevel);
         boolean isFilteredModulesEqual = filteredModules.equals(other.filteredModules);
-        boolean isFilteredLecturesEqual = filteredLectures == null
-                ? other.filteredLectures == null
-                : filteredLectures.equals(other.filteredLectures);
-        boolean isFilteredVideosEqual = filteredVideos == null
-                ? other.filteredVideos == null
-                : filteredVideos.equals(other.filteredVideos);
+        boolean isFilteredLecturesEqual = filteredLectures.equals(other.filteredLectures);
+        boolean isFilteredVideosEqual = filteredVideos.equals(other.filteredVideos);
         boolean isListedLecturesByModuleEqual = listedLecturesByModule == null
                 ? other.listedLecturesByModule == null
                 : listedLecturesByModule.equals(other.listedLecturesByModule);
@@ -41,4 +41,13 @@ public interface ReadOnlyTracker {
      */
     public boolean hasModule(ModuleCode moduleCode);
 
+    /**
+     * Returns the version of the data in the tracker.<p>
+     * The version changes whenever the data in the tracker is changed, so that it can be checked whether the tracker
+     * has changed since it was last saved.
+     *
+     * @return The version of the data in the tracker.
+     */
+    long getVersion();
+
 }
@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.TrackerFileFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -19,4 +20,9 @@ public interface ReadOnlyUserPrefs {
      */
     Path getTrackerFilePath();
 
+    /**
+     * Returns the format that the Tracker data is saved in.
+     */
+    TrackerFileFormat getTrackerFileFormat();
+
 }
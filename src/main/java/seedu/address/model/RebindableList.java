@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of a source list, which can be rebound to another source list.<p>
+ *
+ * Changes to the source list are forwarded to the listeners of the view as the same changes, so that a list view of it
+ * only updates the items that changed. Rebinding the view replaces all its items, but rebinding it to the list it is
+ * already bound to does nothing. The view is empty while it is not bound to a source list.
+ *
+ * @param <E> The type of the items in the view.
+ */
+class RebindableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::forwardChange;
+    private ObservableList<? extends E> source = null;
+
+    /**
+     * Binds the view to {@code newSource}, or unbinds it if {@code newSource} is null.
+     *
+     * @param newSource The new source list.
+     * @return True if the view was bound to a different list. Otherwise, false.
+     */
+    @SuppressWarnings("unchecked")
+    boolean setSource(ObservableList<? extends E> newSource) {
+        if (newSource == source) {
+            return false;
+        }
+
+        List<? extends E> oldItems = source == null ? List.of() : List.copyOf(source);
+        if (source != null) {
+            ((ObservableList<E>) source).removeListener(sourceListener);
+        }
+        source = newSource;
+        if (source != null) {
+            ((ObservableList<E>) source).addListener(sourceListener);
+        }
+
+        if (!oldItems.isEmpty() || size() > 0) {
+            beginChange();
+            nextReplace(0, size(), (List<E>) oldItems);
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public E get(int index) {
+        if (source == null) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source == null ? 0 : source.size();
+    }
+
+    private void forwardChange(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // The permutation is given for the whole list, which is valid however the range is interpreted
+                int[] permutation = new int[size()];
+                for (int i = 0; i < permutation.length; i++) {
+                    boolean isPermutated = i >= change.getFrom() && i < change.getTo();
+                    permutation[i] = isPermutated ? change.getPermutation(i) : i;
+                }
+                nextPermutation(0, permutation.length, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+}
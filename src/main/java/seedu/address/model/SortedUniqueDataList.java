@@ -1,35 +1,103 @@
 package seedu.address.model;
 
-import java.util.function.BiPredicate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.model.exceptions.DataNotFoundException;
 import seedu.address.model.exceptions.DuplicateDataException;
 
 /**
- * A {@code UniqueDataList} that is sorted in ascending order using {@code T#compareTo(T)}.
+ * A {@code UniqueDataList} that is sorted in ascending order using {@code T#compareTo(T)}.<p>
+ *
+ * The backing list itself is kept sorted, so {@code #asUnmodifiableObservableList()} always returns the same view.
+ * Positions of data being added, replaced or removed are found by binary search. Data that compare as equal are
+ * kept in the order that they were added.
  *
  * @see UniqueDataList
  */
-public class SortedUniqueDataList<T extends Comparable<T>> extends UniqueDataList<T> {
+public class SortedUniqueDataList<K, T extends Comparable<T>> extends UniqueDataList<K, T> {
+    /**
+     * Constructs a {@code SortedUniqueDataList<K, T>}.
+     *
+     * @param keyExtractor Extracts the key that identifies a data. 2 data are the same if their keys are equal.
+     * @param duplicateExceptionCreator Creates an exception to throw in the event that duplicate data is detected.
+     * @param notFoundExceptionCreator Creates an exception to throw in the event that a data is not found.
+     */
+    public SortedUniqueDataList(Function<? super T, ? extends K> keyExtractor,
+            Supplier<DuplicateDataException> duplicateExceptionCreator,
+            Supplier<DataNotFoundException> notFoundExceptionCreator) {
+
+        super(keyExtractor, duplicateExceptionCreator, notFoundExceptionCreator);
+    }
+
     /**
-     * Constructs a {@code SortedUniqueDataList<T>}.
+     * Constructs a {@code SortedUniqueDataList<K, T>} that stores its data in {@code backingList}.
      *
-     * @param isSameChecker Checks if 2 data are the same.
+     * @param backingList The empty list that the data will be stored in.
+     * @param isIndexed Whether a hash index of key to data should be kept.
+     * @param keyExtractor Extracts the key that identifies a data. 2 data are the same if their keys are equal.
      * @param duplicateExceptionCreator Creates an exception to throw in the event that duplicate data is detected.
      * @param notFoundExceptionCreator Creates an exception to throw in the event that a data is not found.
+     * @see UniqueDataList#UniqueDataList(GroupableObservableList, boolean, Function, Supplier, Supplier)
      */
-    public SortedUniqueDataList(BiPredicate<T, T> isSameChecker,
+    protected SortedUniqueDataList(GroupableObservableList<T> backingList, boolean isIndexed,
+            Function<? super T, ? extends K> keyExtractor,
             Supplier<DuplicateDataException> duplicateExceptionCreator,
             Supplier<DataNotFoundException> notFoundExceptionCreator) {
 
-        super(isSameChecker, duplicateExceptionCreator, notFoundExceptionCreator);
+        super(backingList, isIndexed, keyExtractor, duplicateExceptionCreator, notFoundExceptionCreator);
+    }
+
+    @Override
+    protected int insertionPosition(List<T> list, T toAdd) {
+        // Insert after all data that compare as equal to keep the order in which they were added
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (list.get(mid).compareTo(toAdd) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    protected int positionOf(List<T> list, T existingData) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (list.get(mid).compareTo(existingData) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        // Several data may compare as equal to existingData, so look for the exact instance among them
+        for (int i = low; i < list.size() && list.get(i).compareTo(existingData) == 0; i++) {
+            if (list.get(i) == existingData) {
+                return i;
+            }
+        }
+        return super.positionOf(list, existingData);
+    }
+
+    @Override
+    protected boolean isInPosition(List<T> list, int position, T editedData) {
+        return (position == 0 || list.get(position - 1).compareTo(editedData) <= 0)
+                && (position == list.size() - 1 || editedData.compareTo(list.get(position + 1)) <= 0);
     }
 
     @Override
-    public ObservableList<T> asUnmodifiableObservableList() {
-        return new SortedList<T>(super.asUnmodifiableObservableList(), T::compareTo);
+    protected List<T> arrange(List<T> data) {
+        List<T> sortedData = new ArrayList<>(data);
+        sortedData.sort(T::compareTo);
+        return sortedData;
     }
 }
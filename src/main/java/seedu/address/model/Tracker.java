@@ -7,12 +7,17 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.lecture.LectureName;
+import seedu.address.model.lecture.ReadOnlyLecture;
 import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ReadOnlyModule;
 import seedu.address.model.module.UniqueModuleList;
 import seedu.address.model.module.exceptions.DuplicateModuleException;
 import seedu.address.model.module.exceptions.ModuleNotFoundException;
+import seedu.address.model.video.Video;
+import seedu.address.model.video.VideoName;
 
 /**
  * Wraps all data at the tracker level.<p>
@@ -21,6 +26,8 @@ import seedu.address.model.module.exceptions.ModuleNotFoundException;
 public class Tracker implements ReadOnlyTracker {
     private final UniqueModuleList modules;
 
+    private long version = 0;
+
     /**
      * Constructs a Tracker.
      */
@@ -47,6 +54,7 @@ public class Tracker implements ReadOnlyTracker {
      */
     public void setModules(List<Module> modules) {
         this.modules.setModules(modules);
+        markChanged();
     }
 
     /**
@@ -79,14 +87,46 @@ public class Tracker implements ReadOnlyTracker {
     }
 
     @Override
-    public ReadOnlyModule getModule(ModuleCode moduleCode) {
+    public Module getModule(ModuleCode moduleCode) {
         requireNonNull(moduleCode);
 
-        return getModuleList()
-                .stream()
-                .filter((m) -> m.getCode().equals(moduleCode))
-                .findFirst()
-                .orElse(null);
+        return modules.get(moduleCode);
+    }
+
+    /**
+     * Returns the lecture with the name {@code lectureName} in the module with the code {@code moduleCode}. If
+     * no such lecture exist, return null.<p>
+     * The lookup resolves each level of the path through the key index of that level's list, so it does not
+     * scan any of the lists.
+     *
+     * @param moduleCode The code of the module containing the lecture.
+     * @param lectureName The name of the lecture to be returned.
+     * @return The lecture with the name {@code lectureName} in the module with the code {@code moduleCode}. If
+     *         no such lecture exist, return null.
+     */
+    public Lecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
+        requireAllNonNull(moduleCode, lectureName);
+
+        Module module = getModule(moduleCode);
+        return module == null ? null : module.getLecture(lectureName);
+    }
+
+    /**
+     * Returns the video with the name {@code videoName} in the lecture with the name {@code lectureName} which
+     * belongs to the module with the code {@code moduleCode}. If no such video exist, return null.<p>
+     * The lookup resolves each level of the path through the key index of that level's list, so it does not
+     * scan any of the lists.
+     *
+     * @param moduleCode The code of the module containing the video.
+     * @param lectureName The name of the lecture containing the video.
+     * @param videoName The name of the video to be returned.
+     * @return The video identified by the path. If no such video exist, return null.
+     */
+    public Video getVideo(ModuleCode moduleCode, LectureName lectureName, VideoName videoName) {
+        requireAllNonNull(moduleCode, lectureName, videoName);
+
+        ReadOnlyLecture lecture = getLecture(moduleCode, lectureName);
+        return lecture == null ? null : lecture.getVideo(videoName);
     }
 
     @Override
@@ -98,7 +138,7 @@ public class Tracker implements ReadOnlyTracker {
     @Override
     public boolean hasModule(ModuleCode moduleCode) {
         requireNonNull(moduleCode);
-        return getModule(moduleCode) != null;
+        return modules.containsKey(moduleCode);
     }
 
     /**
@@ -109,6 +149,7 @@ public class Tracker implements ReadOnlyTracker {
      */
     public void addModule(Module module) {
         modules.add(module);
+        markChanged();
     }
 
     /**
@@ -125,6 +166,7 @@ public class Tracker implements ReadOnlyTracker {
         requireAllNonNull(target, editedModule);
 
         modules.setModule((Module) target, editedModule);
+        markChanged();
     }
 
     /**
@@ -135,6 +177,41 @@ public class Tracker implements ReadOnlyTracker {
      */
     public void removeModule(ReadOnlyModule key) {
         modules.remove((Module) key);
+        markChanged();
+    }
+
+    /**
+     * Removes the modules in {@code toRemove} and adds the modules in {@code toAdd}, as a single change to the
+     * tracker's module list.<p>
+     * A module is replaced by removing it and adding its edited version. Either all changes are applied or none is.
+     *
+     * @param toRemove The modules to be removed. They must exist in the tracker.
+     * @param toAdd The modules to add. They must not have the same code as each other, or as a module that remains in
+     *              the tracker.
+     * @throws ModuleNotFoundException Indicates that a module in {@code toRemove} does not exist in the tracker.
+     * @throws DuplicateModuleException Indicates that a module in {@code toAdd} has the same code as another module.
+     */
+    public void applyModuleChanges(List<? extends ReadOnlyModule> toRemove, List<Module> toAdd) {
+        requireAllNonNull(toRemove, toAdd);
+
+        modules.applyChanges(toRemove.stream().map((m) -> (Module) m).collect(Collectors.toList()), toAdd);
+        markChanged();
+    }
+
+    //// version operations
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Records that the data in this tracker has changed.<p>
+     * Changes made through the methods of this tracker are recorded automatically. This must be called after a
+     * lecture or video of one of the modules in this tracker is changed in place.
+     */
+    public void markChanged() {
+        version++;
     }
 
     //// util methods
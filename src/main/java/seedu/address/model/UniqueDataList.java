@@ -3,9 +3,14 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.function.BiPredicate;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javafx.collections.FXCollections;
@@ -17,36 +22,72 @@ import seedu.address.model.exceptions.DuplicateDataException;
 /**
  * A list of data that enforces uniqueness between its elements and does not allow nulls.<p>
  *
- * A data is considered unique by comparing using {@code isSameChecker.test(T, T)}. As such, adding and updating of
- * data uses {@code isSameChecker.test(T, T)} for equality so as to ensure that the data being added or updated is
- * unique in the {@code UniqueDataList}.<p>
+ * A data is considered unique by comparing the keys extracted using {@code keyExtractor}. As such, adding and updating
+ * of data uses the extracted keys for equality so as to ensure that the data being added or updated is unique in the
+ * {@code UniqueDataList}.<p>
  *
  * However, the removal of a data uses {@code T#equals(Object)} so as to ensure that the data with exactly the same
  * fields will be removed.<p>
  *
+ * A hash index of key to data is maintained alongside the backing list, so that membership checks and lookups by key
+ * run in constant time. When the contents of another {@code UniqueDataList} are copied, the index is shared between
+ * both lists and is only copied by the first of them to be modified. Subclasses may store their data in another kind
+ * of backing list and look data up without the index instead.<p>
+ *
  * Supports a minimal set of list operations.
+ *
+ * @param <K> The type of the key that identifies a data. It must be immutable and properly implement
+ *            {@code Object#equals(Object)} and {@code Object#hashCode()}.
+ * @param <T> The type of the data.
  */
-public class UniqueDataList<T> implements Iterable<T> {
+public class UniqueDataList<K, T> implements Iterable<T> {
 
-    private final ObservableList<T> internalList = FXCollections.observableArrayList();
-    private final ObservableList<T> internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    private final GroupableObservableList<T> internalList;
+    private final ObservableList<T> internalUnmodifiableList;
 
-    private final BiPredicate<T, T> isSameChecker;
+    private boolean isIndexed;
+    private Map<K, T> index = new HashMap<>();
+    private boolean isIndexShared = false;
+
+    private final Function<? super T, ? extends K> keyExtractor;
     private final Supplier<DuplicateDataException> duplicateExceptionCreator;
     private final Supplier<DataNotFoundException> notFoundExceptionCreator;
 
     /**
-     * Constructs a {@code UniqueDataList<T>}.
+     * Constructs a {@code UniqueDataList<K, T>}.
+     *
+     * @param keyExtractor Extracts the key that identifies a data. 2 data are the same if their keys are equal.
+     * @param duplicateExceptionCreator Creates an exception to throw in the event that duplicate data is detected.
+     * @param notFoundExceptionCreator Creates an exception to throw in the event that a data is not found.
+     */
+    public UniqueDataList(Function<? super T, ? extends K> keyExtractor,
+            Supplier<DuplicateDataException> duplicateExceptionCreator,
+            Supplier<DataNotFoundException> notFoundExceptionCreator) {
+
+        this(new ArrayObservableList<>(), true, keyExtractor, duplicateExceptionCreator,
+                notFoundExceptionCreator);
+    }
+
+    /**
+     * Constructs a {@code UniqueDataList<K, T>} that stores its data in {@code backingList}.<p>
+     * If {@code isIndexed} is false, no hash index is kept, and data is looked up by key through
+     * {@link #findByKey(List, Object)} instead. This suits backing lists that do not keep their data as objects.
      *
-     * @param isSameChecker Checks if 2 data are the same.
+     * @param backingList The empty list that the data will be stored in.
+     * @param isIndexed Whether a hash index of key to data should be kept.
+     * @param keyExtractor Extracts the key that identifies a data. 2 data are the same if their keys are equal.
      * @param duplicateExceptionCreator Creates an exception to throw in the event that duplicate data is detected.
      * @param notFoundExceptionCreator Creates an exception to throw in the event that a data is not found.
      */
-    public UniqueDataList(BiPredicate<T, T> isSameChecker,
+    protected UniqueDataList(GroupableObservableList<T> backingList, boolean isIndexed,
+            Function<? super T, ? extends K> keyExtractor,
             Supplier<DuplicateDataException> duplicateExceptionCreator,
             Supplier<DataNotFoundException> notFoundExceptionCreator) {
 
-        this.isSameChecker = isSameChecker;
+        this.internalList = backingList;
+        this.internalUnmodifiableList = FXCollections.unmodifiableObservableList(backingList);
+        this.isIndexed = isIndexed;
+        this.keyExtractor = keyExtractor;
         this.duplicateExceptionCreator = duplicateExceptionCreator;
         this.notFoundExceptionCreator = notFoundExceptionCreator;
     }
@@ -59,7 +100,29 @@ public class UniqueDataList<T> implements Iterable<T> {
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch((data) -> isSameChecker.test(toCheck, data));
+        return containsKey(keyExtractor.apply(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains a data identified by {@code key}.
+     *
+     * @param key The key of the data to check if it is in the list.
+     * @return True if the list contains a data identified by {@code key}. Otherwise, false.
+     */
+    public boolean containsKey(K key) {
+        requireNonNull(key);
+        return isIndexed ? index.containsKey(key) : findByKey(internalUnmodifiableList, key) != null;
+    }
+
+    /**
+     * Returns the data identified by {@code key}. If no such data exist, return null.
+     *
+     * @param key The key of the data to be returned.
+     * @return The data identified by {@code key}. If no such data exist, return null.
+     */
+    public T get(K key) {
+        requireNonNull(key);
+        return isIndexed ? index.get(key) : findByKey(internalUnmodifiableList, key);
     }
 
     /**
@@ -70,10 +133,14 @@ public class UniqueDataList<T> implements Iterable<T> {
      */
     public void add(T toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        K key = keyExtractor.apply(toAdd);
+        if (containsKey(key)) {
             throw duplicateExceptionCreator.get();
         }
-        internalList.add(toAdd);
+        internalList.add(insertionPosition(internalUnmodifiableList, toAdd), toAdd);
+        if (isIndexed) {
+            ownIndex().put(key, toAdd);
+        }
     }
 
     /**
@@ -88,16 +155,29 @@ public class UniqueDataList<T> implements Iterable<T> {
     public void setData(T target, T editedData) {
         requireAllNonNull(target, editedData);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw notFoundExceptionCreator.get();
-        }
+        K targetKey = keyExtractor.apply(target);
+        T existingData = findEqual(targetKey, target);
 
-        if (!isSameChecker.test(target, editedData) && contains(editedData)) {
+        K editedKey = keyExtractor.apply(editedData);
+        boolean isSameKey = targetKey.equals(editedKey);
+        if (!isSameKey && containsKey(editedKey)) {
             throw duplicateExceptionCreator.get();
         }
 
-        internalList.set(index, editedData);
+        int position = positionOf(internalUnmodifiableList, existingData);
+        if (isInPosition(internalUnmodifiableList, position, editedData)) {
+            internalList.set(position, editedData);
+        } else {
+            internalList.remove(position);
+            internalList.add(insertionPosition(internalUnmodifiableList, editedData), editedData);
+        }
+        if (isIndexed) {
+            Map<K, T> ownedIndex = ownIndex();
+            if (!isSameKey) {
+                ownedIndex.remove(targetKey);
+            }
+            ownedIndex.put(editedKey, editedData);
+        }
     }
 
     /**
@@ -108,19 +188,95 @@ public class UniqueDataList<T> implements Iterable<T> {
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw notFoundExceptionCreator.get();
+
+        K key = keyExtractor.apply(toRemove);
+        T existingData = findEqual(key, toRemove);
+
+        internalList.remove(positionOf(internalUnmodifiableList, existingData));
+        if (isIndexed) {
+            ownIndex().remove(key);
         }
     }
 
     /**
-     * Replaces the content of this list with {@code replacement}.
+     * Removes the data equivalent to each data in {@code toRemove}, then adds each data in {@code toAdd}, as a single
+     * change to the backing list.<p>
+     * All changes are validated before any of them is applied, so either all of them are applied or none is. A data
+     * is replaced by removing it and adding its edited version. Each data is removed from and added at its own
+     * position, and listeners of the list are notified once of all of them, rather than once for each change.
+     *
+     * @param toRemove The data whose equivalents are to be removed from the list. They must exist in the list.
+     * @param toAdd The data to add. They must not be the same as each other, or as a data that remains in the list.
+     * @throws DataNotFoundException Indicates that a data in {@code toRemove} does not exist in the list.
+     * @throws DuplicateDataException Indicates that a data in {@code toAdd} already exist in the list after the
+     *                                removals, or is the same as another data in {@code toAdd}.
+     */
+    public void applyChanges(List<T> toRemove, List<T> toAdd) {
+        requireAllNonNull(toRemove, toAdd);
+
+        Set<K> removedKeys = new HashSet<>();
+        int[] removedPositions = new int[toRemove.size()];
+        for (int i = 0; i < toRemove.size(); i++) {
+            T data = toRemove.get(i);
+            K key = keyExtractor.apply(data);
+            if (!removedKeys.add(key)) {
+                throw notFoundExceptionCreator.get();
+            }
+            removedPositions[i] = positionOf(internalUnmodifiableList, findEqual(key, data));
+        }
+
+        Set<K> addedKeys = new HashSet<>();
+        for (T data : toAdd) {
+            K key = keyExtractor.apply(data);
+            if (!addedKeys.add(key) || (!removedKeys.contains(key) && containsKey(key))) {
+                throw duplicateExceptionCreator.get();
+            }
+        }
+
+        // Removing from the back keeps the positions of the data that are yet to be removed
+        Arrays.sort(removedPositions);
+        internalList.groupChanges(() -> {
+            for (int i = removedPositions.length - 1; i >= 0; i--) {
+                internalList.remove(removedPositions[i]);
+            }
+            for (T data : toAdd) {
+                internalList.add(insertionPosition(internalUnmodifiableList, data), data);
+            }
+        });
+        if (isIndexed) {
+            Map<K, T> ownedIndex = ownIndex();
+            removedKeys.forEach(ownedIndex::remove);
+            toAdd.forEach(data -> ownedIndex.put(keyExtractor.apply(data), data));
+        }
+    }
+
+    /**
+     * Replaces the content of this list with {@code replacement}.<p>
+     * As {@code replacement} is already unique, its data is not checked for duplicates again and its index is shared
+     * with this list until either list is modified. If {@code replacement} is of the same class as this list, its
+     * order is kept as is.<p>
+     * This list keeps a hash index only if {@code replacement} keeps one, so that no index is built from a list that
+     * does not keep its data as objects. Subclasses may start keeping the index again with
+     * {@link #setIndexed(boolean)}.
      *
      * @param replacement The list containing the data that will replace.
      */
-    public void setAllData(UniqueDataList<T> replacement) {
+    public void setAllData(UniqueDataList<K, T> replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+
+        isIndexed = replacement.isIndexed;
+        if (isIndexed) {
+            index = replacement.index;
+            isIndexShared = true;
+            replacement.isIndexShared = true;
+        } else {
+            index = new HashMap<>();
+            isIndexShared = false;
+        }
+
+        internalList.setAll(replacement.getClass() == getClass()
+                ? replacement.internalList
+                : arrange(replacement.internalList));
     }
 
     /**
@@ -131,11 +287,34 @@ public class UniqueDataList<T> implements Iterable<T> {
      */
     public void setAllData(List<T> data) {
         requireAllNonNull(data);
-        if (!dataAreUnique(data)) {
+
+        Map<K, T> newIndex = indexUniqueData(data);
+        if (newIndex == null) {
             throw duplicateExceptionCreator.get();
         }
 
-        internalList.setAll(data);
+        internalList.setAll(arrange(data));
+        if (isIndexed) {
+            index = newIndex;
+            isIndexShared = false;
+        }
+    }
+
+    /**
+     * Starts or stops keeping a hash index of key to data.<p>
+     * This suits backing lists that change how they keep their data as they grow and shrink. Starting to keep the index
+     * builds it from the data in the list.
+     *
+     * @param isIndexed Whether a hash index of key to data should be kept.
+     */
+    protected void setIndexed(boolean isIndexed) {
+        if (isIndexed == this.isIndexed) {
+            return;
+        }
+
+        this.isIndexed = isIndexed;
+        index = isIndexed ? indexUniqueData(internalList) : new HashMap<>();
+        isIndexShared = false;
     }
 
     /**
@@ -155,8 +334,8 @@ public class UniqueDataList<T> implements Iterable<T> {
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
-                || (other instanceof UniqueDataList<?> // instanceof handles nulls
-                        && internalList.equals(((UniqueDataList<?>) other).internalList));
+                || (other instanceof UniqueDataList<?, ?> // instanceof handles nulls
+                        && internalList.equals(((UniqueDataList<?, ?>) other).internalList));
     }
 
     @Override
@@ -164,20 +343,117 @@ public class UniqueDataList<T> implements Iterable<T> {
         return internalList.hashCode();
     }
 
+    //// lookup and positioning operations
+
     /**
-     * Returns true if {@code data} contains only unique data.
+     * Returns the data in {@code list} that is identified by {@code key}. If no such data exist, return null.<p>
+     * This is only used by lists that do not keep a hash index. By default, {@code list} is searched linearly.
      *
-     * @param data The list to be check that it's elements are unique.
-     * @return True if {@code data} contains only unique data. Otherwise, false.
+     * @param list An unmodifiable view of the backing list.
+     * @param key The key of the data to be returned.
+     * @return The data in {@code list} that is identified by {@code key}. If no such data exist, return null.
      */
-    private boolean dataAreUnique(List<T> data) {
-        for (int i = 0; i < data.size() - 1; i++) {
-            for (int j = i + 1; j < data.size(); j++) {
-                if (isSameChecker.test(data.get(i), data.get(j))) {
-                    return false;
-                }
+    protected T findByKey(List<T> list, K key) {
+        for (T data : list) {
+            if (key.equals(keyExtractor.apply(data))) {
+                return data;
             }
         }
+        return null;
+    }
+
+    /**
+     * Returns the position in {@code list} at which {@code toAdd} should be inserted.<p>
+     * By default, data is appended to the end of the list.
+     *
+     * @param list An unmodifiable view of the backing list.
+     * @param toAdd The data to be inserted.
+     * @return The position in {@code list} at which {@code toAdd} should be inserted.
+     */
+    protected int insertionPosition(List<T> list, T toAdd) {
+        return list.size();
+    }
+
+    /**
+     * Returns the position of {@code existingData} in {@code list}.
+     *
+     * @param list An unmodifiable view of the backing list.
+     * @param existingData The data whose position is to be returned. It must be an element of {@code list}.
+     * @return The position of {@code existingData} in {@code list}.
+     */
+    protected int positionOf(List<T> list, T existingData) {
+        return list.indexOf(existingData);
+    }
+
+    /**
+     * Returns true if {@code editedData} can replace the data at {@code position} in {@code list} without moving.<p>
+     * By default, data is always replaced in place.
+     *
+     * @param list An unmodifiable view of the backing list.
+     * @param position The position of the data to be replaced.
+     * @param editedData The data that will replace.
+     * @return True if {@code editedData} can replace the data at {@code position} without moving. Otherwise, false.
+     */
+    protected boolean isInPosition(List<T> list, int position, T editedData) {
         return true;
     }
+
+    /**
+     * Returns {@code data} in the order that it should be stored in the backing list.<p>
+     * By default, the order of {@code data} is kept.
+     *
+     * @param data The data that will replace the contents of the backing list.
+     * @return {@code data} in the order that it should be stored in the backing list.
+     */
+    protected List<T> arrange(List<T> data) {
+        return data;
+    }
+
+    /**
+     * Returns the index of this list, copying it first if it is shared with another list.
+     *
+     * @return An index of this list that is safe to modify.
+     */
+    private Map<K, T> ownIndex() {
+        if (isIndexShared) {
+            index = new HashMap<>(index);
+            isIndexShared = false;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the data in the list that is identified by {@code key} and is equal to {@code toFind}.
+     *
+     * @param key The key of {@code toFind}.
+     * @param toFind The data to find.
+     * @return The data in the list that is identified by {@code key} and is equal to {@code toFind}.
+     * @throws DataNotFoundException Indicates that no data in the list is equal to {@code toFind}.
+     */
+    private T findEqual(K key, T toFind) {
+        T existingData = get(key);
+        if (existingData == null || !existingData.equals(toFind)) {
+            throw notFoundExceptionCreator.get();
+        }
+        return existingData;
+    }
+
+    /**
+     * Returns a hash index of key to data for the data in {@code data}, or null if {@code data} contains duplicate
+     * data.<p>
+     * Runs in linear time with respect to the size of {@code data}.
+     *
+     * @param data The list to be indexed.
+     * @return A hash index of key to data for the data in {@code data} if it contains only unique data. Otherwise,
+     *         null.
+     */
+    private Map<K, T> indexUniqueData(List<T> data) {
+        Map<K, T> newIndex = new HashMap<>();
+        for (T d : data) {
+            if (newIndex.putIfAbsent(keyExtractor.apply(d), d) != null) {
+                return null;
+            }
+        }
+        return newIndex;
+    }
 }
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.TrackerFileFormat;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path trackerFilePath = Paths.get("data" , "letracker.json");
+    private TrackerFileFormat trackerFileFormat = TrackerFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTrackerFilePath(newUserPrefs.getTrackerFilePath());
+        setTrackerFileFormat(newUserPrefs.getTrackerFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +59,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.trackerFilePath = trackerFilePath;
     }
 
+    public TrackerFileFormat getTrackerFileFormat() {
+        return trackerFileFormat;
+    }
+
+    public void setTrackerFileFormat(TrackerFileFormat trackerFileFormat) {
+        requireNonNull(trackerFileFormat);
+        this.trackerFileFormat = trackerFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +80,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && trackerFilePath.equals(o.trackerFilePath);
+                && trackerFilePath.equals(o.trackerFilePath)
+                && trackerFileFormat == o.trackerFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, trackerFilePath);
+        return Objects.hash(guiSettings, trackerFilePath, trackerFileFormat);
     }
 
     @Override
@@ -81,6 +94,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + trackerFilePath);
+        sb.append("\nLocal data file format : " + trackerFileFormat);
         return sb.toString();
     }
 
@@ -3,14 +3,17 @@ package seedu.address.model.lecture;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.collections.ObservableList;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.video.CompactUniqueVideoList;
 import seedu.address.model.video.UniqueVideoList;
 import seedu.address.model.video.Video;
 import seedu.address.model.video.VideoName;
@@ -23,11 +26,29 @@ import seedu.address.model.video.exceptions.VideoNotFoundException;
  */
 public class Lecture implements ReadOnlyLecture, Comparable<Lecture> {
 
+    /** The number of videos from which a lecture stores its videos compactly. */
+    public static final int COMPACT_VIDEO_STORAGE_THRESHOLD = 1000;
+
     private final LectureName name;
 
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+
+    private final UniqueVideoList videos = new CompactUniqueVideoList(COMPACT_VIDEO_STORAGE_THRESHOLD);
+
+    private int watchedVideoCount;
+
+    private final ReadOnlyBooleanWrapper completed = new ReadOnlyBooleanWrapper();
+
+    // Sum of the hashes of the videos, so that the content hash can be updated without hashing every video
+    private int videosHash;
 
-    private final UniqueVideoList videos = new UniqueVideoList();
+    private final ReadOnlyIntegerWrapper contentHash = new ReadOnlyIntegerWrapper();
+
+    // Incremented whenever the videos change, even if the content hash stays the same
+    private final ReadOnlyIntegerWrapper modificationCount = new ReadOnlyIntegerWrapper();
+
+    // Shared with the lectures that have the videos of this lecture, until the videos of either lecture change
+    private Object videosIdentity = new Object();
 
     /**
      * Constructs a {@code Lecture}.
@@ -40,8 +61,35 @@ public class Lecture implements ReadOnlyLecture, Comparable<Lecture> {
         requireAllNonNull(name, tags, videos);
 
         this.name = name;
-        this.tags.addAll(tags);
+        this.tags = Tag.setOf(tags);
         this.videos.setVideos(videos);
+        this.watchedVideoCount = (int) videos.stream().filter(Video::hasWatched).count();
+        this.videosHash = videos.stream().mapToInt(Video::hashCode).sum();
+        updateCompleted();
+        updateContentHash();
+    }
+
+    /**
+     * Constructs a {@code Lecture} that has the videos of {@code videosSource}.<p>
+     * As the videos of {@code videosSource} are already unique, they are not checked for duplicates again, and its
+     * index of videos, if any, and watch progress are shared rather than recomputed. The videos are still copied into
+     * a new list, so this takes time linear in the number of videos.
+     *
+     * @param name The name of the lecture.
+     * @param tags The tags applied to the lecture.
+     * @param videosSource The lecture whose videos will be the videos of the lecture.
+     */
+    public Lecture(LectureName name, Set<Tag> tags, Lecture videosSource) {
+        requireAllNonNull(name, tags, videosSource);
+
+        this.name = name;
+        this.tags = Tag.setOf(tags);
+        this.videos.setVideos(videosSource.videos);
+        this.watchedVideoCount = videosSource.watchedVideoCount;
+        this.videosHash = videosSource.videosHash;
+        this.videosIdentity = videosSource.videosIdentity;
+        updateCompleted();
+        updateContentHash();
     }
 
     @Override
@@ -51,7 +99,7 @@ public class Lecture implements ReadOnlyLecture, Comparable<Lecture> {
 
     @Override
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     @Override
@@ -59,15 +107,67 @@ public class Lecture implements ReadOnlyLecture, Comparable<Lecture> {
         return videos.asUnmodifiableObservableList();
     }
 
+    @Override
+    public int getWatchedVideoCount() {
+        return watchedVideoCount;
+    }
+
+    @Override
+    public boolean isCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * Returns a property that is true if the lecture has been completed, so that changes in the lecture's completion
+     * can be observed.
+     *
+     * @return A property that is true if the lecture has been completed.
+     * @see #isCompleted()
+     */
+    public ReadOnlyBooleanProperty completedProperty() {
+        return completed.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns a property that holds the hash code of the lecture, so that changes in the content of the lecture can be
+     * observed.<p>
+     * The hash code is computed from the hash codes of the videos when they are added, replaced or removed, rather than
+     * by hashing every video each time it is needed.
+     *
+     * @return A property that holds the hash code of the lecture.
+     * @see #hashCode()
+     */
+    public ReadOnlyIntegerProperty contentHashProperty() {
+        return contentHash.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns a property that holds the number of times the videos of the lecture have been changed, so that every
+     * change in the content of the lecture can be observed.
+     *
+     * @return A property that holds the number of times the videos of the lecture have been changed.
+     */
+    public ReadOnlyIntegerProperty modificationCountProperty() {
+        return modificationCount.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns true if this lecture has the videos of {@code other} because one of them was constructed with the videos
+     * of the other, and the videos of neither have changed since. This is checked without comparing the videos.
+     *
+     * @param other The lecture to check.
+     * @return True if this lecture has the videos of {@code other} without them being compared. Otherwise, false.
+     */
+    public boolean hasSameVideosAs(Lecture other) {
+        requireNonNull(other);
+        return other.videosIdentity == videosIdentity;
+    }
+
     @Override
     public Video getVideo(VideoName name) {
         requireNonNull(name);
 
-        return getVideoList()
-                .stream()
-                .filter((v) -> v.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        return videos.get(name);
     }
 
     @Override
@@ -79,7 +179,7 @@ public class Lecture implements ReadOnlyLecture, Comparable<Lecture> {
     @Override
     public boolean hasVideo(VideoName videoName) {
         requireNonNull(videoName);
-        return this.getVideo(videoName) != null;
+        return videos.containsKey(videoName);
     }
 
     @Override
@@ -105,6 +205,13 @@ public class Lecture implements ReadOnlyLecture, Comparable<Lecture> {
      */
     public void addVideo(Video video) {
         videos.add(video);
+        if (video.hasWatched()) {
+            watchedVideoCount++;
+        }
+        videosHash += video.hashCode();
+        updateCompleted();
+        updateContentHash();
+        markModified();
     }
 
     /**
@@ -121,6 +228,13 @@ public class Lecture implements ReadOnlyLecture, Comparable<Lecture> {
         requireNonNull(editedVideo);
 
         videos.setVideo(target, editedVideo);
+        if (target.hasWatched() != editedVideo.hasWatched()) {
+            watchedVideoCount += editedVideo.hasWatched() ? 1 : -1;
+            updateCompleted();
+        }
+        videosHash += editedVideo.hashCode() - target.hashCode();
+        updateContentHash();
+        markModified();
     }
 
     /**
@@ -131,11 +245,67 @@ public class Lecture implements ReadOnlyLecture, Comparable<Lecture> {
      */
     public void removeVideo(Video key) {
         videos.remove(key);
+        if (key.hasWatched()) {
+            watchedVideoCount--;
+        }
+        videosHash -= key.hashCode();
+        updateCompleted();
+        updateContentHash();
+        markModified();
+    }
+
+    /**
+     * Removes the videos in {@code toRemove} and adds the videos in {@code toAdd}, as a single change to the lecture's
+     * video list.<p>
+     * A video is replaced by removing it and adding its edited version. Either all changes are applied or none is.
+     *
+     * @param toRemove The videos to be removed. They must exist in the lecture.
+     * @param toAdd The videos to add. They must not have the same name as each other, or as a video that remains in
+     *              the lecture.
+     * @throws VideoNotFoundException Indicates that a video in {@code toRemove} does not exist in the lecture.
+     * @throws DuplicateVideoException Indicates that a video in {@code toAdd} has the same name as another video.
+     */
+    public void applyVideoChanges(List<Video> toRemove, List<Video> toAdd) {
+        videos.applyChanges(toRemove, toAdd);
+        for (Video video : toRemove) {
+            watchedVideoCount -= video.hasWatched() ? 1 : 0;
+            videosHash -= video.hashCode();
+        }
+        for (Video video : toAdd) {
+            watchedVideoCount += video.hasWatched() ? 1 : 0;
+            videosHash += video.hashCode();
+        }
+        updateCompleted();
+        updateContentHash();
+        markModified();
+    }
+
+    /**
+     * Updates whether the lecture has been completed according to the current video counts.
+     */
+    private void updateCompleted() {
+        completed.set(watchedVideoCount > 0 && watchedVideoCount == videos.asUnmodifiableObservableList().size());
+    }
+
+    /**
+     * Records that the videos of the lecture have changed.
+     */
+    private void markModified() {
+        modificationCount.set(modificationCount.get() + 1);
+        videosIdentity = new Object();
+    }
+
+    /**
+     * Updates the hash code of the lecture according to its fields and the current hash of its videos.
+     */
+    private void updateContentHash() {
+        contentHash.set(Objects.hash(name, tags, videosHash));
     }
 
     /**
      * Returns true if both lectures have the same fields.<p>
-     * This defines a stronger notion of equality between two lectures.
+     * This defines a stronger notion of equality between two lectures.<p>
+     * The videos are not compared if the lectures have the same videos according to {@link #hasSameVideosAs(Lecture)}.
      *
      * @param other The object to check if it is equivalent to this lecture.
      * @return True if both lectures have the same fields. Otherwise, false.
@@ -151,15 +321,19 @@ public class Lecture implements ReadOnlyLecture, Comparable<Lecture> {
         }
 
         Lecture otherLecture = (Lecture) other;
-        return otherLecture.getName().equals(getName())
-                && otherLecture.getTags().equals(getTags())
-                && otherLecture.getVideoList().equals(getVideoList());
+        boolean isSameHeader = otherLecture.hashCode() == hashCode()
+                && otherLecture.getName().equals(getName())
+                && otherLecture.getTags().equals(getTags());
+        if (!isSameHeader) {
+            return false;
+        }
+
+        return hasSameVideosAs(otherLecture) || otherLecture.getVideoList().equals(getVideoList());
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, tags, videos);
+        return contentHash.get();
     }
 
     @Override
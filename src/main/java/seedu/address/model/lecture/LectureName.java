@@ -1,5 +1,6 @@
 package seedu.address.model.lecture;
 
+import seedu.address.commons.util.Interner;
 import seedu.address.model.Name;
 
 /**
@@ -12,6 +13,8 @@ public class LectureName extends Name {
     public static final String MESSAGE_CONSTRAINTS =
             "Lecture names should only contain alphanumeric characters and spaces, and it should not be blank";
 
+    private static final Interner<String, LectureName> NAMES = new Interner<>(LectureName::new);
+
     /**
      * Constructs a {@code LectureName}.
      *
@@ -22,6 +25,17 @@ public class LectureName extends Name {
         super(name, MESSAGE_CONSTRAINTS);
     }
 
+    /**
+     * Returns the shared {@code LectureName} of {@code name}.
+     *
+     * @param name A valid name.
+     * @return The shared {@code LectureName} of {@code name}.
+     * @throws IllegalArgumentException Indicates that {@code name} is an invalid lecture name.
+     */
+    public static LectureName of(String name) {
+        return NAMES.intern(name);
+    }
+
     @Override
     public boolean equals(Object other) {
         return super.equals(other) && other instanceof LectureName;
@@ -3,25 +3,23 @@ package seedu.address.model.lecture;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * Tests that a {@code Lecture}'s {@code tags} matches any of the keywords given.
  */
 public class LectureTagContainsKeywordsPredicate implements Predicate<ReadOnlyLecture> {
     private final List<String> keywords;
+    private final TagQuery query;
 
     public LectureTagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.query = TagQuery.anyOf(keywords);
     }
 
     @Override
     public boolean test(ReadOnlyLecture lecture) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                    StringUtil.containsWordIgnoreCase(
-                        StringUtil.joinTagsAsString(lecture.getTags()),
-                            StringUtil.joinSentenceToWord(keyword)));
+        return query.matches(lecture.getTags());
     }
 
     @Override
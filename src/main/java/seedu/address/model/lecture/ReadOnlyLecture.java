@@ -34,6 +34,21 @@ public interface ReadOnlyLecture {
      */
     public ObservableList<Video> getVideoList();
 
+    /**
+     * Returns the number of videos in the lecture that have been watched.<p>
+     * The count is kept up to date as videos are added, replaced or removed, so this runs in constant time.
+     *
+     * @return The number of videos in the lecture that have been watched.
+     */
+    public int getWatchedVideoCount();
+
+    /**
+     * Returns true if the lecture has at least 1 video and all of its videos have been watched.
+     *
+     * @return True if the lecture has at least 1 video and all of its videos have been watched. Otherwise, false.
+     */
+    public boolean isCompleted();
+
     /**
      * Returns the video whose name is the same as {@code name}. If no such video exist, return null.
      *
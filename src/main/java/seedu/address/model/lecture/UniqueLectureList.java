@@ -24,13 +24,13 @@ import seedu.address.model.lecture.exceptions.LectureNotFoundException;
  * @see Lecture#compareTo(Lecture)
  * @see Lecture#isSameLecture(Lecture)
  */
-public class UniqueLectureList extends SortedUniqueDataList<Lecture> {
+public class UniqueLectureList extends SortedUniqueDataList<LectureName, Lecture> {
 
     /**
      * Constructs a {@code UniqueLectureList}.
      */
     public UniqueLectureList() {
-        super((a, b) -> a.isSameLecture(b), DuplicateLectureException::new, LectureNotFoundException::new);
+        super(Lecture::getName, DuplicateLectureException::new, LectureNotFoundException::new);
     }
 
     /**
@@ -0,0 +1,21 @@
+package seedu.address.model.module;
+
+import java.util.List;
+
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.module.exceptions.LectureLoadingException;
+
+/**
+ * Loads the lectures of a module that were not loaded with the module, such as a module whose lectures are only
+ * read from storage when they are first needed.
+ */
+@FunctionalInterface
+public interface LectureLoader {
+    /**
+     * Returns the lectures of the module. Each call returns new lectures, which have unique names.
+     *
+     * @return The lectures of the module.
+     * @throws LectureLoadingException Indicates that the lectures could not be loaded.
+     */
+    List<Lecture> loadLectures();
+}
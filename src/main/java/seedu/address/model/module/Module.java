@@ -1,15 +1,16 @@
 package seedu.address.model.module;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.lecture.Lecture;
 import seedu.address.model.lecture.LectureName;
@@ -17,11 +18,15 @@ import seedu.address.model.lecture.ReadOnlyLecture;
 import seedu.address.model.lecture.UniqueLectureList;
 import seedu.address.model.lecture.exceptions.DuplicateLectureException;
 import seedu.address.model.lecture.exceptions.LectureNotFoundException;
+import seedu.address.model.module.exceptions.LectureLoadingException;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a module in the tracker.<p>
- * Guarantees: details are not null, field values are validated, immutable with exception of lecture list.
+ * Guarantees: details are not null, field values are validated, immutable with exception of lecture list.<p>
+ * The lectures of a module may be loaded by a {@link LectureLoader} when they are first needed, so that a module can
+ * be listed by its code, name, tags and lecture counts without reading its lectures and videos. Such a module is also
+ * given the sum of the hashes of its lectures, so that it can be hashed and compared without loading them.
  */
 public class Module implements ReadOnlyModule, Comparable<Module> {
 
@@ -29,10 +34,46 @@ public class Module implements ReadOnlyModule, Comparable<Module> {
 
     private final ModuleName name;
 
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
 
     private final UniqueLectureList lectures = new UniqueLectureList();
 
+    // Loads the lectures when they are first needed, or null if the lectures have been loaded
+    private LectureLoader lectureLoader;
+
+    // Number of lectures that will be loaded by lectureLoader
+    private int unloadedLectureCount;
+
+    private int completedLectureCount;
+
+    // Weakly referenced by the lectures, as lectures may be shared with modules that have since been replaced
+    private final ChangeListener<Boolean> lectureCompletionListener = (observable, wasCompleted, isCompleted) ->
+            completedLectureCount += isCompleted ? 1 : -1;
+    private final WeakChangeListener<Boolean> weakLectureCompletionListener =
+            new WeakChangeListener<>(lectureCompletionListener);
+
+    // Sum of the hashes of the lectures, kept up to date as the lectures change, which is known before they are loaded
+    private int lecturesHash;
+
+    private int hash;
+
+    private final ChangeListener<Number> lectureHashListener = (observable, oldHash, newHash) -> {
+        lecturesHash += newHash.intValue() - oldHash.intValue();
+        updateHash();
+    };
+    private final WeakChangeListener<Number> weakLectureHashListener = new WeakChangeListener<>(lectureHashListener);
+
+    // Incremented whenever the lectures of the module, or their videos, change
+    private int modificationCount;
+
+    // Shared with the modules that have the lectures of this module, until the lectures of either module change
+    private Object lecturesIdentity = new Object();
+
+    private final ChangeListener<Number> lectureModificationListener = (observable, oldCount, newCount) ->
+            markModified();
+    private final WeakChangeListener<Number> weakLectureModificationListener =
+            new WeakChangeListener<>(lectureModificationListener);
+
     /**
      * Constructs a {@code Module}.<p>
      * Every field must be non-null.
@@ -47,8 +88,73 @@ public class Module implements ReadOnlyModule, Comparable<Module> {
 
         this.code = code;
         this.name = name;
-        this.tags.addAll(tags);
+        this.tags = Tag.setOf(tags);
         this.lectures.setLectures(lectures.stream().map((l) -> (Lecture) l).collect(Collectors.toList()));
+        this.lectures.forEach(this::trackLecture);
+        updateHash();
+    }
+
+    /**
+     * Constructs a {@code Module} that has the lectures of {@code lecturesSource}.<p>
+     * Every field must be non-null.<p>
+     * As the lectures of {@code lecturesSource} are already unique, they are not checked for duplicates or sorted
+     * again, and its index of lectures is shared rather than rebuilt. The lectures are still copied into a new list,
+     * so this takes time linear in the number of lectures, but none of their videos are copied. If the lectures of
+     * {@code lecturesSource} have not been loaded, they are not loaded.
+     *
+     * @param code The module's code.
+     * @param name The name of the module.
+     * @param tags The tags applied to the module.
+     * @param lecturesSource The module whose lectures will be the lectures of the module.
+     */
+    public Module(ModuleCode code, ModuleName name, Set<Tag> tags, Module lecturesSource) {
+        requireAllNonNull(code, name, tags, lecturesSource);
+
+        this.code = code;
+        this.name = name;
+        this.tags = Tag.setOf(tags);
+
+        this.lecturesIdentity = lecturesSource.lecturesIdentity;
+        if (lecturesSource.lectureLoader != null) {
+            // The lectures are loaded separately for each module, so they are not shared
+            this.lectureLoader = lecturesSource.lectureLoader;
+            this.unloadedLectureCount = lecturesSource.unloadedLectureCount;
+            this.completedLectureCount = lecturesSource.completedLectureCount;
+            this.lecturesHash = lecturesSource.lecturesHash;
+        } else {
+            this.lectures.setLectures(lecturesSource.lectures);
+            this.lectures.forEach(this::trackLecture);
+        }
+        updateHash();
+    }
+
+    /**
+     * Constructs a {@code Module} whose lectures are loaded by {@code lectureLoader} when they are first needed.<p>
+     * Every field must be non-null.
+     *
+     * @param code The module's code.
+     * @param name The name of the module.
+     * @param tags The tags applied to the module.
+     * @param lectureCount The number of lectures that {@code lectureLoader} loads.
+     * @param completedLectureCount The number of lectures that {@code lectureLoader} loads that have been completed.
+     * @param lecturesHash The sum of the hashes of the lectures that {@code lectureLoader} loads.
+     * @param lectureLoader The loader of the lectures of the module.
+     * @see #getLecturesHash()
+     */
+    public Module(ModuleCode code, ModuleName name, Set<Tag> tags, int lectureCount, int completedLectureCount,
+            int lecturesHash, LectureLoader lectureLoader) {
+        requireAllNonNull(code, name, tags, lectureLoader);
+        checkArgument(lectureCount >= 0 && completedLectureCount >= 0 && completedLectureCount <= lectureCount,
+                "Lecture counts must be non-negative, with no more completed lectures than lectures.");
+
+        this.code = code;
+        this.name = name;
+        this.tags = Tag.setOf(tags);
+        this.lectureLoader = lectureLoader;
+        this.unloadedLectureCount = lectureCount;
+        this.completedLectureCount = completedLectureCount;
+        this.lecturesHash = lecturesHash;
+        updateHash();
     }
 
     @Override
@@ -63,35 +169,83 @@ public class Module implements ReadOnlyModule, Comparable<Module> {
 
     @Override
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     @Override
     public ObservableList<? extends ReadOnlyLecture> getLectureList() {
+        loadLectures();
         return lectures.asUnmodifiableObservableList();
     }
 
     @Override
-    public ReadOnlyLecture getLecture(LectureName name) {
+    public int getLectureCount() {
+        return lectureLoader != null ? unloadedLectureCount : lectures.asUnmodifiableObservableList().size();
+    }
+
+    @Override
+    public int getLecturesHash() {
+        return lecturesHash;
+    }
+
+    /**
+     * Returns the number of times the lectures of the module, or their videos, have been changed, so that a copy of the
+     * module can be reused for as long as the module is unchanged.<p>
+     * Loading the lectures of the module does not change it.
+     *
+     * @return The number of times the lectures of the module, or their videos, have been changed.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns true if this module has the lectures of {@code other} because one of them was constructed with the
+     * lectures of the other, and the lectures of neither have changed since. This is checked without comparing or
+     * loading the lectures.
+     *
+     * @param other The module to check.
+     * @return True if this module has the lectures of {@code other} without them being compared. Otherwise, false.
+     */
+    public boolean hasSameLecturesAs(Module other) {
+        requireNonNull(other);
+        return other.lecturesIdentity == lecturesIdentity;
+    }
+
+    /**
+     * Returns true if the lectures of the module have been loaded.
+     *
+     * @return True if the lectures have been loaded. Otherwise, returns false.
+     */
+    public boolean isLecturesLoaded() {
+        return lectureLoader == null;
+    }
+
+    @Override
+    public int getCompletedLectureCount() {
+        return completedLectureCount;
+    }
+
+    @Override
+    public Lecture getLecture(LectureName name) {
         requireNonNull(name);
 
-        return getLectureList()
-                .stream()
-                .filter((l) -> l.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        loadLectures();
+        return lectures.get(name);
     }
 
     @Override
     public boolean hasLecture(ReadOnlyLecture lecture) {
         requireNonNull(lecture);
+        loadLectures();
         return lectures.contains((Lecture) lecture);
     }
 
     @Override
     public boolean hasLecture(LectureName lectureName) {
         requireNonNull(lectureName);
-        return getLecture(lectureName) != null;
+        loadLectures();
+        return lectures.containsKey(lectureName);
     }
 
     @Override
@@ -116,7 +270,11 @@ public class Module implements ReadOnlyModule, Comparable<Module> {
      * @throws DuplicateLectureException Indicates that {@code lecture} already exist in the module.
      */
     public void addLecture(Lecture lecture) {
+        loadLectures();
         lectures.add(lecture);
+        trackLecture(lecture);
+        updateHash();
+        markModified();
     }
 
     /**
@@ -132,7 +290,13 @@ public class Module implements ReadOnlyModule, Comparable<Module> {
     public void setLecture(ReadOnlyLecture target, Lecture editedLecture) throws LectureNotFoundException {
         requireNonNull(editedLecture);
 
+        loadLectures();
+        Lecture existingLecture = lectures.get(target.getName());
         lectures.setLecture((Lecture) target, editedLecture);
+        untrackLecture(existingLecture);
+        trackLecture(editedLecture);
+        updateHash();
+        markModified();
     }
 
     /**
@@ -142,12 +306,113 @@ public class Module implements ReadOnlyModule, Comparable<Module> {
      * @throws LectureNotFoundException Indicates that the lecture does not exist in the module.
      */
     public void removeLecture(ReadOnlyLecture key) {
+        loadLectures();
+        Lecture existingLecture = lectures.get(key.getName());
         lectures.remove((Lecture) key);
+        untrackLecture(existingLecture);
+        updateHash();
+        markModified();
+    }
+
+    /**
+     * Removes the lectures in {@code toRemove} and adds the lectures in {@code toAdd}, as a single change to the
+     * module's lecture list.<p>
+     * A lecture is replaced by removing it and adding its edited version. Either all changes are applied or none is.
+     *
+     * @param toRemove The lectures to be removed. They must exist in the module.
+     * @param toAdd The lectures to add. They must not have the same name as each other, or as a lecture that remains
+     *              in the module.
+     * @throws LectureNotFoundException Indicates that a lecture in {@code toRemove} does not exist in the module.
+     * @throws DuplicateLectureException Indicates that a lecture in {@code toAdd} has the same name as another
+     *                                   lecture.
+     */
+    public void applyLectureChanges(List<? extends ReadOnlyLecture> toRemove, List<Lecture> toAdd) {
+        loadLectures();
+        List<Lecture> existingLectures = toRemove.stream()
+                .map(lecture -> lectures.get(lecture.getName()))
+                .collect(Collectors.toList());
+        lectures.applyChanges(toRemove.stream().map((l) -> (Lecture) l).collect(Collectors.toList()), toAdd);
+        existingLectures.forEach(this::untrackLecture);
+        toAdd.forEach(this::trackLecture);
+        updateHash();
+        markModified();
+    }
+
+    /**
+     * Loads the lectures of the module with its {@code lectureLoader}, if they have not been loaded.
+     *
+     * @throws LectureLoadingException Indicates that the lectures could not be loaded.
+     */
+    private void loadLectures() {
+        if (lectureLoader == null) {
+            return;
+        }
+
+        List<Lecture> loadedLectures = lectureLoader.loadLectures();
+        lectureLoader = null;
+        unloadedLectureCount = 0;
+        completedLectureCount = 0;
+        lecturesHash = 0;
+        lectures.setLectures(loadedLectures);
+        lectures.forEach(this::trackLecture);
+        updateHash();
+    }
+
+    /**
+     * Records that the lectures of the module, or their videos, have changed.
+     */
+    private void markModified() {
+        modificationCount++;
+        lecturesIdentity = new Object();
+    }
+
+    /**
+     * Counts {@code lecture} towards the progress, hash code and modification count of this module, and keeps them up
+     * to date as the lecture's completion and content change.
+     *
+     * @param lecture The lecture that was added to this module.
+     */
+    private void trackLecture(Lecture lecture) {
+        lecture.completedProperty().addListener(weakLectureCompletionListener);
+        if (lecture.isCompleted()) {
+            completedLectureCount++;
+        }
+
+        lecture.contentHashProperty().addListener(weakLectureHashListener);
+        lecturesHash += lecture.hashCode();
+
+        lecture.modificationCountProperty().addListener(weakLectureModificationListener);
+    }
+
+    /**
+     * Stops counting {@code lecture} towards the progress, hash code and modification count of this module.
+     *
+     * @param lecture The lecture that was removed from this module.
+     */
+    private void untrackLecture(Lecture lecture) {
+        lecture.completedProperty().removeListener(weakLectureCompletionListener);
+        if (lecture.isCompleted()) {
+            completedLectureCount--;
+        }
+
+        lecture.contentHashProperty().removeListener(weakLectureHashListener);
+        lecturesHash -= lecture.hashCode();
+
+        lecture.modificationCountProperty().removeListener(weakLectureModificationListener);
+    }
+
+    /**
+     * Updates the hash code of the module according to its fields and the hashes of its lectures.
+     */
+    private void updateHash() {
+        hash = Objects.hash(code, name, tags, lecturesHash);
     }
 
     /**
      * Returns true if both modules have the same fields.<p>
-     * This defines a stronger notion of equality between two modules.
+     * This defines a stronger notion of equality between two modules.<p>
+     * The lectures are never loaded to check this. If the lectures of either module have not been loaded, the lectures
+     * are compared by the sum of their hashes, which is known without loading them.
      *
      * @param other The object to check if it is equivalent to this module.
      * @return True if both modules have the same fields. Otherwise, false.
@@ -163,16 +428,26 @@ public class Module implements ReadOnlyModule, Comparable<Module> {
         }
 
         Module otherModule = (Module) other;
-        return otherModule.getCode().equals(getCode())
+        boolean isSameHeader = otherModule.hash == hash
+                && otherModule.getCode().equals(getCode())
                 && otherModule.getName().equals(getName())
                 && otherModule.getTags().equals(getTags())
-                && otherModule.getLectureList().equals(getLectureList());
+                && otherModule.getLectureCount() == getLectureCount()
+                && otherModule.getCompletedLectureCount() == getCompletedLectureCount()
+                && otherModule.lecturesHash == lecturesHash;
+        if (!isSameHeader) {
+            return false;
+        }
+
+        if (hasSameLecturesAs(otherModule) || !isLecturesLoaded() || !otherModule.isLecturesLoaded()) {
+            return true;
+        }
+        return otherModule.lectures.asUnmodifiableObservableList().equals(lectures.asUnmodifiableObservableList());
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(code, name, tags, lectures);
+        return hash;
     }
 
     @Override
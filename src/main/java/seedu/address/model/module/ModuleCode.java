@@ -3,6 +3,8 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a module's code in the tracker.<p>
  * Guarantees: immutable, is valid as declared in {@link #isValidCode(String)}.
@@ -17,6 +19,8 @@ public class ModuleCode implements Comparable<ModuleCode> {
     /** The regex for validating the module code. */
     public static final String VALIDATION_REGEX = "[A-Z]+[0-9]+[A-Z]*";
 
+    private static final Interner<String, ModuleCode> CODES = new Interner<>(ModuleCode::new);
+
     /** The module code. */
     public final String code;
 
@@ -32,6 +36,17 @@ public class ModuleCode implements Comparable<ModuleCode> {
         this.code = code;
     }
 
+    /**
+     * Returns the shared {@code ModuleCode} of {@code code}.
+     *
+     * @param code A valid code.
+     * @return The shared {@code ModuleCode} of {@code code}.
+     * @throws IllegalArgumentException Indicates that {@code code} is an invalid module code.
+     */
+    public static ModuleCode of(String code) {
+        return CODES.intern(code);
+    }
+
     /**
      * Returns true if {@code test} is a valid module code.
      *
@@ -3,25 +3,23 @@ package seedu.address.model.module;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * Tests that a {@code Module}'s {@code tags} matches any of the keywords given.
  */
 public class ModuleTagContainsKeywordsPredicate implements Predicate<ReadOnlyModule> {
     private final List<String> keywords;
+    private final TagQuery query;
 
     public ModuleTagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.query = TagQuery.anyOf(keywords);
     }
 
     @Override
     public boolean test(ReadOnlyModule module) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                    StringUtil.containsWordIgnoreCase(
-                        StringUtil.joinTagsAsString(module.getTags()),
-                            StringUtil.joinSentenceToWord(keyword)));
+        return query.matches(module.getTags());
     }
 
     @Override
@@ -41,6 +41,34 @@ public interface ReadOnlyModule {
      */
     public ObservableList<? extends ReadOnlyLecture> getLectureList();
 
+    /**
+     * Returns the number of lectures in the module.<p>
+     * Unlike {@link #getLectureList()}, this does not load the lectures of a module whose lectures have not been
+     * loaded.
+     *
+     * @return The number of lectures in the module.
+     */
+    public int getLectureCount();
+
+    /**
+     * Returns the number of lectures in the module that have been completed.<p>
+     * The count is kept up to date as lectures and their videos change, so this runs in constant time.
+     *
+     * @return The number of lectures in the module that have been completed.
+     * @see ReadOnlyLecture#isCompleted()
+     */
+    public int getCompletedLectureCount();
+
+    /**
+     * Returns the sum of the hash codes of the lectures in the module.<p>
+     * Like {@link #getLectureCount()}, this does not load the lectures of a module whose lectures have not been
+     * loaded, so it is stored with the module for its lectures to be loaded later.
+     *
+     * @return The sum of the hash codes of the lectures in the module.
+     * @see ReadOnlyLecture#hashCode()
+     */
+    public int getLecturesHash();
+
     /**
      * Returns the lecture whose name is the same as {@code name}. If no such lecture exist, return null.
      *
@@ -24,13 +24,13 @@ import seedu.address.model.module.exceptions.ModuleNotFoundException;
  * @see Module#compareTo(Module)
  * @see Module#isSameModule(Module)
  */
-public class UniqueModuleList extends SortedUniqueDataList<Module> {
+public class UniqueModuleList extends SortedUniqueDataList<ModuleCode, Module> {
 
     /**
      * Constructs a {@code UniqueModuleList}.
      */
     public UniqueModuleList() {
-        super((a, b) -> a.isSameModule(b), DuplicateModuleException::new, ModuleNotFoundException::new);
+        super(Module::getCode, DuplicateModuleException::new, ModuleNotFoundException::new);
     }
 
     /**
@@ -0,0 +1,10 @@
+package seedu.address.model.module.exceptions;
+
+/**
+ * Signals that the lectures of a module could not be loaded when they were first needed.
+ */
+public class LectureLoadingException extends RuntimeException {
+    public LectureLoadingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
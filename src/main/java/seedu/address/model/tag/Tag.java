@@ -3,15 +3,25 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Set;
+
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Tag of a lecture.
- * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}<p>
+ * Use {@link #of(String)} and {@link #setOf(Collection)} to obtain shared instances of tags and tag sets.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tag(s) %1$s should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<String, Tag> TAGS = new Interner<>(Tag::new);
+    private static final Interner<BitSet, TagSet> TAG_SETS = new Interner<>(TagSet::new);
+
     public final String tagName;
 
     /**
@@ -25,6 +35,35 @@ public class Tag {
         this.tagName = tagDescription;
     }
 
+    /**
+     * Returns the shared {@code Tag} with the name {@code tagDescription}.
+     *
+     * @param tagDescription A valid tag name.
+     * @return The shared {@code Tag} with the name {@code tagDescription}.
+     * @throws IllegalArgumentException Indicates that {@code tagDescription} is an invalid tag name.
+     */
+    public static Tag of(String tagDescription) {
+        return TAGS.intern(tagDescription);
+    }
+
+    /**
+     * Returns a shared immutable set containing the tags in {@code tags}.<p>
+     * Equal sets of tags are returned as the same instance, and the tags in it are shared as well. The set also holds
+     * a bitmap of the ids of its tags, so that it can be tested against a {@link TagQuery} quickly.
+     *
+     * @param tags The tags to be contained in the set.
+     * @return A shared immutable set containing the tags in {@code tags}.
+     */
+    public static Set<Tag> setOf(Collection<Tag> tags) {
+        requireNonNull(tags);
+
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        // The pool is keyed by the ids of the tags, so no other copy of the set is built to look it up
+        return TAG_SETS.intern(TagDictionary.idsOf(tags));
+    }
+
     /**
      * Return the name of a {@code Tag}
      * @return the tag name
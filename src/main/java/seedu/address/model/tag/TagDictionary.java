@@ -0,0 +1,105 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A dictionary that assigns each distinct {@code Tag} a small integer id.<p>
+ *
+ * Sets of tags can then be represented as bitmaps of tag ids, so that tag queries become bitmap operations instead of
+ * string comparisons. Ids are held in the bitmaps of tag sets and queries, so they are never reused, and the dictionary
+ * keeps an entry for each distinct tag name it has been given. Only the names are kept, not the {@code Tag} objects,
+ * so tags that are no longer used can still be garbage collected. It is safe to use from multiple threads.
+ */
+final class TagDictionary {
+
+    private static final Map<String, Integer> IDS_BY_NAME = new HashMap<>();
+    private static final List<String> NAMES_BY_ID = new ArrayList<>();
+    private static final NavigableMap<String, BitSet> IDS_BY_LOWER_CASE_NAME = new TreeMap<>();
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the id of {@code tag}, assigning a new id to it if it is not yet in the dictionary.
+     *
+     * @param tag The tag to get the id of.
+     * @return The id of {@code tag}.
+     */
+    static synchronized int idOf(Tag tag) {
+        requireNonNull(tag);
+
+        Integer id = IDS_BY_NAME.get(tag.getTagName());
+        if (id == null) {
+            id = IDS_BY_NAME.size();
+            IDS_BY_NAME.put(tag.getTagName(), id);
+            NAMES_BY_ID.add(tag.getTagName());
+            IDS_BY_LOWER_CASE_NAME.computeIfAbsent(tag.getTagName().toLowerCase(), name -> new BitSet()).set(id);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the name of the tag with the id {@code id}.
+     *
+     * @param id An id assigned by the dictionary.
+     * @return The name of the tag with the id {@code id}.
+     */
+    static synchronized String nameOf(int id) {
+        return NAMES_BY_ID.get(id);
+    }
+
+    /**
+     * Returns a bitmap of the ids of the tags in {@code tags}.
+     *
+     * @param tags The tags to get the ids of.
+     * @return A bitmap of the ids of the tags in {@code tags}. It may be modified by the caller.
+     */
+    static BitSet idsOf(Collection<Tag> tags) {
+        requireNonNull(tags);
+
+        if (tags instanceof TagSet) {
+            return (BitSet) ((TagSet) tags).getTagIds().clone();
+        }
+
+        BitSet ids = new BitSet();
+        for (Tag tag : tags) {
+            ids.set(idOf(tag));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns a bitmap of the ids of the tags whose name starts with {@code prefix}, ignoring case.
+     *
+     * @param prefix The prefix to match the tag names against.
+     * @return A bitmap of the ids of the matching tags. It may be modified by the caller.
+     */
+    static synchronized BitSet idsStartingWith(String prefix) {
+        requireNonNull(prefix);
+
+        String lowerCasePrefix = prefix.toLowerCase();
+        BitSet ids = new BitSet();
+        for (BitSet matchingIds : IDS_BY_LOWER_CASE_NAME.subMap(lowerCasePrefix, true,
+                lowerCasePrefix + Character.MAX_VALUE, true).values()) {
+            ids.or(matchingIds);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the number of tags in the dictionary.
+     *
+     * @return The number of tags in the dictionary.
+     */
+    static synchronized int size() {
+        return IDS_BY_NAME.size();
+    }
+}
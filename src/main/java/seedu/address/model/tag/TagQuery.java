@@ -0,0 +1,176 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A query over the tags of a module, lecture or video.<p>
+ *
+ * A query is a conjunction of clauses. Each clause is made up of keywords, and is satisfied by a set of tags if any
+ * tag in it starts with any of the keywords, ignoring case and spaces in the keywords. A negated clause is satisfied
+ * if no tag does.<p>
+ *
+ * Each keyword is resolved to a bitmap of the {@link TagDictionary} ids of the tags it matches when its clause is
+ * created, so testing a set of tags is a bitmap intersection per keyword. Tags added to the dictionary after the clause
+ * was created are matched by name instead. As with matching keywords against tag names directly, an empty keyword is
+ * rejected when it is reached.<p>
+ *
+ * A query tests each set of tags on its own, so filtering a list of modules, lectures or videos with it still takes
+ * time linear in the number of entities in the list.
+ */
+public class TagQuery {
+
+    private final List<Clause> clauses;
+
+    private TagQuery(List<Clause> clauses) {
+        this.clauses = clauses;
+    }
+
+    /**
+     * Returns a query that matches sets of tags that contain a tag starting with any of {@code keywords}.
+     *
+     * @param keywords The keywords to match the tags against.
+     * @return A query that matches sets of tags that contain a tag starting with any of {@code keywords}.
+     */
+    public static TagQuery anyOf(List<String> keywords) {
+        return new TagQuery(List.of(new Clause(keywords, false)));
+    }
+
+    /**
+     * Returns a query that matches sets of tags that do not contain a tag starting with any of {@code keywords}.
+     *
+     * @param keywords The keywords to match the tags against.
+     * @return A query that matches sets of tags that do not contain a tag starting with any of {@code keywords}.
+     */
+    public static TagQuery noneOf(List<String> keywords) {
+        return new TagQuery(List.of(new Clause(keywords, true)));
+    }
+
+    /**
+     * Returns a query that matches sets of tags that are matched by both this query and {@code other}.
+     *
+     * @param other The other query.
+     * @return A query that matches sets of tags that are matched by both this query and {@code other}.
+     */
+    public TagQuery and(TagQuery other) {
+        requireNonNull(other);
+
+        List<Clause> combinedClauses = new ArrayList<>(clauses);
+        combinedClauses.addAll(other.clauses);
+        return new TagQuery(Collections.unmodifiableList(combinedClauses));
+    }
+
+    /**
+     * Returns true if {@code tags} is matched by this query.
+     *
+     * @param tags The tags to test.
+     * @return True if {@code tags} is matched by this query. Otherwise, false.
+     * @throws IllegalArgumentException Indicates that a keyword that was reached before the result was known is empty.
+     */
+    public boolean matches(Set<Tag> tags) {
+        requireNonNull(tags);
+
+        BitSet tagIds = tags instanceof TagSet ? ((TagSet) tags).getTagIds() : TagDictionary.idsOf(tags);
+        for (Clause clause : clauses) {
+            if (clause.hasMatchingTag(tags, tagIds) == clause.isNegated) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof TagQuery && clauses.equals(((TagQuery) other).clauses));
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    /**
+     * A clause of a {@code TagQuery}.
+     */
+    private static class Clause {
+
+        private final List<String> prefixes;
+        private final boolean isNegated;
+
+        // The ids of the tags that each prefix matched when the clause was created, or null for an empty prefix
+        private final List<BitSet> resolvedPrefixes;
+        private final int resolvedDictionarySize;
+
+        Clause(List<String> keywords, boolean isNegated) {
+            requireNonNull(keywords);
+
+            List<String> prefixes = new ArrayList<>();
+            for (String keyword : keywords) {
+                prefixes.add(StringUtil.joinSentenceToWord(keyword));
+            }
+            this.prefixes = Collections.unmodifiableList(prefixes);
+            this.isNegated = isNegated;
+
+            // The size is read first, so that tags added while the prefixes are resolved are also matched by name
+            this.resolvedDictionarySize = TagDictionary.size();
+            List<BitSet> resolvedPrefixes = new ArrayList<>();
+            for (String prefix : prefixes) {
+                resolvedPrefixes.add(prefix.isEmpty() ? null : TagDictionary.idsStartingWith(prefix));
+            }
+            this.resolvedPrefixes = Collections.unmodifiableList(resolvedPrefixes);
+        }
+
+        /**
+         * Returns true if a tag in {@code tags}, whose ids are {@code tagIds}, starts with any of the prefixes.
+         */
+        boolean hasMatchingTag(Set<Tag> tags, BitSet tagIds) {
+            boolean hasNewerTags = tagIds.length() > resolvedDictionarySize;
+            for (int i = 0; i < prefixes.size(); i++) {
+                BitSet resolvedIds = resolvedPrefixes.get(i);
+                checkArgument(resolvedIds != null, "Word parameter cannot be empty");
+
+                if (tagIds.intersects(resolvedIds) || (hasNewerTags && hasTagStartingWith(tags, prefixes.get(i)))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean hasTagStartingWith(Set<Tag> tags, String prefix) {
+            String lowerCasePrefix = prefix.toLowerCase();
+            for (Tag tag : tags) {
+                if (tag.getTagName().toLowerCase().startsWith(lowerCasePrefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Clause)) {
+                return false;
+            }
+            Clause otherClause = (Clause) other;
+            return prefixes.equals(otherClause.prefixes) && isNegated == otherClause.isNegated;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(prefixes, isNegated);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model.tag;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+
+/**
+ * An immutable set of tags that is identified by a bitmap of the {@link TagDictionary} ids of its tags.<p>
+ * This is the type of the shared tag sets returned by {@link Tag#setOf(java.util.Collection)}, which are pooled by
+ * the bitmap of their ids, so the bitmap is the only copy of the set kept besides its tags.
+ */
+final class TagSet extends AbstractSet<Tag> {
+
+    private final Tag[] tags;
+    private final BitSet tagIds;
+
+    /**
+     * Constructs a {@code TagSet} containing the tags with the ids in {@code tagIds}.
+     *
+     * @param tagIds A bitmap of ids assigned by the dictionary. It is held by the set and must not be modified.
+     */
+    TagSet(BitSet tagIds) {
+        this.tags = tagIds.stream()
+                .mapToObj(id -> Tag.of(TagDictionary.nameOf(id)))
+                .toArray(Tag[]::new);
+        this.tagIds = tagIds;
+    }
+
+    /**
+     * Returns a bitmap of the ids of the tags in this set. It must not be modified.
+     *
+     * @return A bitmap of the ids of the tags in this set.
+     */
+    BitSet getTagIds() {
+        return tagIds;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return Arrays.asList(tags).iterator();
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+}
@@ -0,0 +1,319 @@
+package seedu.address.model.video;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.GroupableObservableList;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An observable list of videos that stores the fields of its videos in columns instead of as {@code Video} objects
+ * once it holds many videos.<p>
+ *
+ * While the list holds fewer videos than its compact threshold, they are stored as {@code Video} objects. Once it holds
+ * at least that many, names are kept in an array, whether the videos have been watched in a {@code BitSet}, timestamps
+ * as their total number of seconds in an {@code int[]}, and tags as ids of the distinct tag sets used in the list in an
+ * {@code int[]}. The list only goes back to storing {@code Video} objects when it shrinks below half its compact
+ * threshold, so that it does not switch back and forth as videos are added and removed around the threshold.<p>
+ *
+ * While the fields are stored in columns, a {@code Video} is created when it is first read, and is kept through a weak
+ * reference, as are videos added or set one at a time. Reading a video that is still in use elsewhere, such as by a
+ * list cell, returns the same instance and creates no garbage.
+ */
+class ColumnarVideoList extends GroupableObservableList<Video> {
+
+    private static final int NO_TIMESTAMP = -1;
+
+    private final int compactThreshold;
+
+    // The videos while they are stored as objects, or null while their fields are stored in columns
+    private List<Video> videos = new ArrayList<>();
+
+    private VideoName[] names;
+    private BitSet watched;
+    private int[] timestamps;
+    private int[] tagSetIds;
+    private WeakReference<Video>[] views;
+    private int size = 0;
+
+    private List<Set<Tag>> tagSets;
+    private Map<Set<Tag>, Integer> tagSetIdsBySet;
+
+    /**
+     * Constructs a {@code ColumnarVideoList}.
+     *
+     * @param compactThreshold The number of videos from which the fields of the videos are stored in columns.
+     */
+    ColumnarVideoList(int compactThreshold) {
+        this.compactThreshold = compactThreshold;
+        if (compactThreshold <= 0) {
+            switchToColumns();
+        }
+    }
+
+    @Override
+    public Video get(int index) {
+        if (videos != null) {
+            return videos.get(index);
+        }
+
+        checkIndex(index, size);
+        Video view = views[index] == null ? null : views[index].get();
+        if (view == null) {
+            int timestamp = timestamps[index];
+            view = new Video(names[index], watched.get(index),
+                    timestamp == NO_TIMESTAMP ? null : VideoTimestamp.ofTotalSeconds(timestamp),
+                    tagSets.get(tagSetIds[index]));
+            views[index] = new WeakReference<>(view);
+        }
+        return view;
+    }
+
+    @Override
+    public int size() {
+        return videos != null ? videos.size() : size;
+    }
+
+    /**
+     * Returns true if the fields of the videos are stored in columns rather than as {@code Video} objects.
+     *
+     * @return True if the fields of the videos are stored in columns. Otherwise, false.
+     */
+    boolean isColumnar() {
+        return videos == null;
+    }
+
+    /**
+     * Returns the name of the video at {@code index} without creating the video.
+     *
+     * @param index The position of the video in the list.
+     * @return The name of the video at {@code index}.
+     */
+    VideoName getName(int index) {
+        if (videos != null) {
+            return videos.get(index).getName();
+        }
+
+        checkIndex(index, size);
+        return names[index];
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends Video> newVideos) {
+        List<Video> removed = new ArrayList<>(this);
+
+        beginChange();
+        try {
+            if (newVideos instanceof ColumnarVideoList && ((ColumnarVideoList) newVideos).isColumnar()
+                    && newVideos.size() >= compactThreshold) {
+                // The columns are copied as they are, without reading any video from them
+                videos = null;
+                copyColumns((ColumnarVideoList) newVideos);
+            } else if (newVideos.size() >= compactThreshold) {
+                videos = null;
+                createColumns(newVideos.size());
+                for (Video video : newVideos) {
+                    store(size++, video, false);
+                }
+            } else {
+                videos = new ArrayList<>(newVideos);
+                releaseColumns();
+            }
+
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (size() > 0) {
+                nextAdd(0, size());
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void doAdd(int index, Video video) {
+        if (videos != null) {
+            videos.add(index, video);
+            if (videos.size() >= compactThreshold) {
+                switchToColumns();
+            }
+            return;
+        }
+
+        checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+
+        System.arraycopy(names, index, names, index + 1, size - index);
+        System.arraycopy(timestamps, index, timestamps, index + 1, size - index);
+        System.arraycopy(tagSetIds, index, tagSetIds, index + 1, size - index);
+        System.arraycopy(views, index, views, index + 1, size - index);
+        for (int i = size; i > index; i--) {
+            watched.set(i, watched.get(i - 1));
+        }
+        size++;
+
+        store(index, video, true);
+    }
+
+    @Override
+    protected Video doSet(int index, Video video) {
+        if (videos != null) {
+            return videos.set(index, video);
+        }
+
+        Video oldVideo = get(index);
+        store(index, video, true);
+        return oldVideo;
+    }
+
+    @Override
+    protected Video doRemove(int index) {
+        if (videos != null) {
+            return videos.remove(index);
+        }
+
+        Video oldVideo = get(index);
+
+        System.arraycopy(names, index + 1, names, index, size - index - 1);
+        System.arraycopy(timestamps, index + 1, timestamps, index, size - index - 1);
+        System.arraycopy(tagSetIds, index + 1, tagSetIds, index, size - index - 1);
+        System.arraycopy(views, index + 1, views, index, size - index - 1);
+        for (int i = index; i < size - 1; i++) {
+            watched.set(i, watched.get(i + 1));
+        }
+        size--;
+        names[size] = null;
+        views[size] = null;
+        watched.clear(size);
+
+        if (size < compactThreshold / 2) {
+            switchToObjects();
+        }
+        return oldVideo;
+    }
+
+    /**
+     * Moves the videos that are stored as objects into columns, without changing the contents of the list.
+     */
+    private void switchToColumns() {
+        List<Video> storedVideos = videos;
+
+        videos = null;
+        createColumns(storedVideos.size());
+        for (Video video : storedVideos) {
+            store(size++, video, true);
+        }
+    }
+
+    /**
+     * Moves the videos that are stored in columns into objects, without changing the contents of the list.
+     */
+    private void switchToObjects() {
+        List<Video> storedVideos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            storedVideos.add(get(i));
+        }
+
+        videos = storedVideos;
+        releaseColumns();
+    }
+
+    /**
+     * Replaces the columns with empty columns that can hold {@code capacity} videos.
+     */
+    @SuppressWarnings("unchecked")
+    private void createColumns(int capacity) {
+        names = new VideoName[capacity];
+        watched = new BitSet();
+        timestamps = new int[capacity];
+        tagSetIds = new int[capacity];
+        views = new WeakReference[capacity];
+        size = 0;
+        tagSets = new ArrayList<>();
+        tagSetIdsBySet = new HashMap<>();
+    }
+
+    /**
+     * Replaces the columns with copies of the columns of {@code source}.
+     */
+    private void copyColumns(ColumnarVideoList source) {
+        names = Arrays.copyOf(source.names, source.size);
+        watched = (BitSet) source.watched.clone();
+        timestamps = Arrays.copyOf(source.timestamps, source.size);
+        tagSetIds = Arrays.copyOf(source.tagSetIds, source.size);
+        views = Arrays.copyOf(source.views, source.size);
+        size = source.size;
+        tagSets = new ArrayList<>(source.tagSets);
+        tagSetIdsBySet = new HashMap<>(source.tagSetIdsBySet);
+    }
+
+    /**
+     * Releases the columns, as the videos are stored as objects.
+     */
+    private void releaseColumns() {
+        names = null;
+        watched = null;
+        timestamps = null;
+        tagSetIds = null;
+        views = null;
+        size = 0;
+        tagSets = null;
+        tagSetIdsBySet = null;
+    }
+
+    /**
+     * Stores the fields of {@code video} in the columns at {@code index}.<p>
+     * If {@code isKeptAsView} is true, {@code video} itself is returned when the video at {@code index} is read for as
+     * long as it is in use. This is left out when many videos are stored at once, so that no reference is kept for
+     * each of them.
+     */
+    private void store(int index, Video video, boolean isKeptAsView) {
+        VideoTimestamp timestamp = video.getTimestamp();
+
+        names[index] = video.getName();
+        watched.set(index, video.hasWatched());
+        timestamps[index] = timestamp == null ? NO_TIMESTAMP : timestamp.getTotalSeconds();
+        tagSetIds[index] = getTagSetId(video.getTags());
+        views[index] = isKeptAsView ? new WeakReference<>(video) : null;
+    }
+
+    /**
+     * Returns the id of {@code tags} in this list, assigning a new id to it if it has not been used in this list.
+     */
+    private int getTagSetId(Set<Tag> tags) {
+        Integer id = tagSetIdsBySet.get(tags);
+        if (id == null) {
+            id = tagSets.size();
+            tagSets.add(tags);
+            tagSetIdsBySet.put(tags, id);
+        }
+        return id;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= names.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, names.length * 2);
+        names = Arrays.copyOf(names, newCapacity);
+        timestamps = Arrays.copyOf(timestamps, newCapacity);
+        tagSetIds = Arrays.copyOf(tagSetIds, newCapacity);
+        views = Arrays.copyOf(views, newCapacity);
+    }
+
+    private static void checkIndex(int index, int length) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+        }
+    }
+}
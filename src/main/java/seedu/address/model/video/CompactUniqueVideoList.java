@@ -0,0 +1,142 @@
+package seedu.address.model.video;
+
+import java.util.List;
+
+/**
+ * A {@code UniqueVideoList} that stores its videos compactly once it holds a large number of videos.<p>
+ *
+ * From its compact threshold, the fields of the videos are stored in columns, and {@code Video} objects are only
+ * created when they are read from the list. No hash index is kept while the videos are stored in columns, and videos
+ * are looked up by binary search over their names instead. Videos read from the list are equal to, but may not be the
+ * same instance as, the videos that were stored.
+ *
+ * @see UniqueVideoList
+ * @see ColumnarVideoList
+ */
+public class CompactUniqueVideoList extends UniqueVideoList {
+
+    private final ColumnarVideoList columns;
+
+    /**
+     * Constructs a {@code CompactUniqueVideoList} that always stores its videos in columns.
+     */
+    public CompactUniqueVideoList() {
+        this(0);
+    }
+
+    /**
+     * Constructs a {@code CompactUniqueVideoList} that stores its videos in columns once it holds at least
+     * {@code compactThreshold} videos, and as {@code Video} objects with a hash index while it holds fewer.
+     *
+     * @param compactThreshold The number of videos from which the videos are stored in columns.
+     */
+    public CompactUniqueVideoList(int compactThreshold) {
+        this(new ColumnarVideoList(compactThreshold));
+    }
+
+    private CompactUniqueVideoList(ColumnarVideoList columns) {
+        super(columns, !columns.isColumnar());
+        this.columns = columns;
+    }
+
+    @Override
+    public void add(Video toAdd) {
+        super.add(toAdd);
+        updateIndexed();
+    }
+
+    @Override
+    public void remove(Video toRemove) {
+        super.remove(toRemove);
+        updateIndexed();
+    }
+
+    @Override
+    public void setVideo(Video target, Video editedVideo) {
+        super.setVideo(target, editedVideo);
+        updateIndexed();
+    }
+
+    @Override
+    public void setVideos(UniqueVideoList replacement) {
+        super.setVideos(replacement);
+        updateIndexed();
+    }
+
+    @Override
+    public void setVideos(List<Video> videos) {
+        super.setVideos(videos);
+        updateIndexed();
+    }
+
+    @Override
+    public void applyChanges(List<Video> toRemove, List<Video> toAdd) {
+        super.applyChanges(toRemove, toAdd);
+        updateIndexed();
+    }
+
+    @Override
+    protected Video findByKey(List<Video> list, VideoName key) {
+        int position = positionOfName(key);
+        return position < 0 ? null : columns.get(position);
+    }
+
+    @Override
+    protected int insertionPosition(List<Video> list, Video toAdd) {
+        VideoName name = toAdd.getName();
+        int low = 0;
+        int high = columns.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (columns.getName(mid).compareTo(name) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    protected int positionOf(List<Video> list, Video existingData) {
+        return positionOfName(existingData.getName());
+    }
+
+    @Override
+    protected boolean isInPosition(List<Video> list, int position, Video editedData) {
+        VideoName name = editedData.getName();
+        return (position == 0 || columns.getName(position - 1).compareTo(name) <= 0)
+                && (position == columns.size() - 1 || name.compareTo(columns.getName(position + 1)) <= 0);
+    }
+
+    /**
+     * Keeps a hash index of the videos only while they are stored as {@code Video} objects.
+     */
+    private void updateIndexed() {
+        setIndexed(!columns.isColumnar());
+    }
+
+    /**
+     * Returns the position of the video with the name {@code name}, or -1 if there is no such video.
+     */
+    private int positionOfName(VideoName name) {
+        int low = 0;
+        int high = columns.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (columns.getName(mid).compareTo(name) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        // Several names may compare as equal to name when ignoring case, so look for the exact name among them
+        for (int i = low; i < columns.size() && columns.getName(i).compareTo(name) == 0; i++) {
+            if (columns.getName(i).equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.video;
 
 import java.util.List;
 
+import seedu.address.model.GroupableObservableList;
 import seedu.address.model.SortedUniqueDataList;
 import seedu.address.model.video.exceptions.DuplicateVideoException;
 import seedu.address.model.video.exceptions.VideoNotFoundException;
@@ -24,13 +25,23 @@ import seedu.address.model.video.exceptions.VideoNotFoundException;
  * @see Video#compareTo(Video)
  * @see Video#isSameVideo(Video)
  */
-public class UniqueVideoList extends SortedUniqueDataList<Video> {
+public class UniqueVideoList extends SortedUniqueDataList<VideoName, Video> {
 
     /**
      * Constructs a {@code UniqueVideoList}.
      */
     public UniqueVideoList() {
-        super((a, b) -> a.isSameVideo(b), DuplicateVideoException::new, VideoNotFoundException::new);
+        super(Video::getName, DuplicateVideoException::new, VideoNotFoundException::new);
+    }
+
+    /**
+     * Constructs a {@code UniqueVideoList} that stores its videos in {@code backingList}.
+     *
+     * @param backingList The empty list that the videos will be stored in.
+     * @param isIndexed Whether a hash index of name to video should be kept.
+     */
+    protected UniqueVideoList(GroupableObservableList<Video> backingList, boolean isIndexed) {
+        super(backingList, isIndexed, Video::getName, DuplicateVideoException::new, VideoNotFoundException::new);
     }
 
     /**
@@ -2,8 +2,6 @@ package seedu.address.model.video;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -19,7 +17,9 @@ public class Video implements Comparable<Video> {
     private final boolean hasWatched;
     private final VideoTimestamp timestamp;
 
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+
+    private final int hash;
 
     /**
      * Constructs a {@code Video}.
@@ -33,7 +33,8 @@ public class Video implements Comparable<Video> {
         this.name = name;
         this.hasWatched = hasWatched;
         this.timestamp = timestamp;
-        this.tags.addAll(tags);
+        this.tags = Tag.setOf(tags);
+        this.hash = Objects.hash(name, hasWatched, timestamp, this.tags);
     }
 
     @Override
@@ -60,7 +61,7 @@ public class Video implements Comparable<Video> {
      * @return An immutable tag set.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -97,7 +98,8 @@ public class Video implements Comparable<Video> {
         }
 
         Video otherVideo = (Video) other;
-        return otherVideo.getName().equals(getName())
+        return otherVideo.hash == hash
+                && otherVideo.getName().equals(getName())
                 && otherVideo.hasWatched() == hasWatched()
                 && otherVideo.getTimestamp().equals(getTimestamp())
                 && otherVideo.getTags().equals(getTags());
@@ -105,8 +107,7 @@ public class Video implements Comparable<Video> {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, hasWatched, timestamp, tags);
+        return hash;
     }
 
     @Override
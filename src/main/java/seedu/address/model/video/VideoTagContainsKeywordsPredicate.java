@@ -3,25 +3,23 @@ package seedu.address.model.video;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * Tests that a {@code Video}'s {@code tags} matches any of the keywords given.
  */
 public class VideoTagContainsKeywordsPredicate implements Predicate<Video> {
     private final List<String> keywords;
+    private final TagQuery query;
 
     public VideoTagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.query = TagQuery.anyOf(keywords);
     }
 
     @Override
     public boolean test(Video video) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                    StringUtil.containsWordIgnoreCase(
-                        StringUtil.joinTagsAsString(video.getTags()),
-                            StringUtil.joinSentenceToWord(keyword)));
+        return query.matches(video.getTags());
     }
 
     @Override
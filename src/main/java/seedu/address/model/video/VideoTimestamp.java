@@ -2,13 +2,10 @@ package seedu.address.model.video;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Represents a timestamp of a video.<p>
- * Guarantees: immutable, is valid as validated in {@link #validateTimestamp(String)}
+ * Guarantees: immutable, is valid as validated in {@link #validateTimestamp(String)}<p>
+ * The timestamp is stored as its total number of seconds, along with its string form.
  */
 public class VideoTimestamp {
 
@@ -25,21 +22,20 @@ public class VideoTimestamp {
             "Timestamp hours should be between 0 (inclusive) and 99 (inclusive), while minutes and seconds "
                     + "should be between 0 (inclusive) and 59 (inclusive)";
 
-    /** The regex for validating the video timestamp. */
-    public static final String VALIDATION_REGEX = "(\\d{2}):(\\d{2}):(\\d{2})";
-
-    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
-
-    private static final int MIN_HOURS = 0;
     private static final int MAX_HOURS = 99;
-    private static final int MIN_MINUTES = 0;
     private static final int MAX_MINUTES = 59;
-    private static final int MIN_SECONDS = 0;
     private static final int MAX_SECONDS = 59;
 
-    public final int hours;
-    public final int minutes;
-    public final int seconds;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 60 * SECONDS_PER_MINUTE;
+    private static final int MAX_TOTAL_SECONDS =
+            MAX_HOURS * SECONDS_PER_HOUR + MAX_MINUTES * SECONDS_PER_MINUTE + MAX_SECONDS;
+
+    private static final int TIMESTAMP_LENGTH = 8;
+    private static final char SEPARATOR = ':';
+
+    private final int totalSeconds;
+    private final String timestamp;
 
     /**
      * Constructs a {@code VideoTimestamp} with default values, {@link #DEFAULT_TIMESTAMP}.
@@ -49,20 +45,47 @@ public class VideoTimestamp {
     }
 
     /**
-     * Constructs a {@code VideoTimestamp}.
+     * Constructs a {@code VideoTimestamp}.<p>
+     * {@code timestamp} is parsed and validated in a single pass.
      *
      * @param timestamp A valid timestamp.
      * @throws IllegalArgumentException Indicates that {@code timestamp} is an invalid video timestamp. The exception's
      *                                  message contains the reason for the invalidity.
      */
     public VideoTimestamp(String timestamp) {
-        requireNonNull(timestamp);
-        validateTimestamp(timestamp);
+        this(parseTotalSeconds(timestamp), timestamp);
+    }
+
+    private VideoTimestamp(int totalSeconds, String timestamp) {
+        this.totalSeconds = totalSeconds;
+        // A valid timestamp is already in the canonical format
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns a {@code VideoTimestamp} that represents {@code totalSeconds} seconds.
+     *
+     * @param totalSeconds The number of seconds, which must be within the range of a valid timestamp.
+     * @return A {@code VideoTimestamp} that represents {@code totalSeconds} seconds.
+     * @throws IllegalArgumentException Indicates that {@code totalSeconds} is out of the range of a valid timestamp.
+     */
+    public static VideoTimestamp ofTotalSeconds(int totalSeconds) {
+        if (totalSeconds < 0 || totalSeconds > MAX_TOTAL_SECONDS) {
+            throw new IllegalArgumentException(MESSAGE_RANGE_CONSTRAINTS);
+        }
+
+        int hours = totalSeconds / SECONDS_PER_HOUR;
+        int minutes = totalSeconds % SECONDS_PER_HOUR / SECONDS_PER_MINUTE;
+        int seconds = totalSeconds % SECONDS_PER_MINUTE;
+        StringBuilder timestamp = new StringBuilder(TIMESTAMP_LENGTH);
+        appendTwoDigits(timestamp, hours).append(SEPARATOR);
+        appendTwoDigits(timestamp, minutes).append(SEPARATOR);
+        appendTwoDigits(timestamp, seconds);
+        return new VideoTimestamp(totalSeconds, timestamp.toString());
+    }
 
-        int[] hoursMinutesSeconds = extractHoursMinutesSeconds(timestamp);
-        hours = hoursMinutesSeconds[0];
-        minutes = hoursMinutesSeconds[1];
-        seconds = hoursMinutesSeconds[2];
+    private static StringBuilder appendTwoDigits(StringBuilder builder, int value) {
+        return builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
     }
 
     /**
@@ -73,56 +96,92 @@ public class VideoTimestamp {
      *                                  message contains the reason for the invalidity.
      */
     public static void validateTimestamp(String test) {
+        parseTotalSeconds(test);
+    }
+
+    /**
+     * Returns the number of hours of the timestamp.
+     *
+     * @return The number of hours of the timestamp.
+     */
+    public int getHours() {
+        return totalSeconds / SECONDS_PER_HOUR;
+    }
+
+    /**
+     * Returns the number of minutes of the timestamp, excluding the minutes in its hours.
+     *
+     * @return The number of minutes of the timestamp, excluding the minutes in its hours.
+     */
+    public int getMinutes() {
+        return totalSeconds % SECONDS_PER_HOUR / SECONDS_PER_MINUTE;
+    }
+
+    /**
+     * Returns the number of seconds of the timestamp, excluding the seconds in its hours and minutes.
+     *
+     * @return The number of seconds of the timestamp, excluding the seconds in its hours and minutes.
+     */
+    public int getSeconds() {
+        return totalSeconds % SECONDS_PER_MINUTE;
+    }
+
+    /**
+     * Returns the timestamp in seconds.
+     *
+     * @return The timestamp in seconds.
+     */
+    public int getTotalSeconds() {
+        return totalSeconds;
+    }
+
+    /**
+     * Parses {@code test} in the format 'HH:mm:ss' into the number of seconds it represents, validating it at the same
+     * time.
+     *
+     * @param test The string to parse.
+     * @return The number of seconds represented by {@code test}.
+     * @throws IllegalArgumentException Indicates that {@code test} is an invalid video timestamp. The exception's
+     *                                  message contains the reason for the invalidity.
+     */
+    private static int parseTotalSeconds(String test) {
         requireNonNull(test);
 
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (test.length() != TIMESTAMP_LENGTH || test.charAt(2) != SEPARATOR || test.charAt(5) != SEPARATOR) {
             throw new IllegalArgumentException(MESSAGE_FORMAT_CONSTRAINTS);
         }
 
-        int[] hoursMinutesSeconds = extractHoursMinutesSeconds(test);
+        int hours = parseTwoDigits(test, 0);
+        int minutes = parseTwoDigits(test, 3);
+        int seconds = parseTwoDigits(test, 6);
 
-        if (hoursMinutesSeconds == null) {
-            throw new IllegalArgumentException(MESSAGE_RANGE_CONSTRAINTS);
+        if (hours < 0 || minutes < 0 || seconds < 0) {
+            throw new IllegalArgumentException(MESSAGE_FORMAT_CONSTRAINTS);
         }
 
-        int hours = hoursMinutesSeconds[0];
-        int minutes = hoursMinutesSeconds[1];
-        int seconds = hoursMinutesSeconds[2];
-
-        if (hours < MIN_HOURS
-                || hours > MAX_HOURS
-                || minutes < MIN_MINUTES
-                || minutes > MAX_MINUTES
-                || seconds < MIN_SECONDS
-                || seconds > MAX_SECONDS) {
+        if (hours > MAX_HOURS || minutes > MAX_MINUTES || seconds > MAX_SECONDS) {
             throw new IllegalArgumentException(MESSAGE_RANGE_CONSTRAINTS);
         }
+
+        return hours * SECONDS_PER_HOUR + minutes * SECONDS_PER_MINUTE + seconds;
     }
 
-    private static int[] extractHoursMinutesSeconds(String timestamp) {
-        Matcher timestampMatcher = VALIDATION_PATTERN.matcher(timestamp);
-        timestampMatcher.find();
-
-        String hoursStr = timestampMatcher.group(1);
-        String minutesStr = timestampMatcher.group(2);
-        String secondsStr = timestampMatcher.group(3);
-
-        int[] hoursMinutesSeconds = new int[3];
-        try {
-            hoursMinutesSeconds[0] = Integer.parseInt(hoursStr);
-            hoursMinutesSeconds[1] = Integer.parseInt(minutesStr);
-            hoursMinutesSeconds[2] = Integer.parseInt(secondsStr);
-        } catch (NumberFormatException nfe) {
-            return null;
+    /**
+     * Returns the number represented by the 2 characters of {@code str} starting from {@code start}, or -1 if either
+     * of them is not a digit.
+     */
+    private static int parseTwoDigits(String str, int start) {
+        char tens = str.charAt(start);
+        char ones = str.charAt(start + 1);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return -1;
         }
-
-        return hoursMinutesSeconds;
+        return (tens - '0') * 10 + (ones - '0');
     }
 
-
     @Override
     public String toString() {
-        return String.format("%02d:%02d:%02d", hours, minutes, seconds);
+        return timestamp;
     }
 
     @Override
@@ -135,15 +194,11 @@ public class VideoTimestamp {
             return false;
         }
 
-        VideoTimestamp otherTimestamp = (VideoTimestamp) other;
-
-        return otherTimestamp.hours == hours
-            && otherTimestamp.minutes == minutes
-            && otherTimestamp.seconds == seconds;
+        return ((VideoTimestamp) other).totalSeconds == totalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(hours, minutes, seconds);
+        return Integer.hashCode(totalSeconds);
     }
 }
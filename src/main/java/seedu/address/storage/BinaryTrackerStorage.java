@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTracker;
+
+/**
+ * A class to access Tracker data stored as a compact binary snapshot file on the hard disk, followed by a journal
+ * of the changes made since the snapshot was saved.<p>
+ *
+ * The snapshot is saved in the format described in {@link BinaryTrackerStream}, which is smaller than json and is
+ * loaded without parsing text. Only the headers of the modules are loaded with the snapshot, and the lectures of a
+ * module are loaded when they are first needed. Changes are journaled as in {@link JournalingTrackerStorage}.
+ * Snapshots in any format are read, with the format detected from the contents of the file.
+ */
+public class BinaryTrackerStorage extends JournalingTrackerStorage {
+
+    /** The file extension of archives that are saved in the binary format. */
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Constructs a {@code BinaryTrackerStorage}.
+     *
+     * @param filePath The path to the data file.
+     */
+    public BinaryTrackerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Saves {@code tracker} in the binary format at {@code filePath}, and deletes its journal.<p>
+     * The tracker is first written to a temporary file, which then replaces the file at {@code filePath}, so that the
+     * file is never left partly written.
+     */
+    @Override
+    public void saveTracker(ReadOnlyTracker tracker, Path filePath) throws IOException {
+        requireAllNonNull(tracker, filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        BinaryTrackerStream.write(tracker, tempFilePath);
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+}
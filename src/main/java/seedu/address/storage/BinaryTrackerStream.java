@@ -0,0 +1,460 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyTracker;
+import seedu.address.model.Tracker;
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.lecture.LectureName;
+import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ModuleName;
+import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.module.exceptions.LectureLoadingException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.video.Video;
+import seedu.address.model.video.VideoName;
+import seedu.address.model.video.VideoTimestamp;
+
+/**
+ * Reads and writes a {@link Tracker} in a compact binary format.<p>
+ *
+ * The file starts with {@link #MAGIC} and the format version, followed by a string table holding every code, name
+ * and tag once, which starts with the position of each string. Each module is then stored as a length-prefixed record
+ * that refers to strings by their index in the string table. A record starts with the header of the module, which is
+ * its code, name, tags, number of lectures, number of completed lectures and the sum of the hashes of its lectures, and
+ * is followed by its lectures and their videos. An offset table of the position of each module record is stored after
+ * the records, and the file ends with the position of the offset table. All numbers are big-endian {@code int}s, except
+ * for the watch status of a video, which is a byte.<p>
+ *
+ * Only the module headers are read with the file. The lectures of a module are read from its record when they are
+ * first needed, so reading the file does not build or validate the lectures and videos in it. The file is held in a
+ * direct buffer outside of the heap rather than mapped, so that the file can be replaced on every platform while
+ * lectures are still to be read from the buffer. Each distinct string is validated once each time lectures are read,
+ * rather than once for every time it is used.
+ */
+final class BinaryTrackerStream {
+
+    /** The bytes that every binary tracker file starts with, "LTRK" in ASCII. */
+    static final int MAGIC = 0x4C54524B;
+    static final int FORMAT_VERSION = 1;
+
+    static final String MESSAGE_CORRUPTED_FILE = "Binary tracker file is corrupted.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Binary tracker file format version %d is not supported.";
+
+    private BinaryTrackerStream() {}
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC}.
+     *
+     * @param filePath The path to the file.
+     * @return True if the file is a binary tracker file. Otherwise, returns false.
+     * @throws IOException Indicates that there was an error reading the file.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        byte[] header = new byte[Integer.BYTES];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int length = in.readNBytes(header, 0, header.length);
+            return length == header.length && ByteBuffer.wrap(header).getInt() == MAGIC;
+        }
+    }
+
+    //// writing
+
+    /**
+     * Writes {@code tracker} in the binary format to the file at {@code filePath}, replacing its contents.
+     *
+     * @param tracker The tracker to write.
+     * @param filePath The path to the file.
+     * @throws IOException Indicates that there was an error writing to the file.
+     */
+    static void write(ReadOnlyTracker tracker, Path filePath) throws IOException {
+        requireAllNonNull(tracker, filePath);
+
+        Map<String, Integer> stringIds = collectStrings(tracker);
+        List<byte[]> stringBytes = new ArrayList<>(stringIds.size());
+        for (String string : stringIds.keySet()) {
+            stringBytes.add(string.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            out.writeInt(stringBytes.size());
+            int stringPosition = out.size() + stringBytes.size() * Integer.BYTES;
+            for (byte[] bytes : stringBytes) {
+                out.writeInt(stringPosition);
+                stringPosition += Integer.BYTES + bytes.length;
+            }
+            for (byte[] bytes : stringBytes) {
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            List<Integer> moduleOffsets = new ArrayList<>();
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(recordBytes);
+            for (ReadOnlyModule module : tracker.getModuleList()) {
+                recordBytes.reset();
+                writeModule(record, module, stringIds);
+
+                moduleOffsets.add(out.size());
+                out.writeInt(recordBytes.size());
+                recordBytes.writeTo(out);
+            }
+
+            int offsetTablePosition = out.size();
+            out.writeInt(moduleOffsets.size());
+            for (int offset : moduleOffsets) {
+                out.writeInt(offset);
+            }
+            out.writeInt(offsetTablePosition);
+        }
+    }
+
+    private static Map<String, Integer> collectStrings(ReadOnlyTracker tracker) {
+        Map<String, Integer> stringIds = new LinkedHashMap<>();
+        for (ReadOnlyModule module : tracker.getModuleList()) {
+            addString(stringIds, module.getCode().code);
+            addString(stringIds, module.getName().name);
+            module.getTags().forEach(tag -> addString(stringIds, tag.tagName));
+            for (ReadOnlyLecture lecture : module.getLectureList()) {
+                addString(stringIds, lecture.getName().name);
+                lecture.getTags().forEach(tag -> addString(stringIds, tag.tagName));
+                for (Video video : lecture.getVideoList()) {
+                    addString(stringIds, video.getName().name);
+                    video.getTags().forEach(tag -> addString(stringIds, tag.tagName));
+                }
+            }
+        }
+        return stringIds;
+    }
+
+    private static void addString(Map<String, Integer> stringIds, String string) {
+        stringIds.putIfAbsent(string, stringIds.size());
+    }
+
+    private static void writeModule(DataOutputStream out, ReadOnlyModule module, Map<String, Integer> stringIds)
+            throws IOException {
+        out.writeInt(stringIds.get(module.getCode().code));
+        out.writeInt(stringIds.get(module.getName().name));
+        writeTags(out, module.getTags(), stringIds);
+        out.writeInt(module.getLectureList().size());
+        out.writeInt(module.getCompletedLectureCount());
+        out.writeInt(module.getLecturesHash());
+        for (ReadOnlyLecture lecture : module.getLectureList()) {
+            out.writeInt(stringIds.get(lecture.getName().name));
+            writeTags(out, lecture.getTags(), stringIds);
+            out.writeInt(lecture.getVideoList().size());
+            for (Video video : lecture.getVideoList()) {
+                out.writeInt(stringIds.get(video.getName().name));
+                out.writeBoolean(video.hasWatched());
+                out.writeInt(video.getTimestamp().getTotalSeconds());
+                writeTags(out, video.getTags(), stringIds);
+            }
+        }
+    }
+
+    private static void writeTags(DataOutputStream out, Set<Tag> tags, Map<String, Integer> stringIds)
+            throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeInt(stringIds.get(tag.tagName));
+        }
+    }
+
+    //// reading
+
+    /**
+     * Reads the tracker written in the binary format in the file at {@code filePath}.<p>
+     * The lectures of the modules are only read when they are first needed, which throws
+     * {@link LectureLoadingException} if they cannot be read.
+     *
+     * @param filePath The path to the file.
+     * @return The tracker read from the file.
+     * @throws IOException Indicates that there was an error reading the file.
+     * @throws IllegalValueException Indicates that the file is corrupted or that some data constraints were violated
+     *                               in the module headers of the file.
+     */
+    static Tracker read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            buffer = ByteBuffer.allocateDirect((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Read until the buffer is full or the end of the file is reached
+            }
+            buffer.flip();
+        }
+
+        try {
+            return new Reader(buffer).readTracker();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            // Offsets, lengths or string ids that point outside of the file
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    /**
+     * Reads a tracker from a buffer holding a binary tracker file.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        private final ByteBuffer stringBuffer;
+        private int stringCount;
+        private int stringPositionsPosition;
+
+        private final Map<Integer, Tag> tags = new HashMap<>();
+        private final Map<Integer, LectureName> lectureNames = new HashMap<>();
+        private final Map<Integer, VideoName> videoNames = new HashMap<>();
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.stringBuffer = buffer.duplicate();
+        }
+
+        /**
+         * Returns a reader of the same file with its own position, so that lectures can be read from the file while
+         * it is being read by another reader.
+         */
+        private Reader copy() {
+            Reader reader = new Reader(buffer.duplicate());
+            reader.stringCount = stringCount;
+            reader.stringPositionsPosition = stringPositionsPosition;
+            return reader;
+        }
+
+        Tracker readTracker() throws IllegalValueException {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            int formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+            }
+
+            readStringTable();
+
+            buffer.position(buffer.getInt(buffer.limit() - Integer.BYTES));
+            int[] moduleOffsets = new int[getCount()];
+            for (int i = 0; i < moduleOffsets.length; i++) {
+                moduleOffsets[i] = buffer.getInt();
+            }
+
+            List<Module> modules = new ArrayList<>(moduleOffsets.length);
+            Set<ModuleCode> moduleCodes = new HashSet<>();
+            for (int offset : moduleOffsets) {
+                buffer.position(offset);
+                int recordEnd = getCount();
+                recordEnd += buffer.position();
+
+                Module module = readModule(recordEnd);
+                if (buffer.position() != recordEnd) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+                }
+                if (!moduleCodes.add(module.getCode())) {
+                    throw new IllegalValueException(JsonSerializableTracker.MESSAGE_DUPLICATE_MODULE);
+                }
+                modules.add(module);
+            }
+
+            Tracker tracker = new Tracker();
+            tracker.setModules(modules);
+            return tracker;
+        }
+
+        private void readStringTable() throws IllegalValueException {
+            stringCount = getCount();
+
+            // Strings are only decoded when they are used, through their positions
+            stringPositionsPosition = buffer.position();
+            if (stringCount > buffer.remaining() / Integer.BYTES) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+        }
+
+        private String getString(int id) throws IllegalValueException {
+            if (id < 0 || id >= stringCount) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            stringBuffer.position(buffer.getInt(stringPositionsPosition + id * Integer.BYTES));
+            int length = stringBuffer.getInt();
+            if (length < 0 || length > stringBuffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            byte[] bytes = new byte[length];
+            stringBuffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Reads a count or length, which cannot be more than the number of bytes left in the buffer.
+         */
+        private int getCount() throws IllegalValueException {
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            return count;
+        }
+
+        private Module readModule(int recordEnd) throws IllegalValueException {
+            String code = getString(buffer.getInt());
+            if (!ModuleCode.isValidCode(code)) {
+                throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
+            }
+            String name = getString(buffer.getInt());
+            if (!ModuleName.isValidName(name)) {
+                throw new IllegalValueException(ModuleName.MESSAGE_CONSTRAINTS);
+            }
+            Set<Tag> moduleTags = readTags();
+
+            int lectureCount = getCount();
+            int completedLectureCount = getCount();
+            if (completedLectureCount > lectureCount) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            int lecturesHash = buffer.getInt();
+            int lecturesPosition = buffer.position();
+            buffer.position(recordEnd);
+            return new Module(ModuleCode.of(code), new ModuleName(name), moduleTags, lectureCount,
+                    completedLectureCount, lecturesHash, () ->
+                    copy().loadLectures(lecturesPosition, lectureCount, lecturesHash, recordEnd));
+        }
+
+        /**
+         * Reads the {@code lectureCount} lectures of a module record, which start at {@code lecturesPosition} and end
+         * at {@code recordEnd}, and whose hashes add up to {@code lecturesHash}.
+         *
+         * @throws LectureLoadingException Indicates that the lectures are corrupted or that some data constraints
+         *                                 were violated in the lectures.
+         */
+        private List<Lecture> loadLectures(int lecturesPosition, int lectureCount, int lecturesHash, int recordEnd) {
+            try {
+                buffer.position(lecturesPosition);
+                List<Lecture> lectures = readLectures(lectureCount);
+                if (buffer.position() != recordEnd
+                        || lectures.stream().mapToInt(Lecture::hashCode).sum() != lecturesHash) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+                }
+                return lectures;
+            } catch (IllegalValueException ive) {
+                throw new LectureLoadingException(ive.getMessage(), ive);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+                throw new LectureLoadingException(MESSAGE_CORRUPTED_FILE, e);
+            }
+        }
+
+        private List<Lecture> readLectures(int lectureCount) throws IllegalValueException {
+            List<Lecture> lectures = new ArrayList<>(lectureCount);
+            Set<LectureName> names = new HashSet<>();
+            for (int i = 0; i < lectureCount; i++) {
+                Lecture lecture = readLecture();
+                if (!names.add(lecture.getName())) {
+                    throw new IllegalValueException(JsonAdaptedModule.MESSAGE_DUPLICATE_LECTURE);
+                }
+                lectures.add(lecture);
+            }
+            return lectures;
+        }
+
+        private Lecture readLecture() throws IllegalValueException {
+            int nameId = buffer.getInt();
+            LectureName name = lectureNames.get(nameId);
+            if (name == null) {
+                String string = getString(nameId);
+                if (!LectureName.isValidName(string)) {
+                    throw new IllegalValueException(LectureName.MESSAGE_CONSTRAINTS);
+                }
+                name = LectureName.of(string);
+                lectureNames.put(nameId, name);
+            }
+            Set<Tag> lectureTags = readTags();
+
+            int videoCount = getCount();
+            List<Video> videos = new ArrayList<>(videoCount);
+            Set<VideoName> names = new HashSet<>();
+            for (int i = 0; i < videoCount; i++) {
+                Video video = readVideo();
+                if (!names.add(video.getName())) {
+                    throw new IllegalValueException(JsonAdaptedLecture.MESSAGE_DUPLICATE_VIDEO);
+                }
+                videos.add(video);
+            }
+
+            return new Lecture(name, lectureTags, videos);
+        }
+
+        private Video readVideo() throws IllegalValueException {
+            int nameId = buffer.getInt();
+            VideoName name = videoNames.get(nameId);
+            if (name == null) {
+                String string = getString(nameId);
+                if (!VideoName.isValidName(string)) {
+                    throw new IllegalValueException(VideoName.MESSAGE_CONSTRAINTS);
+                }
+                name = new VideoName(string);
+                videoNames.put(nameId, name);
+            }
+            boolean hasWatched = buffer.get() != 0;
+            VideoTimestamp timestamp;
+            try {
+                timestamp = VideoTimestamp.ofTotalSeconds(buffer.getInt());
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage());
+            }
+            Set<Tag> videoTags = readTags();
+
+            return new Video(name, hasWatched, timestamp, videoTags);
+        }
+
+        private Set<Tag> readTags() throws IllegalValueException {
+            int tagCount = getCount();
+            Set<Tag> result = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                int tagId = buffer.getInt();
+                Tag tag = tags.get(tagId);
+                if (tag == null) {
+                    String string = getString(tagId);
+                    if (!Tag.isValidTagName(string)) {
+                        throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                    }
+                    tag = Tag.of(string);
+                    tags.put(tagId, tag);
+                }
+                result.add(tag);
+            }
+            return result;
+        }
+    }
+}
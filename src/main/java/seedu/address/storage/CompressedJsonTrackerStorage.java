@@ -0,0 +1,38 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTracker;
+
+/**
+ * A class to access Tracker data stored as json compressed with gzip on the hard disk.<p>
+ *
+ * The json is compressed and decompressed as a stream while it is written and read, so the whole json is never held
+ * in memory. Files in any format are read, with compression and the format detected from the contents of the file.
+ */
+public class CompressedJsonTrackerStorage extends JsonTrackerStorage {
+
+    /** The file extension of archives that are saved as compressed json. */
+    public static final String FILE_EXTENSION = ".gz";
+
+    /**
+     * Constructs a {@code CompressedJsonTrackerStorage}.
+     *
+     * @param filePath The path to the data file.
+     */
+    public CompressedJsonTrackerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    public void saveTracker(ReadOnlyTracker tracker, Path filePath) throws IOException {
+        requireAllNonNull(tracker, filePath);
+
+        FileUtil.createIfMissing(filePath);
+        JsonTrackerStream.write(tracker, filePath, true);
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTracker;
+import seedu.address.model.Tracker;
+import seedu.address.model.module.ModuleCode;
+
+/**
+ * A class to access Tracker data stored as a json snapshot file, followed by a journal of the changes made since the
+ * snapshot was saved.<p>
+ *
+ * The journal is stored next to the snapshot file, with {@value #JOURNAL_FILE_SUFFIX} appended to its name. Each
+ * change is appended to it as a {@link JsonAdaptedTrackerChange} on its own line, so saving a change does not
+ * rewrite the whole tracker. Reading the tracker loads the snapshot and applies the changes in the journal to it.
+ * Saving the whole tracker replaces the snapshot and deletes the journal, which compacts the journal into the
+ * snapshot.<p>
+ *
+ * A change that was only partly appended, such as when the app is stopped while appending it, is ignored when the
+ * journal is read. As changes can be applied again, a journal that was not deleted after its snapshot was replaced
+ * does not change the tracker when it is read.
+ */
+public class JournalingTrackerStorage extends JsonTrackerStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingTrackerStorage.class);
+
+    /**
+     * Constructs a {@code JournalingTrackerStorage}.
+     *
+     * @param filePath The path to the snapshot file.
+     */
+    public JournalingTrackerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Returns the file path of the journal of the snapshot file at {@code filePath}.
+     *
+     * @param filePath The path to the snapshot file.
+     * @return The file path of the journal.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyTracker> readTracker(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<Tracker> snapshot = readTrackerFile(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return snapshot.map(tracker -> tracker);
+        }
+
+        List<JsonAdaptedTrackerChange> changes = readJournal(journalFilePath);
+        Tracker tracker = snapshot.orElseGet(Tracker::new);
+        try {
+            for (JsonAdaptedTrackerChange change : changes) {
+                change.applyTo(tracker);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        logger.fine("Applied " + changes.size() + " change(s) from " + journalFilePath);
+        return Optional.of(tracker);
+    }
+
+    /**
+     * {@inheritDoc}<p>
+     * If the snapshot has a journal, the whole snapshot is read, as the changes in the journal may move lectures and
+     * videos into the modules that are read from other modules.
+     */
+    @Override
+    public Optional<ReadOnlyTracker> readTracker(Path filePath, Set<ModuleCode> moduleCodes)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, moduleCodes);
+
+        if (!Files.exists(getJournalFilePath(filePath))) {
+            return super.readTracker(filePath, moduleCodes);
+        }
+        return readTracker(filePath).map(tracker -> selectModules((Tracker) tracker, toModuleFilter(moduleCodes)));
+    }
+
+    @Override
+    public void saveTracker(ReadOnlyTracker tracker, Path filePath) throws IOException {
+        requireAllNonNull(tracker, filePath);
+
+        super.saveTracker(tracker, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    @Override
+    public boolean canAppendChanges() {
+        return true;
+    }
+
+    /**
+     * Appends {@code changes} to the journal. As the changes are recorded, {@code changedModules} is not written.
+     */
+    @Override
+    public void appendChanges(List<JsonAdaptedTrackerChange> changes, ReadOnlyTracker changedModules)
+            throws IOException {
+        requireAllNonNull(changes, changedModules);
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedTrackerChange change : changes) {
+            lines.append(JsonUtil.toCompactJsonString(change)).append('\n');
+        }
+
+        Path journalFilePath = getJournalFilePath(getTrackerFilePath());
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        Files.write(journalFilePath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static List<JsonAdaptedTrackerChange> readJournal(Path journalFilePath)
+            throws DataConversionException, IOException {
+        String content = FileUtil.readFromFile(journalFilePath);
+        // Everything after the last line break is a change that was only partly appended
+        String completeContent = content.substring(0, content.lastIndexOf('\n') + 1);
+
+        List<JsonAdaptedTrackerChange> changes = new ArrayList<>();
+        for (String line : completeContent.split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            try {
+                changes.add(JsonUtil.fromJsonString(line, JsonAdaptedTrackerChange.class));
+            } catch (IOException ioe) {
+                logger.warning("Error reading change from journal file " + journalFilePath + ": " + ioe);
+                throw new DataConversionException(ioe);
+            }
+        }
+        return changes;
+    }
+}
@@ -108,7 +108,7 @@ public class JsonAdaptedLecture {
         if (!LectureName.isValidName(name)) {
             throw new IllegalValueException(LectureName.MESSAGE_CONSTRAINTS);
         }
-        final LectureName lectureName = new LectureName(name);
+        final LectureName lectureName = LectureName.of(name);
 
         return new Lecture(lectureName, lectureTags, lectureVideos.asUnmodifiableObservableList());
     }
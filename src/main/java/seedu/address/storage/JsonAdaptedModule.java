@@ -11,7 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.lecture.Lecture;
-import seedu.address.model.lecture.UniqueLectureList;
+import seedu.address.model.lecture.exceptions.DuplicateLectureException;
 import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ModuleName;
@@ -26,6 +26,9 @@ public class JsonAdaptedModule {
     public static final String MESSAGE_DUPLICATE_LECTURE = "Lecture list contains duplicate lecture(s).";
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Module's %s field is missing!";
 
+    /** The largest number of lectures of a module that are converted by a single task. */
+    static final int LECTURE_SLICE_SIZE = 64;
+
     private final String code;
     private final String name;
     private final List<JsonAdaptedLecture> lectures = new ArrayList<>();
@@ -77,6 +80,13 @@ public class JsonAdaptedModule {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the code of the module, which has not been validated.
+     */
+    String getCode() {
+        return code;
+    }
+
     /**
      * Converts Jackson-friendly adapted module object into the model's {@code Module} object.
      *
@@ -93,20 +103,9 @@ public class JsonAdaptedModule {
             moduleTags.add(adaptedTag.toModelType());
         }
 
-        final UniqueLectureList moduleLectures = new UniqueLectureList();
-        for (JsonAdaptedLecture adaptedLecture : lectures) {
-            if (adaptedLecture == null) {
-                continue;
-            }
-
-            Lecture lecture = adaptedLecture.toModelType();
-
-            if (moduleLectures.contains(lecture)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LECTURE);
-            }
-
-            moduleLectures.add(lecture);
-        }
+        // Only the lectures of large modules are converted in parallel, smaller ones are converted in this thread
+        final List<Lecture> moduleLectures = ParallelConverter.convertAll(lectures, JsonAdaptedLecture::toModelType,
+                LECTURE_SLICE_SIZE);
 
         if (code == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "code"));
@@ -114,7 +113,7 @@ public class JsonAdaptedModule {
         if (!ModuleCode.isValidCode(code)) {
             throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
         }
-        final ModuleCode moduleCode = new ModuleCode(code);
+        final ModuleCode moduleCode = ModuleCode.of(code);
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "name"));
@@ -124,6 +123,11 @@ public class JsonAdaptedModule {
         }
         final ModuleName moduleName = new ModuleName(name);
 
-        return new Module(moduleCode, moduleName, moduleTags, moduleLectures.asUnmodifiableObservableList());
+        // Duplicate lectures are detected in a single pass when the lectures are indexed by the module
+        try {
+            return new Module(moduleCode, moduleName, moduleTags, moduleLectures);
+        } catch (DuplicateLectureException dle) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_LECTURE);
+        }
     }
 }
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.module.LectureLoader;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ReadOnlyModule;
+
+/**
+ * Jackson-friendly version of the fields of a {@link Module} that are known without loading its lectures.
+ */
+class JsonAdaptedModuleHeader {
+
+    public static final String MESSAGE_INVALID_LECTURE_COUNTS = "Module's lecture counts are invalid.";
+
+    private final String code;
+    private final String name;
+    private final List<JsonAdaptedTag> tagged = new ArrayList<>();
+    private final int lectureCount;
+    private final int completedLectureCount;
+    private final int lecturesHash;
+
+    /**
+     * Constructs a {@code JsonAdaptedModuleHeader} with the given module details.
+     *
+     * @param code The code of the module.
+     * @param name The name of the module.
+     * @param tagged The tags applied to the module.
+     * @param lectureCount The number of lectures of the module.
+     * @param completedLectureCount The number of lectures of the module that have been completed.
+     * @param lecturesHash The sum of the hashes of the lectures of the module.
+     */
+    @JsonCreator
+    public JsonAdaptedModuleHeader(@JsonProperty("code") String code,
+            @JsonProperty("name") String name,
+            @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
+            @JsonProperty("lectureCount") int lectureCount,
+            @JsonProperty("completedLectureCount") int completedLectureCount,
+            @JsonProperty("lecturesHash") int lecturesHash) {
+        this.code = code;
+        this.name = name;
+
+        if (tagged != null) {
+            this.tagged.addAll(tagged);
+        }
+
+        this.lectureCount = lectureCount;
+        this.completedLectureCount = completedLectureCount;
+        this.lecturesHash = lecturesHash;
+    }
+
+    /**
+     * Converts the fields of a given {@code Module} that are known without loading its lectures into a
+     * {@code JsonAdaptedModuleHeader} for Jackson use.
+     *
+     * @param source The module to be converted.
+     */
+    public JsonAdaptedModuleHeader(ReadOnlyModule source) {
+        code = source.getCode().code;
+        name = source.getName().name;
+        tagged.addAll(source
+                .getTags()
+                .stream()
+                .map(JsonAdaptedTag::new)
+                .collect(Collectors.toList()));
+        lectureCount = source.getLectureCount();
+        completedLectureCount = source.getCompletedLectureCount();
+        lecturesHash = source.getLecturesHash();
+    }
+
+    /**
+     * Returns the code of the module, which has not been validated.
+     */
+    String getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the sum of the hashes of the lectures of the module.
+     */
+    int getLecturesHash() {
+        return lecturesHash;
+    }
+
+    /**
+     * Converts the header into the model's {@code Module} object, whose lectures are loaded by {@code lectureLoader}
+     * when they are first needed.
+     *
+     * @param lectureLoader The loader of the lectures of the module.
+     * @return The resulting {@code Module} object.
+     * @throws IllegalValueException Indicates that some data constraints were violated in the header.
+     */
+    public Module toModelType(LectureLoader lectureLoader) throws IllegalValueException {
+        Module header = new JsonAdaptedModule(code, name, null, tagged).toModelType();
+
+        if (lectureCount < 0 || completedLectureCount < 0 || completedLectureCount > lectureCount) {
+            throw new IllegalValueException(MESSAGE_INVALID_LECTURE_COUNTS);
+        }
+        return new Module(header.getCode(), header.getName(), header.getTags(), lectureCount, completedLectureCount,
+                lecturesHash, lectureLoader);
+    }
+}
@@ -0,0 +1,379 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Tracker;
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.lecture.LectureName;
+import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.video.Video;
+import seedu.address.model.video.VideoName;
+
+/**
+ * Jackson-friendly version of a change to a module, lecture or video of a {@link Tracker}, as recorded in a
+ * journal.<p>
+ *
+ * A change replaces the entity identified by its target with its edited entity. The target is absent if the entity
+ * was added, and the edited entity is absent if the entity was deleted. The edited entity is converted when the change
+ * is constructed, so later changes to the entity do not affect the change.<p>
+ *
+ * A module or lecture that was edited without changing its lectures or videos, such as by renaming or tagging it, is
+ * recorded as a change to its header. Only the code or name and tags of the edited entity are recorded, and the
+ * change is applied by giving the target the recorded header, without converting its lectures or videos.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JsonAdaptedTrackerChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+
+    /**
+     * The kind of entity that is changed.
+     */
+    public enum Kind {
+        MODULE, MODULE_HEADER, LECTURE, LECTURE_HEADER, VIDEO
+    }
+
+    private final Kind kind;
+    private final String module;
+    private final String lecture;
+    private final String target;
+
+    private final JsonAdaptedModule editedModule;
+    private final JsonAdaptedLecture editedLecture;
+    private final JsonAdaptedVideo editedVideo;
+
+    /**
+     * Constructs a {@code JsonAdaptedTrackerChange} with the given change details.
+     *
+     * @param kind The kind of entity that is changed.
+     * @param module The code of the module containing the changed lecture or video.
+     * @param lecture The name of the lecture containing the changed video.
+     * @param target The code or name of the changed entity before the change.
+     * @param editedModule The module after the change.
+     * @param editedLecture The lecture after the change.
+     * @param editedVideo The video after the change.
+     */
+    @JsonCreator
+    public JsonAdaptedTrackerChange(@JsonProperty("kind") Kind kind,
+            @JsonProperty("module") String module,
+            @JsonProperty("lecture") String lecture,
+            @JsonProperty("target") String target,
+            @JsonProperty("editedModule") JsonAdaptedModule editedModule,
+            @JsonProperty("editedLecture") JsonAdaptedLecture editedLecture,
+            @JsonProperty("editedVideo") JsonAdaptedVideo editedVideo) {
+        this.kind = kind;
+        this.module = module;
+        this.lecture = lecture;
+        this.target = target;
+        this.editedModule = editedModule;
+        this.editedLecture = editedLecture;
+        this.editedVideo = editedVideo;
+    }
+
+    /**
+     * Converts a change to a module into a {@code JsonAdaptedTrackerChange} for Jackson use.
+     *
+     * @param originalModule The module before the change. {@code null} if the module was added.
+     * @param editedModule The module after the change. {@code null} if the module was deleted.
+     */
+    public JsonAdaptedTrackerChange(ReadOnlyModule originalModule, ReadOnlyModule editedModule) {
+        this(hasSameLectures(originalModule, editedModule) ? Kind.MODULE_HEADER : Kind.MODULE, null, null,
+                originalModule == null ? null : originalModule.getCode().code,
+                adaptEditedModule(originalModule, editedModule), null, null);
+    }
+
+    /**
+     * Converts a change to a lecture into a {@code JsonAdaptedTrackerChange} for Jackson use.
+     *
+     * @param moduleCode The code of the module containing the lecture.
+     * @param originalLecture The lecture before the change. {@code null} if the lecture was added.
+     * @param editedLecture The lecture after the change. {@code null} if the lecture was deleted.
+     */
+    public JsonAdaptedTrackerChange(ModuleCode moduleCode, ReadOnlyLecture originalLecture,
+            ReadOnlyLecture editedLecture) {
+        this(hasSameVideos(originalLecture, editedLecture) ? Kind.LECTURE_HEADER : Kind.LECTURE, moduleCode.code, null,
+                originalLecture == null ? null : originalLecture.getName().name, null,
+                adaptEditedLecture(originalLecture, editedLecture), null);
+    }
+
+    private static boolean hasSameLectures(ReadOnlyModule originalModule, ReadOnlyModule editedModule) {
+        return originalModule instanceof Module && editedModule instanceof Module
+                && ((Module) editedModule).hasSameLecturesAs((Module) originalModule);
+    }
+
+    private static boolean hasSameVideos(ReadOnlyLecture originalLecture, ReadOnlyLecture editedLecture) {
+        return originalLecture instanceof Lecture && editedLecture instanceof Lecture
+                && ((Lecture) editedLecture).hasSameVideosAs((Lecture) originalLecture);
+    }
+
+    private static JsonAdaptedModule adaptEditedModule(ReadOnlyModule originalModule, ReadOnlyModule editedModule) {
+        if (editedModule == null) {
+            return null;
+        }
+        if (!hasSameLectures(originalModule, editedModule)) {
+            return new JsonAdaptedModule(editedModule);
+        }
+        return new JsonAdaptedModule(editedModule.getCode().code, editedModule.getName().name, null,
+                adaptTags(editedModule.getTags()));
+    }
+
+    private static JsonAdaptedLecture adaptEditedLecture(ReadOnlyLecture originalLecture,
+            ReadOnlyLecture editedLecture) {
+        if (editedLecture == null) {
+            return null;
+        }
+        if (!hasSameVideos(originalLecture, editedLecture)) {
+            return new JsonAdaptedLecture(editedLecture);
+        }
+        return new JsonAdaptedLecture(editedLecture.getName().name, null, adaptTags(editedLecture.getTags()));
+    }
+
+    private static List<JsonAdaptedTag> adaptTags(Set<Tag> tags) {
+        return tags.stream().map(JsonAdaptedTag::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts a change to a video into a {@code JsonAdaptedTrackerChange} for Jackson use.
+     *
+     * @param moduleCode The code of the module containing the video.
+     * @param lectureName The name of the lecture containing the video.
+     * @param originalVideo The video before the change. {@code null} if the video was added.
+     * @param editedVideo The video after the change. {@code null} if the video was deleted.
+     */
+    public JsonAdaptedTrackerChange(ModuleCode moduleCode, LectureName lectureName, Video originalVideo,
+            Video editedVideo) {
+        this(Kind.VIDEO, moduleCode.code, lectureName.name,
+                originalVideo == null ? null : originalVideo.getName().name, null, null,
+                editedVideo == null ? null : new JsonAdaptedVideo(editedVideo));
+    }
+
+    /**
+     * Returns the codes of the modules that this change affects, as they are stored in the change. Codes have not
+     * been validated.
+     */
+    List<String> getModuleCodes() {
+        List<String> moduleCodes = new ArrayList<>();
+        if (module != null) {
+            moduleCodes.add(module);
+        }
+        if (target != null && (kind == Kind.MODULE || kind == Kind.MODULE_HEADER)) {
+            moduleCodes.add(target);
+        }
+        if (editedModule != null) {
+            moduleCodes.add(editedModule.getCode());
+        }
+        return moduleCodes;
+    }
+
+    /**
+     * Applies this change to {@code tracker}.<p>
+     *
+     * The target is removed if it exists, and the edited entity is added, replacing any entity with the same code or
+     * name. A change to a lecture or video whose module or lecture does not exist is skipped. As such, applying a
+     * sequence of changes again to a tracker that already contains them leaves the tracker unchanged.
+     *
+     * @param tracker The tracker to apply the change to.
+     * @throws IllegalValueException Indicates that some data constraints were violated in the adapted change.
+     */
+    public void applyTo(Tracker tracker) throws IllegalValueException {
+        requireNonNull(tracker);
+
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "kind"));
+        }
+
+        switch (kind) {
+        case MODULE:
+            applyModuleChange(tracker);
+            break;
+        case MODULE_HEADER:
+            applyModuleHeaderChange(tracker);
+            break;
+        case LECTURE:
+            applyLectureChange(tracker);
+            break;
+        case LECTURE_HEADER:
+            applyLectureHeaderChange(tracker);
+            break;
+        default:
+            applyVideoChange(tracker);
+            break;
+        }
+    }
+
+    private void applyModuleChange(Tracker tracker) throws IllegalValueException {
+        if (target != null) {
+            ReadOnlyModule targetModule = tracker.getModule(toModuleCode(target));
+            if (targetModule != null) {
+                tracker.removeModule(targetModule);
+            }
+        }
+
+        if (editedModule != null) {
+            Module moduleToAdd = editedModule.toModelType();
+            ReadOnlyModule existingModule = tracker.getModule(moduleToAdd.getCode());
+            if (existingModule == null) {
+                tracker.addModule(moduleToAdd);
+            } else {
+                tracker.setModule(existingModule, moduleToAdd);
+            }
+        }
+    }
+
+    private void applyModuleHeaderChange(Tracker tracker) throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        if (editedModule == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "editedModule"));
+        }
+
+        Module header = editedModule.toModelType();
+        Module sourceModule = (Module) tracker.getModule(toModuleCode(target));
+        if (sourceModule == null) {
+            sourceModule = (Module) tracker.getModule(header.getCode());
+        }
+        if (sourceModule == null) {
+            return;
+        }
+
+        // The lectures are taken from the module as they are, without loading them
+        tracker.removeModule(sourceModule);
+        Module moduleToAdd = new Module(header.getCode(), header.getName(), header.getTags(), sourceModule);
+        ReadOnlyModule existingModule = tracker.getModule(moduleToAdd.getCode());
+        if (existingModule == null) {
+            tracker.addModule(moduleToAdd);
+        } else {
+            tracker.setModule(existingModule, moduleToAdd);
+        }
+    }
+
+    private void applyLectureChange(Tracker tracker) throws IllegalValueException {
+        Module parentModule = getModule(tracker);
+        if (parentModule == null) {
+            return;
+        }
+
+        if (target != null) {
+            ReadOnlyLecture targetLecture = parentModule.getLecture(toLectureName(target));
+            if (targetLecture != null) {
+                parentModule.removeLecture(targetLecture);
+            }
+        }
+
+        if (editedLecture != null) {
+            Lecture lectureToAdd = editedLecture.toModelType();
+            ReadOnlyLecture existingLecture = parentModule.getLecture(lectureToAdd.getName());
+            if (existingLecture == null) {
+                parentModule.addLecture(lectureToAdd);
+            } else {
+                parentModule.setLecture(existingLecture, lectureToAdd);
+            }
+        }
+    }
+
+    private void applyLectureHeaderChange(Tracker tracker) throws IllegalValueException {
+        Module parentModule = getModule(tracker);
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        if (editedLecture == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "editedLecture"));
+        }
+        if (parentModule == null) {
+            return;
+        }
+
+        Lecture header = editedLecture.toModelType();
+        Lecture sourceLecture = (Lecture) parentModule.getLecture(toLectureName(target));
+        if (sourceLecture == null) {
+            sourceLecture = (Lecture) parentModule.getLecture(header.getName());
+        }
+        if (sourceLecture == null) {
+            return;
+        }
+
+        // The videos are taken from the lecture as they are, without converting them
+        parentModule.removeLecture(sourceLecture);
+        Lecture lectureToAdd = new Lecture(header.getName(), header.getTags(), sourceLecture);
+        ReadOnlyLecture existingLecture = parentModule.getLecture(lectureToAdd.getName());
+        if (existingLecture == null) {
+            parentModule.addLecture(lectureToAdd);
+        } else {
+            parentModule.setLecture(existingLecture, lectureToAdd);
+        }
+    }
+
+    private void applyVideoChange(Tracker tracker) throws IllegalValueException {
+        Module parentModule = getModule(tracker);
+        if (lecture == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "lecture"));
+        }
+        ReadOnlyLecture parentLecture = parentModule == null ? null : parentModule.getLecture(toLectureName(lecture));
+        if (parentLecture == null) {
+            return;
+        }
+
+        Lecture lectureToChange = (Lecture) parentLecture;
+
+        if (target != null) {
+            Video targetVideo = lectureToChange.getVideo(toVideoName(target));
+            if (targetVideo != null) {
+                lectureToChange.removeVideo(targetVideo);
+            }
+        }
+
+        if (editedVideo != null) {
+            Video videoToAdd = editedVideo.toModelType();
+            Video existingVideo = lectureToChange.getVideo(videoToAdd.getName());
+            if (existingVideo == null) {
+                lectureToChange.addVideo(videoToAdd);
+            } else {
+                lectureToChange.setVideo(existingVideo, videoToAdd);
+            }
+        }
+    }
+
+    private Module getModule(Tracker tracker) throws IllegalValueException {
+        if (module == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "module"));
+        }
+
+        return (Module) tracker.getModule(toModuleCode(module));
+    }
+
+    private static ModuleCode toModuleCode(String code) throws IllegalValueException {
+        if (!ModuleCode.isValidCode(code)) {
+            throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
+        }
+        return ModuleCode.of(code);
+    }
+
+    private static LectureName toLectureName(String name) throws IllegalValueException {
+        if (!LectureName.isValidName(name)) {
+            throw new IllegalValueException(LectureName.MESSAGE_CONSTRAINTS);
+        }
+        return LectureName.of(name);
+    }
+
+    private static VideoName toVideoName(String name) throws IllegalValueException {
+        if (!VideoName.isValidName(name)) {
+            throw new IllegalValueException(VideoName.MESSAGE_CONSTRAINTS);
+        }
+        return new VideoName(name);
+    }
+}
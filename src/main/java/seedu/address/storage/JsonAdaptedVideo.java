@@ -91,12 +91,12 @@ public class JsonAdaptedVideo {
         if (timestamp == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "timestamp"));
         }
+        final VideoTimestamp videoTimestamp;
         try {
-            VideoTimestamp.validateTimestamp(timestamp);
+            videoTimestamp = new VideoTimestamp(timestamp);
         } catch (IllegalArgumentException iae) {
             throw new IllegalValueException(iae.getMessage());
         }
-        final VideoTimestamp videoTimestamp = new VideoTimestamp(timestamp);
 
         return new Video(videoName, hasWatched, videoTimestamp, videoTags);
     }
@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyTracker;
 import seedu.address.model.Tracker;
 import seedu.address.model.module.Module;
+import seedu.address.model.module.exceptions.DuplicateModuleException;
 
 /**
  * An Immutable Tracker that is serializable to JSON format.
@@ -21,6 +22,9 @@ class JsonSerializableTracker {
 
     public static final String MESSAGE_DUPLICATE_MODULE = "Module list contains duplicate module(s).";
 
+    /** The largest number of modules that are converted by a single task. */
+    static final int MODULE_SLICE_SIZE = 8;
+
     private final List<JsonAdaptedModule> modules = new ArrayList<>();
 
     /**
@@ -46,19 +50,22 @@ class JsonSerializableTracker {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Tracker toModelType() throws IllegalValueException {
-        Tracker tracker = new Tracker();
-        for (JsonAdaptedModule jsonAdaptedModule : modules) {
-            if (jsonAdaptedModule == null) {
-                continue;
-            }
-
-            Module module = jsonAdaptedModule.toModelType();
-
-            if (tracker.hasModule(module)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE);
-            }
+        return toTracker(ParallelConverter.convertAll(modules, JsonAdaptedModule::toModelType, MODULE_SLICE_SIZE));
+    }
 
-            tracker.addModule(module);
+    /**
+     * Returns a tracker containing {@code modules}.<p>
+     * Duplicate modules are detected in a single pass when the modules are indexed by the tracker, after all of them
+     * have been converted.
+     *
+     * @throws IllegalValueException if {@code modules} contains duplicate modules.
+     */
+    static Tracker toTracker(List<Module> modules) throws IllegalValueException {
+        Tracker tracker = new Tracker();
+        try {
+            tracker.setModules(modules);
+        } catch (DuplicateModuleException dme) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE);
         }
         return tracker;
     }
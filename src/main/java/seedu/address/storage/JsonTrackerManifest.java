@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * An Immutable manifest of a tracker that is stored as one file per module, that is serializable to JSON format.<p>
+ * The manifest lists the code, name, tags, lecture counts and the sum of the hashes of the lectures of the modules in
+ * the tracker, so that the modules can be listed and compared without reading their files, and only the files of those
+ * modules are read.
+ */
+class JsonTrackerManifest {
+
+    /** Name of the field listing the modules, which is the first field of a manifest file. */
+    public static final String MODULES_FIELD = "shardedModules";
+
+    @JsonProperty(MODULES_FIELD)
+    private final List<JsonAdaptedModuleHeader> modules = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonTrackerManifest} with the given module headers.
+     */
+    @JsonCreator
+    public JsonTrackerManifest(@JsonProperty(MODULES_FIELD) Collection<JsonAdaptedModuleHeader> modules) {
+        if (modules != null) {
+            this.modules.addAll(modules);
+        }
+    }
+
+    /**
+     * Returns the headers of the modules in the tracker. Headers have not been validated.
+     */
+    public List<JsonAdaptedModuleHeader> getModules() {
+        return modules;
+    }
+}
@@ -1,22 +1,29 @@
 package seedu.address.storage;
 
-import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.TrackerFileFormat;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTracker;
+import seedu.address.model.Tracker;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ModuleCode;
 
 /**
- * A class to access Tracker data stored as a json file on the hard disk.
+ * A class to access Tracker data stored as a json file on the hard disk.<p>
+ * The file is read and written in a single streaming pass by {@link JsonTrackerStream}.
  */
 public class JsonTrackerStorage implements TrackerStorage {
 
@@ -33,6 +40,20 @@ public class JsonTrackerStorage implements TrackerStorage {
         this.filePath = filePath;
     }
 
+    /**
+     * Returns the format of the tracker file at {@code filePath}, which is detected from the contents of the file.
+     *
+     * @param filePath The path to the tracker file.
+     * @return The format of the tracker file.
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    public static TrackerFileFormat detectFormat(Path filePath) throws IOException {
+        if (BinaryTrackerStream.isBinaryFile(filePath)) {
+            return TrackerFileFormat.BINARY;
+        }
+        return ShardedTrackerStorage.isManifestFile(filePath) ? TrackerFileFormat.SHARDED : TrackerFileFormat.JSON;
+    }
+
     public Path getTrackerFilePath() {
         return filePath;
     }
@@ -44,22 +65,89 @@ public class JsonTrackerStorage implements TrackerStorage {
 
     @Override
     public Optional<ReadOnlyTracker> readTracker(Path filePath) throws DataConversionException, IOException {
-        requireNonNull(filePath);
+        return readTrackerFile(filePath).map(tracker -> tracker);
+    }
+
+    /**
+     * {@inheritDoc}<p>
+     * Json files are scanned without building the modules that are not read, and only the files of the modules that
+     * are read are opened for manifests of {@link ShardedTrackerStorage}. The lectures of modules in the binary
+     * format are only loaded when they are first needed, so no lectures are loaded for the modules that are not read.
+     */
+    @Override
+    public Optional<ReadOnlyTracker> readTracker(Path filePath, Set<ModuleCode> moduleCodes)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, moduleCodes);
+
+        return readTrackerFile(filePath, toModuleFilter(moduleCodes)).map(tracker -> tracker);
+    }
+
+    /**
+     * Returns the tracker stored in the json file at {@code filePath}.<p>
+     * Files in the binary format of {@link BinaryTrackerStorage} and manifests of {@link ShardedTrackerStorage} are
+     * also read, so that the format of the data file can be changed without converting it first.
+     *
+     * @param filePath The location of the data.
+     * @return The tracker if the file is found. Otherwise, returns {@code Optional.empty()}.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    Optional<Tracker> readTrackerFile(Path filePath) throws DataConversionException {
+        return readTrackerFile(filePath, code -> true);
+    }
+
+    /**
+     * Similar to {@link #readTrackerFile(Path)}, but only the modules whose codes pass {@code isModuleRead} are read.
+     * The other modules are skipped without being validated.
+     *
+     * @param filePath The location of the data.
+     * @param isModuleRead Tests whether the module with a code is read. The code may be null if it is missing.
+     * @return The tracker if the file is found. Otherwise, returns {@code Optional.empty()}.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    Optional<Tracker> readTrackerFile(Path filePath, Predicate<String> isModuleRead) throws DataConversionException {
+        requireAllNonNull(filePath, isModuleRead);
 
-        Optional<JsonSerializableTracker> jsonTracker =
-                JsonUtil.readJsonFile(filePath, JsonSerializableTracker.class);
-        if (!jsonTracker.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonTracker.get().toModelType());
+            if (BinaryTrackerStream.isBinaryFile(filePath)) {
+                return Optional.of(selectModules(BinaryTrackerStream.read(filePath), isModuleRead));
+            }
+            if (ShardedTrackerStorage.isManifestFile(filePath)) {
+                return Optional.of(ShardedTrackerStorage.read(filePath, isModuleRead));
+            }
+            return Optional.of(JsonTrackerStream.read(filePath, isModuleRead));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from tracker file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Returns a test of whether the module with a code is one of the modules with codes in {@code moduleCodes}.
+     */
+    static Predicate<String> toModuleFilter(Set<ModuleCode> moduleCodes) {
+        Set<String> codes = moduleCodes.stream().map(moduleCode -> moduleCode.code).collect(Collectors.toSet());
+        return codes::contains;
+    }
+
+    /**
+     * Returns {@code tracker} with only the modules whose codes pass {@code isModuleRead}.
+     */
+    static Tracker selectModules(Tracker tracker, Predicate<String> isModuleRead) {
+        tracker.setModules(tracker.getModuleList().stream()
+                .filter(module -> isModuleRead.test(module.getCode().code))
+                .map(module -> (Module) module)
+                .collect(Collectors.toList()));
+        return tracker;
+    }
+
     @Override
     public void saveTracker(ReadOnlyTracker tracker) throws IOException {
         saveTracker(tracker, filePath);
@@ -70,6 +158,6 @@ public class JsonTrackerStorage implements TrackerStorage {
         requireAllNonNull(tracker, filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTracker(tracker), filePath);
+        JsonTrackerStream.write(tracker, filePath);
     }
 }
@@ -0,0 +1,417 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyTracker;
+import seedu.address.model.Tracker;
+import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.video.Video;
+
+/**
+ * Reads and writes a {@link Tracker} as json in a single pass over a file, which may be compressed with gzip.<p>
+ *
+ * The json has the same format as {@link JsonSerializableTracker}. Modules, lectures and videos are written directly
+ * from the tracker, without building the whole json as a string or as a tree of Jackson-friendly objects. They are
+ * read into {@link JsonAdaptedModule} objects without building the whole json as a string. Each batch of modules
+ * that is read is validated and converted in parallel as in {@link JsonSerializableTracker#toModelType()} before the
+ * next batch is read, so only one batch of Jackson-friendly objects is held at a time rather than a tree of the whole
+ * tracker.
+ */
+final class JsonTrackerStream {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+
+    // Large enough for every thread of the common pool to convert a slice of each batch
+    private static final int MODULE_BATCH_SIZE = JsonSerializableTracker.MODULE_SLICE_SIZE
+            * Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+
+    private JsonTrackerStream() {}
+
+    /**
+     * A reader of an element of a json array.
+     */
+    @FunctionalInterface
+    private interface ElementReader {
+        /**
+         * Reads the element that is the current token of {@code parser}.
+         */
+        void read(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
+    //// writing
+
+    /**
+     * Writes {@code tracker} as json to the file at {@code filePath}, replacing its contents.
+     *
+     * @param tracker The tracker to write.
+     * @param filePath The path to the file.
+     * @throws IOException Indicates that there was an error writing to the file.
+     */
+    static void write(ReadOnlyTracker tracker, Path filePath) throws IOException {
+        write(tracker, filePath, false);
+    }
+
+    /**
+     * Writes {@code tracker} as json to the file at {@code filePath}, replacing its contents.<p>
+     * If {@code isCompressed} is true, the json is written without indentation and compressed with gzip as it is
+     * written, which makes the repetitive json of a tracker many times smaller.
+     *
+     * @param tracker The tracker to write.
+     * @param filePath The path to the file.
+     * @param isCompressed Whether the file is compressed.
+     * @throws IOException Indicates that there was an error writing to the file.
+     */
+    static void write(ReadOnlyTracker tracker, Path filePath, boolean isCompressed) throws IOException {
+        requireAllNonNull(tracker, filePath);
+
+        try (OutputStream out = isCompressed
+                    ? new GZIPOutputStream(Files.newOutputStream(filePath), COMPRESSION_BUFFER_SIZE)
+                    : Files.newOutputStream(filePath);
+                JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            if (!isCompressed) {
+                generator.useDefaultPrettyPrinter();
+            }
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("modules");
+            for (ReadOnlyModule module : tracker.getModuleList()) {
+                writeModule(generator, module);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeModule(JsonGenerator generator, ReadOnlyModule module) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("code", module.getCode().code);
+        generator.writeStringField("name", module.getName().name);
+        generator.writeArrayFieldStart("lectures");
+        for (ReadOnlyLecture lecture : module.getLectureList()) {
+            writeLecture(generator, lecture);
+        }
+        generator.writeEndArray();
+        writeTags(generator, module.getTags());
+        generator.writeEndObject();
+    }
+
+    private static void writeLecture(JsonGenerator generator, ReadOnlyLecture lecture) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", lecture.getName().name);
+        generator.writeArrayFieldStart("videos");
+        for (Video video : lecture.getVideoList()) {
+            writeVideo(generator, video);
+        }
+        generator.writeEndArray();
+        writeTags(generator, lecture.getTags());
+        generator.writeEndObject();
+    }
+
+    private static void writeVideo(JsonGenerator generator, Video video) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", video.getName().name);
+        generator.writeBooleanField("hasWatched", video.hasWatched());
+        generator.writeStringField("timestamp", video.getTimestamp().toString());
+        writeTags(generator, video.getTags());
+        generator.writeEndObject();
+    }
+
+    private static void writeTags(JsonGenerator generator, Set<Tag> tags) throws IOException {
+        generator.writeArrayFieldStart("tagged");
+        for (Tag tag : tags) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+    }
+
+    //// reading
+
+    /**
+     * Returns true if the file at {@code filePath} is compressed with gzip, which is the case if it starts with the
+     * gzip magic number.
+     *
+     * @param filePath The path to the file.
+     * @return True if the file is compressed. Otherwise, returns false.
+     * @throws IOException Indicates that there was an error reading the file.
+     */
+    static boolean isCompressedFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        byte[] header = new byte[2];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int length = in.readNBytes(header, 0, header.length);
+            return length == header.length
+                    && ((header[0] & 0xff) | (header[1] & 0xff) << 8) == GZIPInputStream.GZIP_MAGIC;
+        }
+    }
+
+    /**
+     * Reads the tracker written as json in the file at {@code filePath}.
+     *
+     * @param filePath The path to the file.
+     * @return The tracker read from the file.
+     * @throws IOException Indicates that there was an error reading the file, or that it is not in the expected
+     *                     json format.
+     * @throws IllegalValueException Indicates that some data constraints were violated in the file.
+     */
+    static Tracker read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, code -> true);
+    }
+
+    /**
+     * Reads the modules whose codes pass {@code isModuleRead} from the tracker written as json in the file at
+     * {@code filePath}. Files compressed with gzip are decompressed as they are read.<p>
+     * The other modules are skipped without being built or validated. If the code of a module is its first field, as
+     * written by {@link #write(ReadOnlyTracker, Path)}, the rest of the module is skipped without being parsed.
+     *
+     * @param filePath The path to the file.
+     * @param isModuleRead Tests whether the module with a code is read. The code is null if it is missing.
+     * @return The tracker containing the modules that are read.
+     * @throws IOException Indicates that there was an error reading the file, or that it is not in the expected
+     *                     json format.
+     * @throws IllegalValueException Indicates that some data constraints were violated in the modules that are read.
+     */
+    static Tracker read(Path filePath, Predicate<String> isModuleRead) throws IOException, IllegalValueException {
+        requireAllNonNull(filePath, isModuleRead);
+
+        try (InputStream in = isCompressedFile(filePath)
+                    ? new GZIPInputStream(Files.newInputStream(filePath), COMPRESSION_BUFFER_SIZE)
+                    : Files.newInputStream(filePath);
+                JsonParser parser = JSON_FACTORY.createParser(in)) {
+            parser.nextToken();
+            Tracker tracker = readTracker(parser, isModuleRead);
+            if (parser.nextToken() != null) {
+                throw new JsonParseException(parser, "Unexpected content after tracker");
+            }
+            return tracker;
+        }
+    }
+
+    private static Tracker readTracker(JsonParser parser, Predicate<String> isModuleRead)
+            throws IOException, IllegalValueException {
+        List<Module> modules = new ArrayList<>();
+        List<JsonAdaptedModule> batch = new ArrayList<>();
+
+        requireToken(parser, JsonToken.START_OBJECT);
+        while (nextField(parser)) {
+            if (parser.getCurrentName().equals("modules")) {
+                readArray(parser, element -> {
+                    JsonAdaptedModule module = readModule(element, isModuleRead);
+                    if (module != null) {
+                        batch.add(module);
+                    }
+                    if (batch.size() == MODULE_BATCH_SIZE) {
+                        modules.addAll(convertModules(batch));
+                        batch.clear();
+                    }
+                });
+            }
+            parser.skipChildren();
+        }
+        modules.addAll(convertModules(batch));
+
+        return JsonSerializableTracker.toTracker(modules);
+    }
+
+    /**
+     * Validates and converts {@code modules} in parallel. The file is parsed in the calling thread.
+     */
+    private static List<Module> convertModules(List<JsonAdaptedModule> modules) throws IllegalValueException {
+        return ParallelConverter.convertAll(modules, JsonAdaptedModule::toModelType,
+                JsonSerializableTracker.MODULE_SLICE_SIZE);
+    }
+
+    /**
+     * Reads the module that is the current token of {@code parser}.
+     *
+     * @return The module, or null if it is skipped as its code does not pass {@code isModuleRead}.
+     */
+    private static JsonAdaptedModule readModule(JsonParser parser, Predicate<String> isModuleRead)
+            throws IOException, IllegalValueException {
+        String code = null;
+        String name = null;
+        List<JsonAdaptedLecture> lectures = new ArrayList<>();
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+
+        requireToken(parser, JsonToken.START_OBJECT);
+        while (nextField(parser)) {
+            switch (parser.getCurrentName()) {
+            case "code":
+                code = parser.getValueAsString();
+                if (!isModuleRead.test(code)) {
+                    skipFields(parser);
+                    return null;
+                }
+                break;
+            case "name":
+                name = parser.getValueAsString();
+                break;
+            case "lectures":
+                readArray(parser, element -> lectures.add(readLecture(element)));
+                break;
+            case "tagged":
+                readTags(parser, tags);
+                break;
+            default:
+                break;
+            }
+            parser.skipChildren();
+        }
+
+        if (code == null && !isModuleRead.test(null)) {
+            return null;
+        }
+        return new JsonAdaptedModule(code, name, lectures, tags);
+    }
+
+    private static JsonAdaptedLecture readLecture(JsonParser parser) throws IOException, IllegalValueException {
+        String name = null;
+        List<JsonAdaptedVideo> videos = new ArrayList<>();
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+
+        requireToken(parser, JsonToken.START_OBJECT);
+        while (nextField(parser)) {
+            switch (parser.getCurrentName()) {
+            case "name":
+                name = parser.getValueAsString();
+                break;
+            case "videos":
+                readArray(parser, element -> videos.add(readVideo(element)));
+                break;
+            case "tagged":
+                readTags(parser, tags);
+                break;
+            default:
+                break;
+            }
+            parser.skipChildren();
+        }
+
+        return new JsonAdaptedLecture(name, videos, tags);
+    }
+
+    private static JsonAdaptedVideo readVideo(JsonParser parser) throws IOException, IllegalValueException {
+        String name = null;
+        boolean hasWatched = false;
+        String timestamp = null;
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+
+        requireToken(parser, JsonToken.START_OBJECT);
+        while (nextField(parser)) {
+            switch (parser.getCurrentName()) {
+            case "name":
+                name = parser.getValueAsString();
+                break;
+            case "hasWatched":
+                hasWatched = parser.getValueAsBoolean();
+                break;
+            case "timestamp":
+                timestamp = parser.getValueAsString();
+                break;
+            case "tagged":
+                readTags(parser, tags);
+                break;
+            default:
+                break;
+            }
+            parser.skipChildren();
+        }
+
+        return new JsonAdaptedVideo(name, hasWatched, timestamp, tags);
+    }
+
+    private static void readTags(JsonParser parser, List<JsonAdaptedTag> tags)
+            throws IOException, IllegalValueException {
+        readArray(parser, element -> {
+            String tagName = element.getValueAsString();
+            if (tagName == null) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new JsonAdaptedTag(tagName));
+        });
+    }
+
+    /**
+     * Checks that the current token of {@code parser} is {@code expectedToken}.
+     */
+    private static void requireToken(JsonParser parser, JsonToken expectedToken) throws IOException {
+        if (parser.getCurrentToken() != expectedToken) {
+            throw new JsonParseException(parser,
+                    "Expected " + expectedToken + " but found " + parser.getCurrentToken());
+        }
+    }
+
+    /**
+     * Advances {@code parser} to the value of the next field of the current json object.<p>
+     * The name of the field is then available from {@link JsonParser#getCurrentName()}.
+     *
+     * @return True if there is a next field. Otherwise, returns false as the end of the object is reached.
+     */
+    private static boolean nextField(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_OBJECT) {
+            return false;
+        }
+        if (token != JsonToken.FIELD_NAME) {
+            throw new JsonParseException(parser, "Expected a field but found " + token);
+        }
+        parser.nextToken();
+        return true;
+    }
+
+    /**
+     * Skips the remaining fields of the current json object of {@code parser}, up to the end of the object.
+     */
+    private static void skipFields(JsonParser parser) throws IOException {
+        while (nextField(parser)) {
+            parser.skipChildren();
+        }
+    }
+
+    /**
+     * Reads the json array that is the current token of {@code parser}, passing each element that is not null to
+     * {@code elementReader}. A null array is read as an empty array.
+     */
+    private static void readArray(JsonParser parser, ElementReader elementReader)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        requireToken(parser, JsonToken.START_ARRAY);
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() == null) {
+                throw new JsonParseException(parser, "Unexpected end of array");
+            }
+            if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+                elementReader.read(parser);
+            }
+        }
+    }
+}
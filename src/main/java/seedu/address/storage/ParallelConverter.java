@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts the elements of a list in parallel on the common {@code ForkJoinPool}.<p>
+ *
+ * The list is split in halves until each part has at most a given number of elements, and the parts are converted by
+ * separate tasks, so that a large list is converted by every core while a small list is converted in the calling
+ * thread without any overhead. The converted elements are returned in the order of the list. If the conversion of
+ * some elements fails, the failure of the first of them in the list is thrown, as it would be by a sequential
+ * conversion.
+ */
+final class ParallelConverter {
+
+    private ParallelConverter() {}
+
+    /**
+     * A conversion of a Jackson-friendly object, or of the file it is stored in, into a model object.
+     *
+     * @param <S> The type of the objects to convert.
+     * @param <T> The type of the converted objects.
+     * @param <E> The type of any other exception thrown by the conversion, such as an {@code IOException} thrown
+     *            when reading a file.
+     */
+    @FunctionalInterface
+    interface Converter<S, T, E extends Exception> {
+        /**
+         * Converts {@code source}.
+         *
+         * @throws IllegalValueException Indicates that some data constraints were violated in {@code source}.
+         */
+        T convert(S source) throws IllegalValueException, E;
+    }
+
+    /**
+     * Converts the elements of {@code sources} that are not null with {@code converter}.
+     *
+     * @param sources The elements to convert.
+     * @param converter The conversion of an element. It must be safe to call from multiple threads.
+     * @param sliceSize The largest number of elements that are converted by a single task.
+     * @return The converted elements, in the order of {@code sources}.
+     * @throws IllegalValueException Indicates that some data constraints were violated in an element.
+     * @throws E Indicates that the conversion of an element failed for another reason.
+     */
+    @SuppressWarnings("unchecked")
+    static <S, T, E extends Exception> List<T> convertAll(List<S> sources,
+            Converter<? super S, ? extends T, E> converter, int sliceSize) throws IllegalValueException, E {
+        requireAllNonNull(sources, converter);
+        checkArgument(sliceSize > 0, "Slice size must be positive.");
+
+        try {
+            return new ConversionTask<S, T>(sources, converter, sliceSize).invoke();
+        } catch (ConversionFailure failure) {
+            if (failure.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) failure.getCause();
+            }
+            throw (E) failure.getCause();
+        }
+    }
+
+    /**
+     * A task that converts a part of a list, splitting it if it is larger than the slice size.
+     */
+    private static class ConversionTask<S, T> extends RecursiveTask<List<T>> {
+        private final List<S> sources;
+        private final Converter<? super S, ? extends T, ?> converter;
+        private final int sliceSize;
+
+        private ConversionTask(List<S> sources, Converter<? super S, ? extends T, ?> converter, int sliceSize) {
+            this.sources = sources;
+            this.converter = converter;
+            this.sliceSize = sliceSize;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (sources.size() <= sliceSize) {
+                return convertSlice();
+            }
+
+            int middle = sources.size() / 2;
+            ConversionTask<S, T> right = new ConversionTask<>(sources.subList(middle, sources.size()), converter,
+                    sliceSize);
+            right.fork();
+            boolean isLeftConverted = false;
+            try {
+                // The left half comes first in the list, so its failure is thrown even if the right half also fails
+                List<T> converted = new ConversionTask<S, T>(sources.subList(0, middle), converter, sliceSize)
+                        .compute();
+                isLeftConverted = true;
+                converted.addAll(right.join());
+                return converted;
+            } finally {
+                if (!isLeftConverted) {
+                    // The right half is not needed once the left half fails, so it is not converted if not yet started
+                    right.cancel(false);
+                }
+            }
+        }
+
+        private List<T> convertSlice() {
+            List<T> converted = new ArrayList<>(sources.size());
+            for (S source : sources) {
+                if (source == null) {
+                    continue;
+                }
+
+                try {
+                    converted.add(converter.convert(source));
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new ConversionFailure(e);
+                }
+            }
+            return converted;
+        }
+    }
+
+    /**
+     * Carries the checked exception of a failed conversion out of a {@code ConversionTask}.<p>
+     * It has no public constructor, so that the fork/join framework rethrows it as it is instead of wrapping it in a
+     * new instance.
+     */
+    private static class ConversionFailure extends RuntimeException {
+        private ConversionFailure(Exception cause) {
+            super(cause);
+        }
+    }
+}
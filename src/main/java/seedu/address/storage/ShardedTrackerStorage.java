@@ -0,0 +1,313 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTracker;
+import seedu.address.model.Tracker;
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.module.LectureLoader;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.module.exceptions.LectureLoadingException;
+
+/**
+ * A class to access Tracker data stored as one json file per module, listed by a manifest file.<p>
+ *
+ * The manifest is stored at the path of the data file, and lists the code, name, tags, lecture counts and the sum of
+ * the hashes of the lectures of the modules in the tracker. The file of each module is stored in a directory next to
+ * the manifest, with {@value #SHARD_DIRECTORY_SUFFIX} appended to its name. Changes appended to the storage only
+ * rewrite the files of the modules that they affect, from the modules as they are after the changes, and the manifest,
+ * so the cost of saving a change does not grow with the number of lectures and videos in the tracker. As the changes
+ * are not recorded, the storage never needs to be compacted.<p>
+ *
+ * Modules are read from the manifest, and the contents of the file of each module that is read are copied into
+ * memory without being parsed, so that its lectures are only parsed when they are first needed. As no file is kept
+ * open or mapped, the file can be replaced or deleted on every platform because the module was changed, renamed or
+ * deleted, and the lectures are still loaded from the contents as they were when they were read.<p>
+ *
+ * Each file is written to a temporary file that then replaces it, and the files of deleted modules are only deleted
+ * after the manifest no longer lists them, so the files that are listed by the manifest are always complete.
+ */
+public class ShardedTrackerStorage extends JournalingTrackerStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".modules";
+    public static final String SHARD_FILE_EXTENSION = ".json";
+
+    public static final String MESSAGE_MISSING_SHARD = "File of module %s is missing.";
+    public static final String MESSAGE_MISMATCHED_SHARD = "File of module %s contains a different module.";
+    public static final String MESSAGE_OUTDATED_SHARD = "File of module %s does not match the manifest.";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedTrackerStorage.class);
+
+    /**
+     * Constructs a {@code ShardedTrackerStorage}.
+     *
+     * @param filePath The path to the manifest file.
+     */
+    public ShardedTrackerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Returns the path of the directory containing the files of the modules listed by the manifest at
+     * {@code filePath}.
+     *
+     * @param filePath The path to the manifest file.
+     * @return The path of the directory containing the module files.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if the json file at {@code filePath} is a manifest, which is the case if its first field is
+     * {@value JsonTrackerManifest#MODULES_FIELD}. Compressed files are never manifests.
+     *
+     * @param filePath The path to the json file.
+     * @return True if the file is a manifest. Otherwise, returns false.
+     * @throws IOException Indicates that there was an error reading the file, or that it is not in json format.
+     */
+    static boolean isManifestFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (JsonTrackerStream.isCompressedFile(filePath)) {
+            return false;
+        }
+
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JSON_FACTORY.createParser(in)) {
+            return parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && parser.getCurrentName().equals(JsonTrackerManifest.MODULES_FIELD);
+        }
+    }
+
+    /**
+     * Reads the modules listed by the manifest at {@code filePath} whose codes pass {@code isModuleRead}. The files of
+     * the modules that are read are copied into memory, and their lectures are parsed when they are first needed. The
+     * files of the other modules are not opened.
+     *
+     * @param filePath The path to the manifest file.
+     * @param isModuleRead Tests whether the module with a code is read.
+     * @return The tracker containing the modules that are read.
+     * @throws IOException Indicates that there was an error reading the files, or that they are not in json format.
+     * @throws IllegalValueException Indicates that some data constraints were violated in the manifest, or that the
+     *                               file of a module that is read is missing.
+     */
+    static Tracker read(Path filePath, Predicate<String> isModuleRead) throws IOException, IllegalValueException {
+        requireAllNonNull(filePath, isModuleRead);
+
+        Path shardDirectoryPath = getShardDirectoryPath(filePath);
+        List<JsonAdaptedModuleHeader> headers = readManifest(filePath);
+        Set<ModuleCode> moduleCodes = new HashSet<>();
+        for (JsonAdaptedModuleHeader header : headers) {
+            if (!moduleCodes.add(toModuleCode(header.getCode()))) {
+                throw new IllegalValueException(JsonSerializableTracker.MESSAGE_DUPLICATE_MODULE);
+            }
+        }
+
+        List<Module> modules = new ArrayList<>();
+        for (JsonAdaptedModuleHeader header : headers) {
+            if (isModuleRead.test(header.getCode())) {
+                modules.add(header.toModelType(
+                        copyShard(shardDirectoryPath, header.getCode(), header.getLecturesHash())));
+            }
+        }
+
+        Tracker tracker = new Tracker();
+        tracker.setModules(modules);
+        return tracker;
+    }
+
+    /**
+     * Saves {@code tracker} as one file per module, listed by a manifest at {@code filePath}, and deletes its
+     * journal. Files of modules that are no longer in the tracker are deleted.
+     */
+    @Override
+    public void saveTracker(ReadOnlyTracker tracker, Path filePath) throws IOException {
+        requireAllNonNull(tracker, filePath);
+
+        Path shardDirectoryPath = getShardDirectoryPath(filePath);
+        Files.createDirectories(shardDirectoryPath);
+
+        Set<String> moduleCodes = new HashSet<>();
+        List<JsonAdaptedModuleHeader> headers = new ArrayList<>();
+        for (ReadOnlyModule module : tracker.getModuleList()) {
+            writeShard(shardDirectoryPath, module);
+            moduleCodes.add(module.getCode().code);
+            headers.add(new JsonAdaptedModuleHeader(module));
+        }
+        writeManifest(filePath, headers);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+
+        try (DirectoryStream<Path> shardPaths = Files.newDirectoryStream(shardDirectoryPath)) {
+            for (Path shardPath : shardPaths) {
+                String fileName = shardPath.getFileName().toString();
+                if (!fileName.endsWith(SHARD_FILE_EXTENSION) || !moduleCodes.contains(
+                        fileName.substring(0, fileName.length() - SHARD_FILE_EXTENSION.length()))) {
+                    Files.deleteIfExists(shardPath);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean needsCompaction() {
+        return false;
+    }
+
+    /**
+     * Rewrites the files of the modules affected by {@code changes} from {@code changedModules}, and deletes the
+     * files of the modules that were deleted. The manifest is rewritten with the headers of the changed modules.
+     */
+    @Override
+    public void appendChanges(List<JsonAdaptedTrackerChange> changes, ReadOnlyTracker changedModules)
+            throws IOException {
+        requireAllNonNull(changes, changedModules);
+
+        Path filePath = getTrackerFilePath();
+        Path shardDirectoryPath = getShardDirectoryPath(filePath);
+        try {
+            Map<String, JsonAdaptedModuleHeader> headers = new LinkedHashMap<>();
+            for (JsonAdaptedModuleHeader header : readManifest(filePath)) {
+                headers.put(header.getCode(), header);
+            }
+            Set<String> affectedCodes = new LinkedHashSet<>();
+            for (JsonAdaptedTrackerChange change : changes) {
+                affectedCodes.addAll(change.getModuleCodes());
+            }
+
+            Set<String> deletedCodes = new HashSet<>();
+            for (String code : affectedCodes) {
+                ReadOnlyModule module = changedModules.getModule(toModuleCode(code));
+                if (module != null) {
+                    writeShard(shardDirectoryPath, module);
+                    headers.put(code, new JsonAdaptedModuleHeader(module));
+                } else if (headers.remove(code) != null) {
+                    deletedCodes.add(code);
+                }
+            }
+
+            writeManifest(filePath, new ArrayList<>(headers.values()));
+            for (String code : deletedCodes) {
+                Files.deleteIfExists(getShardPath(shardDirectoryPath, code));
+            }
+
+            logger.fine("Saved " + affectedCodes.size() + " changed module(s) to " + shardDirectoryPath);
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive.getMessage(), ive);
+        }
+    }
+
+    private static List<JsonAdaptedModuleHeader> readManifest(Path filePath) throws IOException {
+        return JsonUtil.fromJsonString(FileUtil.readFromFile(filePath), JsonTrackerManifest.class).getModules();
+    }
+
+    private static void writeManifest(Path filePath, List<JsonAdaptedModuleHeader> headers) throws IOException {
+        writeAtomically(filePath, JsonUtil.toJsonString(new JsonTrackerManifest(headers)));
+    }
+
+    /**
+     * Copies the contents of the file of the module with code {@code code} into memory, and returns a loader of its
+     * lectures that parses them from the copy. The hashes of the lectures must add up to {@code lecturesHash}.
+     */
+    private static LectureLoader copyShard(Path shardDirectoryPath, String code, int lecturesHash)
+            throws IOException, IllegalValueException {
+        Path shardPath = getShardPath(shardDirectoryPath, code);
+        if (!Files.exists(shardPath)) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, code));
+        }
+
+        byte[] content = Files.readAllBytes(shardPath);
+        return () -> loadShard(content, code, lecturesHash);
+    }
+
+    /**
+     * Returns the lectures of the module with code {@code code}, read from the contents of its file.
+     *
+     * @throws LectureLoadingException Indicates that the file is not in json format, that it contains a different
+     *                                 module or different lectures from the manifest, or that some data
+     *                                 constraints were violated in it.
+     */
+    private static List<Lecture> loadShard(byte[] content, String code, int lecturesHash) {
+        try {
+            Module module = JsonUtil.fromJsonString(new String(content, StandardCharsets.UTF_8),
+                    JsonAdaptedModule.class).toModelType();
+            if (!module.getCode().code.equals(code)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISMATCHED_SHARD, code));
+            }
+            if (module.getLecturesHash() != lecturesHash) {
+                throw new IllegalValueException(String.format(MESSAGE_OUTDATED_SHARD, code));
+            }
+            return module.getLectureList().stream().map(lecture -> (Lecture) lecture).collect(Collectors.toList());
+        } catch (IOException | IllegalValueException e) {
+            throw new LectureLoadingException(e.getMessage(), e);
+        }
+    }
+
+    private static void writeShard(Path shardDirectoryPath, ReadOnlyModule module) throws IOException {
+        writeAtomically(getShardPath(shardDirectoryPath, module.getCode().code),
+                JsonUtil.toJsonString(new JsonAdaptedModule(module)));
+    }
+
+    private static Path getShardPath(Path shardDirectoryPath, String code) {
+        return shardDirectoryPath.resolve(code + SHARD_FILE_EXTENSION);
+    }
+
+    /**
+     * Writes {@code content} to a temporary file, which then replaces the file at {@code filePath}, so that the file
+     * is never left partly written.
+     */
+    private static void writeAtomically(Path filePath, String content) throws IOException {
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(tempFilePath, content);
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the module code {@code code}, which is validated before it is used as the name of a module file.
+     */
+    private static ModuleCode toModuleCode(String code) throws IllegalValueException {
+        if (code == null || !ModuleCode.isValidCode(code)) {
+            throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
+        }
+        return ModuleCode.of(code);
+    }
+}
@@ -2,7 +2,9 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -10,6 +12,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.module.ModuleCode;
 
 /**
  * Manages storage of Le Tracker data in local storage.
@@ -63,14 +66,59 @@ public class StorageManager implements Storage {
         return trackerStorage.readTracker(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyTracker> readTracker(Path filePath, Set<ModuleCode> moduleCodes)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read " + moduleCodes.size() + " module(s) from file: " + filePath);
+        return trackerStorage.readTracker(filePath, moduleCodes);
+    }
+
     @Override
     public void saveTracker(ReadOnlyTracker tracker) throws IOException {
         saveTracker(tracker, trackerStorage.getTrackerFilePath());
     }
 
+    /**
+     * {@inheritDoc}<p>
+     * Files other than the data file, such as archives, are saved in the binary format if their file name ends with
+     * {@link BinaryTrackerStorage#FILE_EXTENSION}, as compressed json if it ends with
+     * {@link CompressedJsonTrackerStorage#FILE_EXTENSION}, and as json otherwise.
+     */
     @Override
     public void saveTracker(ReadOnlyTracker tracker, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        trackerStorage.saveTracker(tracker, filePath);
+        if (filePath.equals(trackerStorage.getTrackerFilePath())) {
+            trackerStorage.saveTracker(tracker, filePath);
+            return;
+        }
+
+        String fileName = filePath.getFileName().toString();
+        TrackerStorage fileStorage;
+        if (fileName.endsWith(BinaryTrackerStorage.FILE_EXTENSION)) {
+            fileStorage = new BinaryTrackerStorage(filePath);
+        } else if (fileName.endsWith(CompressedJsonTrackerStorage.FILE_EXTENSION)) {
+            fileStorage = new CompressedJsonTrackerStorage(filePath);
+        } else {
+            fileStorage = new JsonTrackerStorage(filePath);
+        }
+        fileStorage.saveTracker(tracker, filePath);
+    }
+
+    @Override
+    public boolean canAppendChanges() {
+        return trackerStorage.canAppendChanges();
+    }
+
+    @Override
+    public void appendChanges(List<JsonAdaptedTrackerChange> changes, ReadOnlyTracker changedModules)
+            throws IOException {
+        logger.fine("Attempting to append " + changes.size() + " change(s) to data file: "
+                + trackerStorage.getTrackerFilePath());
+        trackerStorage.appendChanges(changes, changedModules);
+    }
+
+    @Override
+    public boolean needsCompaction() {
+        return trackerStorage.needsCompaction();
     }
 }
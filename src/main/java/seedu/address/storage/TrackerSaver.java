@@ -0,0 +1,389 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyTracker;
+import seedu.address.model.Tracker;
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ReadOnlyModule;
+
+/**
+ * Saves the tracker through a {@code Storage} in the background, so that saving does not delay the caller.<p>
+ *
+ * A save is only requested if the version of the tracker has changed since the last requested save. When a save is
+ * requested, a snapshot of the tracker is taken on the calling thread, as the tracker may be changed while it is
+ * being written. The snapshot reuses the copies of the modules in the previous snapshot that have not changed since,
+ * so only the modules that were changed are copied again. Saves that are requested while an earlier save is waiting
+ * to be written replace it, so that a burst of changes is written once.<p>
+ *
+ * If the storage can append changes, the changes described in a request are appended to it instead of saving the
+ * whole tracker, along with copies of the modules affected by the changes, which are taken with the changes for
+ * storages that rewrite those modules instead of recording the changes. The whole tracker is saved for the first
+ * request unless the tracker was marked as saved, for a request that does not describe its changes, and, if the
+ * storage needs compaction, after every {@code compactionInterval} appended changes, so that the changes are
+ * compacted into a snapshot in the background. {@link #requestCompaction(ReadOnlyTracker)} compacts the changes
+ * appended since then, such as before the app stops.<p>
+ *
+ * A failure to write the tracker is reported to the caller of the next request, or of {@link #flush()}.
+ */
+public class TrackerSaver {
+
+    /** Number of changes that are appended to the storage before the whole tracker is saved again. */
+    public static final int DEFAULT_COMPACTION_INTERVAL = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(TrackerSaver.class);
+
+    private final Storage storage;
+    private final Executor executor;
+    private final int compactionInterval;
+
+    private final Object lock = new Object();
+    private long lastRequestedVersion = -1;
+    private ReadOnlyTracker pendingTracker = null;
+    private final List<JsonAdaptedTrackerChange> pendingChanges = new ArrayList<>();
+    // Copies of the modules affected by the pending changes by their codes, with null for deleted modules
+    private final Map<String, Module> pendingChangedModules = new HashMap<>();
+    private boolean isSnapshotRequested = false;
+    private int changeCountSinceSnapshot = 0;
+    private boolean isWriteScheduled = false;
+    private boolean isWriting = false;
+    private IOException failure = null;
+
+    // The copies of the modules in the last snapshot, by the module that they were copied from
+    private Map<Module, ModuleSnapshot> moduleSnapshots = new IdentityHashMap<>();
+
+    /**
+     * Constructs a {@code TrackerSaver} that writes the tracker on a background thread.
+     *
+     * @param storage The storage to save the tracker with.
+     */
+    public TrackerSaver(Storage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tracker-saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Constructs a {@code TrackerSaver} that writes the tracker using {@code executor}.<p>
+     * Writes are expected to be run one at a time. If {@code executor} runs them on the calling thread, the tracker
+     * is saved before each request returns.
+     *
+     * @param storage The storage to save the tracker with.
+     * @param executor The executor to write the tracker with.
+     */
+    public TrackerSaver(Storage storage, Executor executor) {
+        this(storage, executor, DEFAULT_COMPACTION_INTERVAL);
+    }
+
+    /**
+     * Constructs a {@code TrackerSaver} that writes the tracker using {@code executor}, and saves the whole tracker
+     * after every {@code compactionInterval} changes appended to the storage.
+     *
+     * @param storage The storage to save the tracker with.
+     * @param executor The executor to write the tracker with.
+     * @param compactionInterval The number of changes appended before the whole tracker is saved. Must be positive.
+     */
+    public TrackerSaver(Storage storage, Executor executor, int compactionInterval) {
+        requireAllNonNull(storage, executor);
+        checkArgument(compactionInterval > 0, "Compaction interval must be positive.");
+        this.storage = storage;
+        this.executor = executor;
+        this.compactionInterval = compactionInterval;
+    }
+
+    /**
+     * Requests {@code tracker} to be saved if it has changed since the last requested save.
+     *
+     * @param tracker The tracker to save.
+     * @throws IOException Indicates that an earlier save, or this save if it was written before returning, failed.
+     */
+    public void requestSave(ReadOnlyTracker tracker) throws IOException {
+        requestSave(tracker, List.of());
+    }
+
+    /**
+     * Requests {@code tracker} to be saved if it has changed since the last requested save, by appending
+     * {@code changes} to the storage if possible.
+     *
+     * @param tracker The tracker to save.
+     * @param changes The changes made to {@code tracker} since the last requested save, in the order they were made.
+     *                Empty if the changes are not known.
+     * @throws IOException Indicates that an earlier save, or this save if it was written before returning, failed.
+     */
+    public void requestSave(ReadOnlyTracker tracker, List<JsonAdaptedTrackerChange> changes) throws IOException {
+        requireAllNonNull(tracker, changes);
+
+        boolean shouldSchedule = false;
+        synchronized (lock) {
+            long version = tracker.getVersion();
+            if (version != lastRequestedVersion) {
+                if (canAppend(changes)) {
+                    pendingChanges.addAll(changes);
+                    changeCountSinceSnapshot += changes.size();
+                    copyChangedModules(tracker, changes);
+                } else {
+                    requestSnapshot(tracker);
+                }
+                lastRequestedVersion = version;
+                shouldSchedule = !isWriteScheduled;
+                isWriteScheduled = true;
+            }
+        }
+
+        if (shouldSchedule) {
+            executor.execute(this::writePendingTracker);
+        }
+        throwFailure();
+    }
+
+    /**
+     * Requests the whole of {@code tracker} to be saved if changes have been appended to a storage that needs
+     * compaction since the whole tracker was last saved, so that the changes are compacted into a snapshot.
+     *
+     * @param tracker The tracker to save.
+     * @throws IOException Indicates that an earlier save, or this save if it was written before returning, failed.
+     */
+    public void requestCompaction(ReadOnlyTracker tracker) throws IOException {
+        requireAllNonNull(tracker);
+
+        boolean shouldSchedule = false;
+        synchronized (lock) {
+            if (changeCountSinceSnapshot > 0 && storage.needsCompaction()) {
+                requestSnapshot(tracker);
+                lastRequestedVersion = tracker.getVersion();
+                shouldSchedule = !isWriteScheduled;
+                isWriteScheduled = true;
+            }
+        }
+
+        if (shouldSchedule) {
+            executor.execute(this::writePendingTracker);
+        }
+        throwFailure();
+    }
+
+    /**
+     * Records that {@code tracker} is already saved in the storage, such as when it has just been read from the
+     * storage, so that its changes can be appended to the storage without saving the whole tracker first.
+     *
+     * @param tracker The tracker that is saved in the storage.
+     */
+    public void markSaved(ReadOnlyTracker tracker) {
+        requireAllNonNull(tracker);
+
+        synchronized (lock) {
+            lastRequestedVersion = tracker.getVersion();
+            isSnapshotRequested = true;
+            changeCountSinceSnapshot = 0;
+        }
+    }
+
+    /**
+     * Waits for all requested saves to be written.
+     *
+     * @throws IOException Indicates that a requested save failed.
+     * @throws InterruptedException Indicates that the thread was interrupted while waiting.
+     */
+    public void flush() throws IOException, InterruptedException {
+        synchronized (lock) {
+            while (isWriteScheduled || isWriting) {
+                lock.wait();
+            }
+        }
+        throwFailure();
+    }
+
+    /**
+     * Waits for all requested saves to be written, then stops the background thread if there is one.
+     *
+     * @throws IOException Indicates that a requested save failed.
+     * @throws InterruptedException Indicates that the thread was interrupted while waiting.
+     */
+    public void close() throws IOException, InterruptedException {
+        try {
+            flush();
+        } finally {
+            if (executor instanceof ExecutorService) {
+                ((ExecutorService) executor).shutdown();
+            }
+        }
+    }
+
+    /**
+     * Replaces the pending save with a snapshot of the whole of {@code tracker}.
+     */
+    private void requestSnapshot(ReadOnlyTracker tracker) {
+        assert Thread.holdsLock(lock);
+
+        pendingTracker = snapshotOf(tracker);
+        pendingChanges.clear();
+        pendingChangedModules.clear();
+        isSnapshotRequested = true;
+        changeCountSinceSnapshot = 0;
+    }
+
+    /**
+     * Returns true if {@code changes} can be appended to the storage rather than saving the whole tracker.
+     */
+    private boolean canAppend(List<JsonAdaptedTrackerChange> changes) {
+        assert Thread.holdsLock(lock);
+
+        return !changes.isEmpty()
+                && isSnapshotRequested
+                && pendingTracker == null
+                && storage.canAppendChanges()
+                && (!storage.needsCompaction() || changeCountSinceSnapshot + changes.size() <= compactionInterval);
+    }
+
+    private void writePendingTracker() {
+        ReadOnlyTracker tracker;
+        List<JsonAdaptedTrackerChange> changes;
+        Tracker changedModules = new Tracker();
+        synchronized (lock) {
+            tracker = pendingTracker;
+            changes = new ArrayList<>(pendingChanges);
+            changedModules.setModules(pendingChangedModules.values().stream()
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()));
+            pendingTracker = null;
+            pendingChanges.clear();
+            pendingChangedModules.clear();
+            isWriteScheduled = false;
+            isWriting = true;
+        }
+
+        IOException writeFailure = null;
+        try {
+            if (tracker != null) {
+                storage.saveTracker(tracker);
+            } else if (!changes.isEmpty()) {
+                storage.appendChanges(changes, changedModules);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to save tracker " + StringUtil.getDetails(ioe));
+            writeFailure = ioe;
+        } finally {
+            synchronized (lock) {
+                isWriting = false;
+                if (writeFailure != null) {
+                    failure = writeFailure;
+                    // The tracker was not saved, so the next request must save the whole tracker again
+                    lastRequestedVersion = -1;
+                    isSnapshotRequested = false;
+                    pendingChanges.clear();
+                    pendingChangedModules.clear();
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void throwFailure() throws IOException {
+        IOException currentFailure;
+        synchronized (lock) {
+            currentFailure = failure;
+            failure = null;
+        }
+        if (currentFailure != null) {
+            throw currentFailure;
+        }
+    }
+
+    /**
+     * Records copies of the modules of {@code tracker} that are affected by {@code changes}, replacing the copies
+     * recorded for earlier changes. Modules that are no longer in {@code tracker} are recorded as deleted.
+     */
+    private void copyChangedModules(ReadOnlyTracker tracker, List<JsonAdaptedTrackerChange> changes) {
+        assert Thread.holdsLock(lock);
+
+        for (JsonAdaptedTrackerChange change : changes) {
+            for (String code : change.getModuleCodes()) {
+                ReadOnlyModule module = ModuleCode.isValidCode(code) ? tracker.getModule(ModuleCode.of(code)) : null;
+                pendingChangedModules.put(code, module == null ? null : snapshotOf((Module) module));
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of {@code tracker} that is not affected by later changes to {@code tracker}.<p>
+     * Videos are immutable, so they are shared with {@code tracker} rather than copied. Modules that are unchanged
+     * since the last snapshot share their copy with it. The lectures of modules whose lectures have not been loaded
+     * are not loaded by taking the snapshot.
+     */
+    private ReadOnlyTracker snapshotOf(ReadOnlyTracker tracker) {
+        assert Thread.holdsLock(lock);
+
+        if (!(tracker instanceof Tracker)) {
+            return tracker;
+        }
+
+        Map<Module, ModuleSnapshot> newModuleSnapshots = new IdentityHashMap<>();
+        List<Module> modules = new ArrayList<>();
+        for (ReadOnlyModule module : tracker.getModuleList()) {
+            Module trackedModule = (Module) module;
+            ModuleSnapshot moduleSnapshot = moduleSnapshots.get(trackedModule);
+            if (moduleSnapshot == null || moduleSnapshot.modificationCount != trackedModule.getModificationCount()) {
+                moduleSnapshot = new ModuleSnapshot(trackedModule.getModificationCount(), snapshotOf(trackedModule));
+            }
+            newModuleSnapshots.put(trackedModule, moduleSnapshot);
+            modules.add(moduleSnapshot.copy);
+        }
+        moduleSnapshots = newModuleSnapshots;
+
+        Tracker snapshot = new Tracker();
+        snapshot.setModules(modules);
+        return snapshot;
+    }
+
+    private static Module snapshotOf(Module module) {
+        if (!module.isLecturesLoaded()) {
+            // Lectures that have not been loaded are loaded separately for the snapshot when it is written
+            return new Module(module.getCode(), module.getName(), module.getTags(), module);
+        }
+
+        List<Lecture> lectures = module.getLectureList().stream()
+                .map(TrackerSaver::snapshotOf)
+                .collect(Collectors.toList());
+        return new Module(module.getCode(), module.getName(), module.getTags(), lectures);
+    }
+
+    private static Lecture snapshotOf(ReadOnlyLecture lecture) {
+        return lecture instanceof Lecture
+                ? new Lecture(lecture.getName(), lecture.getTags(), (Lecture) lecture)
+                : new Lecture(lecture.getName(), lecture.getTags(), lecture.getVideoList());
+    }
+
+    /**
+     * A copy of a module, along with the modification count of the module when it was copied.
+     */
+    private static class ModuleSnapshot {
+        private final int modificationCount;
+        private final Module copy;
+
+        private ModuleSnapshot(int modificationCount, Module copy) {
+            this.modificationCount = modificationCount;
+            this.copy = copy;
+        }
+    }
+}
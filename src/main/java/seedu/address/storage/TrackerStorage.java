@@ -1,12 +1,18 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyTracker;
 import seedu.address.model.Tracker;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ModuleCode;
 
 /**
  * Represents a storage for {@link Tracker}.
@@ -39,6 +45,31 @@ public interface TrackerStorage {
      */
     Optional<ReadOnlyTracker> readTracker(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Similar to {@link #readTracker(Path)}, but only the modules whose codes are in {@code moduleCodes} are returned.
+     * Codes of modules that are not in the data are ignored.<p>
+     * Storages that can skip the other modules while reading the data should override this method, so that reading
+     * a few modules does not cost as much as reading all of them.
+     *
+     * @param filePath The location of the data. Cannot be null.
+     * @param moduleCodes The codes of the modules to read. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    default Optional<ReadOnlyTracker> readTracker(Path filePath, Set<ModuleCode> moduleCodes)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, moduleCodes);
+
+        return readTracker(filePath).map(tracker -> {
+            Tracker selectedModules = new Tracker();
+            for (ModuleCode moduleCode : moduleCodes) {
+                if (tracker.hasModule(moduleCode)) {
+                    selectedModules.addModule((Module) tracker.getModule(moduleCode));
+                }
+            }
+            return selectedModules;
+        });
+    }
+
     /**
      * Saves the given {@link ReadOnlyTracker} to the storage.
      *
@@ -53,4 +84,44 @@ public interface TrackerStorage {
      * @param filePath location of the data. Cannot be null.
      */
     void saveTracker(ReadOnlyTracker tracker, Path filePath) throws IOException;
+
+    /**
+     * Returns true if changes to the tracker can be saved with {@link #appendChanges(List, ReadOnlyTracker)}, rather
+     * than by saving the whole tracker.
+     *
+     * @return True if changes to the tracker can be appended to the storage. Otherwise, returns false.
+     */
+    default boolean canAppendChanges() {
+        return false;
+    }
+
+    /**
+     * Appends {@code changes} to the tracker last saved with {@link #saveTracker(ReadOnlyTracker)}, so that they are
+     * applied to it when it is read.<p>
+     * Storages either record {@code changes}, or rewrite the modules they affect from {@code changedModules}, so that
+     * the modules are written as they are instead of being read and changed again.
+     *
+     * @param changes The changes made to the tracker since it was last saved or since changes were last appended, in
+     *                the order they were made. Cannot be null.
+     * @param changedModules A tracker holding the modules affected by {@code changes}, as they are after the changes.
+     *                       Modules that were deleted by the changes are not in it. Cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     * @throws UnsupportedOperationException if changes cannot be appended to the storage.
+     */
+    default void appendChanges(List<JsonAdaptedTrackerChange> changes, ReadOnlyTracker changedModules)
+            throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns true if changes appended to the storage accumulate until the whole tracker is saved again, so that the
+     * whole tracker should be saved from time to time to keep the storage from growing with every change.<p>
+     * By default, storages that can append changes accumulate them. Storages that rewrite the modules affected by the
+     * changes instead do not.
+     *
+     * @return True if the storage should be compacted by saving the whole tracker. Otherwise, returns false.
+     */
+    default boolean needsCompaction() {
+        return canAppendChanges();
+    }
 }
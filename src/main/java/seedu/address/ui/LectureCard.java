@@ -55,7 +55,7 @@ public class LectureCard extends UiPart<Region> {
         double progressPerc = 0;
 
         if (videoCount > 0) {
-            int watched = lecture.getVideoList().filtered(vid -> vid.hasWatched()).size();
+            int watched = lecture.getWatchedVideoCount();
             progressText = String.format(VIDEO_PROGRESS_FORMAT, watched, videoCount);
             progressPerc = (double) watched / videoCount;
         }
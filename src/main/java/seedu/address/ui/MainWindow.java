@@ -42,6 +42,10 @@ public class MainWindow extends UiPart<Stage> {
     private CommandBox commandBox;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private ModuleListPanel moduleListPanel;
+    private LectureListPanel lectureListPanel;
+    private VideoListPanel videoListPanel;
+    private DisplayListLevel displayedListLevel;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -117,7 +121,12 @@ public class MainWindow extends UiPart<Stage> {
     /**
      * Fills up all the placeholders of this window.
      */
+    @SuppressWarnings("unchecked")
     void fillInnerParts(DisplayListLevel level) {
+        // The filtered lists are kept for the lifetime of the model, so each panel is built once and only swapped
+        moduleListPanel = new ModuleListPanel((ObservableList<ReadOnlyModule>) logic.getFilteredModuleList());
+        lectureListPanel = new LectureListPanel((ObservableList<ReadOnlyLecture>) logic.getFilteredLectureList());
+        videoListPanel = new VideoListPanel((ObservableList<Video>) logic.getFilteredVideoList());
         setListPanelPlaceholder(level);
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
@@ -142,9 +151,16 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Sets the list displayed on UI based on {@code level} type.
+     * Sets the list displayed on UI based on {@code level} type.<p>
+     *
+     * The panel is only swapped if {@code level} is different from the level displayed, as each panel updates itself
+     * when its list changes.
      */
     private void setListPanelPlaceholder(DisplayListLevel level) {
+        if (level == displayedListLevel) {
+            return;
+        }
+
         ObservableList<Node> listChildren = listPanelPlaceholder.getChildren();
         listChildren.clear();
 
@@ -152,16 +168,16 @@ public class MainWindow extends UiPart<Stage> {
         if (panelRoot != null) {
             listChildren.add(panelRoot);
         }
+        displayedListLevel = level;
     }
 
-    @SuppressWarnings("unchecked")
     private Node getPanelRoot(DisplayListLevel level) {
-        if (level.equals(DisplayListLevel.MODULE)) {
-            return new ModuleListPanel((ObservableList<ReadOnlyModule>) logic.getFilteredModuleList()).getRoot();
-        } else if (level.equals(DisplayListLevel.LECTURE)) {
-            return new LectureListPanel((ObservableList<ReadOnlyLecture>) logic.getFilteredLectureList()).getRoot();
-        } else if (level.equals(DisplayListLevel.VIDEO)) {
-            return new VideoListPanel((ObservableList<Video>) logic.getFilteredVideoList()).getRoot();
+        if (level == DisplayListLevel.MODULE) {
+            return moduleListPanel.getRoot();
+        } else if (level == DisplayListLevel.LECTURE) {
+            return lectureListPanel.getRoot();
+        } else if (level == DisplayListLevel.VIDEO) {
+            return videoListPanel.getRoot();
         } else {
             return null;
         }
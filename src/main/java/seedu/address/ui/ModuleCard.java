@@ -53,15 +53,8 @@ public class ModuleCard extends UiPart<Region> {
     }
 
     private void setProgressUi(ReadOnlyModule module) {
-        int totalLectureCount = module.getLectureList().size();
-        int lectureCompletedCount = 0;
-
-        if (totalLectureCount > 0) {
-            lectureCompletedCount = module.getLectureList().filtered(lecture -> {
-                int watchCount = lecture.getVideoList().filtered(vid -> vid.hasWatched()).size();
-                return watchCount > 0 && watchCount == lecture.getVideoList().size();
-            }).size();
-        }
+        int totalLectureCount = module.getLectureCount();
+        int lectureCompletedCount = module.getCompletedLectureCount();
 
         progress.setText(getProgressText(lectureCompletedCount, totalLectureCount));
         progressBar.setProgress(totalLectureCount == 0 ? 0 : (double) lectureCompletedCount / totalLectureCount);
@@ -0,0 +1,79 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitedLoggerTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(1);
+
+    private final List<String> messages = new ArrayList<>();
+    private Logger logger;
+    private long now = 0;
+
+    @BeforeEach
+    public void setUp() {
+        logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.INFO);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                messages.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        });
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitedLogger(logger, 0, INTERVAL));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitedLogger(logger, 1, Duration.ZERO));
+    }
+
+    @Test
+    public void log_levelDisabled_messageNotBuilt() {
+        RateLimitedLogger rateLimitedLogger = new RateLimitedLogger(logger, 1, INTERVAL, () -> now);
+
+        assertFalse(rateLimitedLogger.log(Level.FINE, () -> {
+            throw new AssertionError("Message should not be built");
+        }));
+        assertTrue(messages.isEmpty());
+    }
+
+    @Test
+    public void log_limitReached_messagesSuppressedUntilNextInterval() {
+        RateLimitedLogger rateLimitedLogger = new RateLimitedLogger(logger, 2, INTERVAL, () -> now);
+
+        assertTrue(rateLimitedLogger.log(Level.INFO, () -> "first"));
+        assertTrue(rateLimitedLogger.log(Level.INFO, () -> "second"));
+        assertFalse(rateLimitedLogger.log(Level.INFO, () -> {
+            throw new AssertionError("Message should not be built");
+        }));
+        assertFalse(rateLimitedLogger.log(Level.INFO, () -> "fourth"));
+
+        now += INTERVAL.toNanos();
+        assertTrue(rateLimitedLogger.log(Level.INFO, () -> "fifth"));
+        assertTrue(rateLimitedLogger.log(Level.INFO, () -> "sixth"));
+
+        assertEquals(List.of("first", "second", "fifth (2 earlier message(s) suppressed)", "sixth"), messages);
+    }
+}
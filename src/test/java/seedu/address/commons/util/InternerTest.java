@@ -0,0 +1,57 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String, StringBuilder> interner = new Interner<>(StringBuilder::new);
+
+    @Test
+    public void constructor_nullCreator_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String, String>(null));
+    }
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalKeys_returnsSameInstance() {
+        StringBuilder math = interner.intern("Math");
+        assertSame(math, interner.intern(new String("Math")));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentKeys_returnsDifferentInstances() {
+        StringBuilder math = interner.intern("Math");
+        StringBuilder heavy = interner.intern("Heavy");
+        assertNotSame(math, heavy);
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_valueCollected_removedFromPool() {
+        StringBuilder math = interner.intern("Math");
+        StringBuilder heavy = interner.intern("Heavy");
+
+        interner.simulateCollection("Heavy");
+        assertEquals(1, interner.size());
+        assertSame(math, interner.intern("Math"));
+        assertNotSame(heavy, interner.intern("Heavy"));
+    }
+
+    @Test
+    public void intern_creatorThrowsException_exceptionPropagatedAndNothingAdded() {
+        Interner<String, Integer> failingInterner = new Interner<>(Integer::valueOf);
+
+        assertThrows(NumberFormatException.class, () -> failingInterner.intern("Math"));
+        assertEquals(0, failingInterner.size());
+    }
+}
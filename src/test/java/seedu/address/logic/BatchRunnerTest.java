@@ -0,0 +1,126 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.BatchReport.LineError;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyTracker;
+import seedu.address.model.lecture.LectureName;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.storage.JsonTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private SaveCountingTrackerStorage trackerStorage;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        trackerStorage = new SaveCountingTrackerStorage(temporaryFolder.resolve("tracker.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new StorageManager(trackerStorage, userPrefsStorage);
+    }
+
+    @Test
+    public void constructor_negativeCommitInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(model, storage, -1));
+    }
+
+    @Test
+    public void run_commitAtEnd_savedOnceWithErrorsByLine() throws Exception {
+        BatchReport report = run(BatchRunner.COMMIT_AT_END,
+                "add CS2040S",
+                "",
+                "# comment",
+                "add CS2040S",
+                "add CS2103T");
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(1, report.getCommitCount());
+        assertEquals(1, trackerStorage.saveCount);
+
+        assertEquals(1, report.getErrors().size());
+        LineError error = report.getErrors().get(0);
+        assertEquals(4, error.getLineNumber());
+        assertEquals("add CS2040S", error.getCommandText());
+
+        ReadOnlyTracker savedTracker = storage.readTracker().get();
+        assertTrue(savedTracker.hasModule(ModuleCode.of("CS2040S")));
+        assertTrue(savedTracker.hasModule(ModuleCode.of("CS2103T")));
+    }
+
+    @Test
+    public void run_commitInterval_savedEveryIntervalOnlyIfChanged() throws Exception {
+        BatchReport report = run(2,
+                "add CS2040S",
+                "add CS2103T",
+                "add ST2334",
+                "list",
+                "list");
+
+        // Saved after the 2nd and 4th commands, but not at the end as nothing changed after the 4th command
+        assertEquals(5, report.getCommandCount());
+        assertEquals(2, report.getCommitCount());
+        assertEquals(2, trackerStorage.saveCount);
+        assertTrue(storage.readTracker().get().hasModule(ModuleCode.of("ST2334")));
+    }
+
+    @Test
+    public void run_navigation_laterCommandsInjected() throws Exception {
+        BatchReport report = run(BatchRunner.COMMIT_AT_END,
+                "add CS2040S",
+                "nav CS2040S",
+                "add Week 1");
+
+        assertTrue(report.getErrors().isEmpty());
+        assertTrue(model.getTracker().getModule(ModuleCode.of("CS2040S")).hasLecture(LectureName.of("Week 1")));
+    }
+
+    @Test
+    public void run_noChanges_notSaved() throws Exception {
+        BatchReport report = run(BatchRunner.COMMIT_AT_END, "list");
+
+        assertEquals(0, report.getCommitCount());
+        assertEquals(0, trackerStorage.saveCount);
+    }
+
+    private BatchReport run(int commitInterval, String... lines) throws IOException {
+        BufferedReader script = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return new BatchRunner(model, storage, commitInterval).run(script);
+    }
+
+    /**
+     * A {@code JsonTrackerStorage} that counts the number of times the tracker is saved.
+     */
+    private static class SaveCountingTrackerStorage extends JsonTrackerStorage {
+        private int saveCount = 0;
+
+        private SaveCountingTrackerStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTracker(ReadOnlyTracker tracker, Path filePath) throws IOException {
+            saveCount++;
+            super.saveTracker(tracker, filePath);
+        }
+    }
+}
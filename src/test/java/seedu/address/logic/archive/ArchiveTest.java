@@ -340,7 +340,7 @@ public class ArchiveTest {
         }
 
         @Override
-        public ReadOnlyModule getModule(ModuleCode moduleCode) {
+        public Module getModule(ModuleCode moduleCode) {
             return tracker.getModule(moduleCode);
         }
     }
@@ -374,7 +374,7 @@ public class ArchiveTest {
         }
 
         @Override
-        public ReadOnlyModule getModule(ModuleCode moduleCode) {
+        public Module getModule(ModuleCode moduleCode) {
             return tracker.getModule(moduleCode);
         }
 
@@ -98,7 +98,7 @@ public class ImportCommandTest {
         }
 
         @Override
-        public ReadOnlyModule getModule(ModuleCode moduleCode) {
+        public Module getModule(ModuleCode moduleCode) {
             return tracker.getModule(moduleCode);
         }
     }
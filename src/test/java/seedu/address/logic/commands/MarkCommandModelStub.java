@@ -10,7 +10,6 @@ import seedu.address.model.lecture.ReadOnlyLecture;
 import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ModuleName;
-import seedu.address.model.module.ReadOnlyModule;
 import seedu.address.model.video.Video;
 import seedu.address.model.video.VideoName;
 import seedu.address.testutil.ModelStub;
@@ -44,7 +43,7 @@ public class MarkCommandModelStub extends ModelStub {
     }
 
     @Override
-    public ReadOnlyModule getModule(ModuleCode moduleCode) {
+    public Module getModule(ModuleCode moduleCode) {
         return new Module(moduleCode, new ModuleName(" "), Set.of(), List.of());
     }
 
@@ -54,7 +53,7 @@ public class MarkCommandModelStub extends ModelStub {
     }
 
     @Override
-    public ReadOnlyLecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
+    public Lecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
         return new Lecture(lectureName, Set.of(), videos);
     }
 
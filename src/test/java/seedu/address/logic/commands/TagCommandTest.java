@@ -258,7 +258,7 @@ public class TagCommandTest {
             return module.getLecture(lectureName).hasVideo(videoName);
         }
 
-        public ReadOnlyModule getModule(ModuleCode moduleCode) {
+        public Module getModule(ModuleCode moduleCode) {
             return module;
         }
 
@@ -302,7 +302,7 @@ public class TagCommandTest {
         }
 
         @Override
-        public ReadOnlyModule getModule(ModuleCode moduleCode) {
+        public Module getModule(ModuleCode moduleCode) {
             return this.module;
         }
 
@@ -256,7 +256,7 @@ public class UntagCommandTest {
             return module.getLecture(lectureName).hasVideo(videoName);
         }
 
-        public ReadOnlyModule getModule(ModuleCode moduleCode) {
+        public Module getModule(ModuleCode moduleCode) {
             return module;
         }
 
@@ -300,7 +300,7 @@ public class UntagCommandTest {
         }
 
         @Override
-        public ReadOnlyModule getModule(ModuleCode moduleCode) {
+        public Module getModule(ModuleCode moduleCode) {
             return this.module;
         }
 
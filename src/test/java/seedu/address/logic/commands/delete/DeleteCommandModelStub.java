@@ -2,8 +2,10 @@ package seedu.address.logic.commands.delete;
 
 import java.util.ArrayList;
 
+import seedu.address.model.lecture.Lecture;
 import seedu.address.model.lecture.LectureName;
 import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ReadOnlyModule;
 import seedu.address.model.video.Video;
@@ -41,7 +43,7 @@ public class DeleteCommandModelStub extends ModelStub {
     }
 
     @Override
-    public ReadOnlyModule getModule(ModuleCode moduleCode) {
+    public Module getModule(ModuleCode moduleCode) {
         return moduleCode.equals(new ModuleCode("CS2040S"))
                 ? TypicalModules.getCs2040s()
                 : TypicalModules.getCs2107();
@@ -58,7 +60,7 @@ public class DeleteCommandModelStub extends ModelStub {
     }
 
     @Override
-    public ReadOnlyLecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
+    public Lecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
         return lectureName.equals(new LectureName("Week 1"))
                 ? TypicalLectures.getCs2040sWeek1()
                 : TypicalLectures.getCs2040sWeek2();
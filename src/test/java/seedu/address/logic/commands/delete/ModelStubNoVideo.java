@@ -5,7 +5,6 @@ import java.util.Set;
 
 import seedu.address.model.lecture.Lecture;
 import seedu.address.model.lecture.LectureName;
-import seedu.address.model.lecture.ReadOnlyLecture;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.video.VideoName;
 import seedu.address.testutil.ModelStub;
@@ -25,7 +24,7 @@ public class ModelStubNoVideo extends ModelStub {
     }
 
     @Override
-    public ReadOnlyLecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
+    public Lecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
         return new Lecture(lectureName, Set.of(), List.of());
     }
 
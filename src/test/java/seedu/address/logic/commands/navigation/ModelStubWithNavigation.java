@@ -75,13 +75,13 @@ public class ModelStubWithNavigation extends ModelStub {
     }
 
     @Override
-    public ReadOnlyLecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
+    public Lecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
         // For list tests.
         return lec;
     }
 
     @Override
-    public ReadOnlyModule getModule(ModuleCode moduleCode) {
+    public Module getModule(ModuleCode moduleCode) {
         // For list tests.
         return mod;
     }
@@ -51,16 +51,33 @@ public class NavigationInjectorTest {
 
     private void assertNoChange(String input) {
         final Model model = new ModelStubWithNavContext(TypicalNavigationContexts.LECTURE_CS2040S_WEEK_1);
-        String injectedInput = injector.inject(input, model);
+        String injectedInput = injector.inject(input, model).getCommandText();
         assertEquals(input, injectedInput);
     }
 
+    @Test
+    public void inject_inputWithWhitelistCommandWord_argumentsNotScanned() {
+        final Model model = new ModelStubWithNavContext(TypicalNavigationContexts.LECTURE_CS2040S_WEEK_1);
+        assertFalse(injector.inject(NavigationInjector.WHITELIST[0], model).getArguments().isPresent());
+    }
+
+    @Test
+    public void inject_fromLecContextWithNoArg_injectedArgumentsReturned() {
+        final Model model = new ModelStubWithNavContext(TypicalNavigationContexts.LECTURE_CS2040S_WEEK_1);
+        InjectedCommand injectedCommand = injector.inject(TEST_COMMAND_NAME, model);
+
+        String injectedArgs = injectedCommand.getArguments().get().getArgsString();
+        assertEquals(injectedCommand.getCommandText(), (TEST_COMMAND_NAME + injectedArgs).trim());
+        assertTrue(injectedCommand.getArguments().get().hasPrefix(PREFIX_MODULE));
+        assertTrue(injectedCommand.getArguments().get().hasPrefix(PREFIX_LECTURE));
+    }
+
     @Test
     public void inject_fromRootContextWithNoArg_success() {
         final Model model = new ModelStubWithNavContext(TypicalNavigationContexts.ROOT);
         String input = TEST_COMMAND_NAME;
 
-        String injectedInput = injector.inject(input, model);
+        String injectedInput = injector.inject(input, model).getCommandText();
 
         assertPrefixesNotPresentInInjectedInput(injectedInput, PREFIX_MODULE, PREFIX_LECTURE);
     }
@@ -69,7 +86,7 @@ public class NavigationInjectorTest {
     public void inject_fromLecContextWithNoArg_success() {
         final Model model = new ModelStubWithNavContext(TypicalNavigationContexts.LECTURE_CS2040S_WEEK_1);
         String input = TEST_COMMAND_NAME;
-        String injectedInput = injector.inject(input, model);
+        String injectedInput = injector.inject(input, model).getCommandText();
 
         ArgumentMultimap argumentMultimap = tokenizeNavCommandInput(injectedInput);
 
@@ -85,7 +102,7 @@ public class NavigationInjectorTest {
         String modCode = TypicalModules.getCs2040s().getCode().toString();
         String input = String.join(" ", TEST_COMMAND_NAME, PREFIX_MODULE.toString(), modCode);
 
-        String injectedInput = injector.inject(input, model);
+        String injectedInput = injector.inject(input, model).getCommandText();
 
         ArgumentMultimap argumentMultimap = tokenizeNavCommandInput(injectedInput);
 
@@ -100,7 +117,7 @@ public class NavigationInjectorTest {
         String modCode = TypicalModules.getCs2040s().getCode().toString();
         String input = String.join(" ", TEST_COMMAND_NAME, PREFIX_LECTURE.toString(), lecName);
 
-        String injectedInput = injector.inject(input, model);
+        String injectedInput = injector.inject(input, model).getCommandText();
 
         ArgumentMultimap argumentMultimap = tokenizeNavCommandInput(injectedInput);
 
@@ -112,7 +129,7 @@ public class NavigationInjectorTest {
     public void inject_fromLecContextWithRootArg_success() {
         final Model model = new ModelStubWithNavContext(TypicalNavigationContexts.LECTURE_CS2040S_WEEK_1);
         String input = String.join(" ", TEST_COMMAND_NAME, PREFIX_ROOT.toString());
-        String injectedInput = injector.inject(input, model);
+        String injectedInput = injector.inject(input, model).getCommandText();
 
         assertPrefixesNotPresentInInjectedInput(injectedInput, PREFIX_MODULE, PREFIX_LECTURE, PREFIX_ROOT);
     }
@@ -124,7 +141,7 @@ public class NavigationInjectorTest {
         String modCode = TypicalModules.getCs2040s().getCode().toString();
         String input = String.join(" ", TEST_COMMAND_NAME, PREFIX_ROOT.toString(), PREFIX_LECTURE.toString(), lecName);
 
-        String injectedInput = injector.inject(input, model);
+        String injectedInput = injector.inject(input, model).getCommandText();
         ArgumentMultimap argumentMultimap = tokenizeNavCommandInput(injectedInput);
 
         assertPrefixMatchInInjectedInput(argumentMultimap, PREFIX_MODULE, modCode);
@@ -137,7 +154,7 @@ public class NavigationInjectorTest {
         String modCode = TypicalModules.getCs2040s().getCode().toString();
         String input = String.join(" ", TEST_COMMAND_NAME, PREFIX_ROOT.toString(), PREFIX_MODULE.toString(), modCode);
 
-        String injectedInput = injector.inject(input, model);
+        String injectedInput = injector.inject(input, model).getCommandText();
         ArgumentMultimap argumentMultimap = tokenizeNavCommandInput(injectedInput);
 
         assertPrefixMatchInInjectedInput(argumentMultimap, PREFIX_MODULE, modCode);
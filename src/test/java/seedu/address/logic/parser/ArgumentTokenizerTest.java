@@ -221,4 +221,54 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, slashC);
     }
 
+    @Test
+    public void tokenize_scannedArguments_sameAsArgsString() {
+        String argsString = String.join(" ", preambleValue, slashA.getPrefix(), slashAValue, slashB.getPrefix());
+        TokenizedArguments arguments = ArgumentTokenizer.scan(argsString);
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(arguments, slashA, slashB);
+        assertPreamblePresent(argMultimap, preambleValue);
+        assertArgumentPresent(argMultimap, slashA, slashAValue);
+        assertArgumentPresent(argMultimap, slashB, "");
+
+        // The same scan is tokenized with another set of prefixes
+        argMultimap = ArgumentTokenizer.tokenize(arguments, slashB);
+        assertPreamblePresent(argMultimap, preambleValue);
+        assertArgumentAbsent(argMultimap, slashA);
+        assertArgumentPresent(argMultimap, slashB, "");
+    }
+
+    @Test
+    public void withoutPrefix_prefixPresent_prefixAndValueRemoved() {
+        String argsString = String.join(" ",
+                preambleValue, slashA.getPrefix(), slashAValue, unknownPrefix.getPrefix(), unknownValue,
+                slashB.getPrefix(), slashBValue, slashA.getPrefix());
+        TokenizedArguments arguments = TokenizedArguments.scan(argsString).withoutPrefix(slashA);
+
+        assertEquals(String.join(" ", preambleValue, unknownPrefix.getPrefix(), unknownValue,
+                slashB.getPrefix(), slashBValue, ""), arguments.getArgsString());
+        assertFalse(arguments.hasPrefix(slashA));
+        assertTrue(arguments.hasPrefix(slashB));
+
+        ArgumentMultimap argMultimap = arguments.toArgumentMultimap(new PrefixTrie(slashA, slashB));
+        assertPreamblePresent(argMultimap, preambleValue);
+        assertArgumentAbsent(argMultimap, slashA);
+        assertArgumentPresent(argMultimap, slashB, slashBValue);
+    }
+
+    @Test
+    public void append_prefixedArguments_appendedPrefixesTokenized() {
+        TokenizedArguments arguments = TokenizedArguments.scan(preambleValue)
+                .append(slashA.getPrefix() + " " + slashAValue)
+                .append(slashB.getPrefix() + " " + slashBValue);
+
+        assertEquals(String.join(" ", preambleValue, slashA.getPrefix(), slashAValue, slashB.getPrefix(),
+                slashBValue), arguments.getArgsString());
+
+        ArgumentMultimap argMultimap = arguments.toArgumentMultimap(new PrefixTrie(slashA, slashB));
+        assertPreamblePresent(argMultimap, preambleValue);
+        assertArgumentPresent(argMultimap, slashA, slashAValue);
+        assertArgumentPresent(argMultimap, slashB, slashBValue);
+    }
+
 }
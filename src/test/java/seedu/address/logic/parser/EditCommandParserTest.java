@@ -73,7 +73,7 @@ public class EditCommandParserTest {
 
     @Test
     public void parse_nullArgs_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> parser.parse(null));
+        assertThrows(NullPointerException.class, () -> parser.parse((String) null));
     }
 
     @Test
@@ -51,6 +51,7 @@ import seedu.address.logic.commands.mark.MarkMultipleAsUnwatchedCommand;
 import seedu.address.logic.commands.navigation.BackNavCommand;
 import seedu.address.logic.commands.navigation.NavCommand;
 import seedu.address.logic.commands.navigation.RootNavCommand;
+import seedu.address.logic.injector.InjectedCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lecture.Lecture;
 import seedu.address.model.lecture.LectureName;
@@ -122,6 +123,15 @@ public class TrackerParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_injectedCommandWithArguments_scannedArgumentsParsed() throws Exception {
+        TokenizedArguments arguments = ArgumentTokenizer.scan(" " + VALID_MODULE_CODE_2040);
+        InjectedCommand injectedCommand = new InjectedCommand(
+                DeleteCommand.COMMAND_WORD + arguments.getArgsString(), arguments);
+
+        assertEquals(parser.parseCommand(injectedCommand.getCommandText()), parser.parseCommand(injectedCommand));
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
 
@@ -0,0 +1,117 @@
+package seedu.address.logic.trackereventsystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lecture.LectureName;
+import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.video.Video;
+import seedu.address.testutil.TypicalLectures;
+import seedu.address.testutil.TypicalModules;
+import seedu.address.testutil.TypicalVideos;
+
+public class TrackerEventSystemTest {
+
+    private static final ModuleCode MODULE_CODE = ModuleCode.of("CS2040S");
+    private static final LectureName LECTURE_NAME_1 = LectureName.of("Week 1");
+    private static final LectureName LECTURE_NAME_2 = LectureName.of("Week 2");
+
+    private final TrackerEventSystem trackerEventSystem = new TrackerEventSystem();
+
+    @Test
+    public void publishEvents_observerAddedTwice_calledOncePerEventInOrder() {
+        RecordingObserver observer = new RecordingObserver();
+        trackerEventSystem.addOnModuleModifiedObserver(observer);
+        trackerEventSystem.addOnModuleModifiedObserver(observer);
+        trackerEventSystem.addOnVideoModifiedObserver(observer);
+        trackerEventSystem.addOnVideoModifiedObserver(observer);
+
+        trackerEventSystem.triggerOnModuleEditedEvent(null, TypicalModules.getCs2040s());
+        trackerEventSystem.triggerOnVideoEditedEvent(MODULE_CODE, LECTURE_NAME_1, null, TypicalVideos.INTRO_VIDEO);
+        trackerEventSystem.triggerOnVideoEditedEvent(MODULE_CODE, LECTURE_NAME_1, TypicalVideos.INTRO_VIDEO, null);
+
+        // Events are only delivered when they are published
+        assertTrue(observer.events.isEmpty());
+
+        trackerEventSystem.publishEvents();
+        assertEquals(List.of("module", "video added", "video deleted"), observer.events);
+
+        // Published events are not delivered again
+        trackerEventSystem.publishEvents();
+        assertEquals(3, observer.events.size());
+    }
+
+    @Test
+    public void publishEvents_trackerEditedObserver_calledOnceWithEventsByList() {
+        List<TrackerEventBatch> batches = new ArrayList<>();
+        trackerEventSystem.addOnTrackerEditedObserver(batches::add);
+
+        ReadOnlyLecture lecture = TypicalLectures.getCs2040sWeek2();
+        trackerEventSystem.triggerOnLectureEditedEvent(MODULE_CODE, lecture, lecture);
+        for (int i = 0; i < 100; i++) {
+            trackerEventSystem.triggerOnVideoEditedEvent(MODULE_CODE, LECTURE_NAME_1, TypicalVideos.INTRO_VIDEO,
+                    TypicalVideos.INTRO_VIDEO);
+        }
+        trackerEventSystem.triggerOnVideoEditedEvent(MODULE_CODE, LECTURE_NAME_2, null, TypicalVideos.CONTENT_VIDEO);
+        trackerEventSystem.publishEvents();
+
+        assertEquals(1, batches.size());
+        TrackerEventBatch batch = batches.get(0);
+        assertEquals(102, batch.size());
+        assertTrue(batch.getModuleEvents().isEmpty());
+        assertEquals(1, batch.getLectureEvents(MODULE_CODE).size());
+        assertTrue(batch.getLectureEvents(ModuleCode.of("ST2334")).isEmpty());
+        assertEquals(100, batch.getVideoEvents(MODULE_CODE, LECTURE_NAME_1).size());
+        assertEquals(1, batch.getVideoEvents(MODULE_CODE, LECTURE_NAME_2).size());
+    }
+
+    @Test
+    public void publishEvents_trackerEditedObserverWithExecutor_deliveredThroughExecutor() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<TrackerEventBatch> batches = new ArrayList<>();
+        trackerEventSystem.addOnTrackerEditedObserver(batches::add, tasks::add);
+
+        trackerEventSystem.triggerOnModuleEditedEvent(TypicalModules.getCs2040s(), null);
+        trackerEventSystem.publishEvents();
+        assertTrue(batches.isEmpty());
+
+        tasks.forEach(Runnable::run);
+        assertEquals(1, batches.size());
+        assertEquals(TypicalModules.getCs2040s().getCode(),
+                batches.get(0).getLastModuleEvent(MODULE_CODE).getOriginalModule().getCode());
+    }
+
+    @Test
+    public void publishEvents_noEvents_observersNotCalled() {
+        List<TrackerEventBatch> batches = new ArrayList<>();
+        trackerEventSystem.addOnTrackerEditedObserver(batches::add);
+
+        trackerEventSystem.publishEvents();
+        assertTrue(batches.isEmpty());
+    }
+
+    /**
+     * An observer that records the kinds of events it is called with.
+     */
+    private static class RecordingObserver implements OnModuleEditedEventObserver, OnVideoEditedEventObserver {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onModuleEdited(ReadOnlyModule originalModule, ReadOnlyModule editedModule) {
+            events.add("module");
+        }
+
+        @Override
+        public void onVideoEdited(ModuleCode moduleCode, LectureName lectureName, Video originalVideo,
+                Video editedVideo) {
+            events.add(editedVideo == null ? "video deleted" : "video added");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.trackereventsystem.observers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.trackereventsystem.TrackerEventSystem;
+import seedu.address.model.DisplayListLevel;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.video.Video;
+import seedu.address.model.video.VideoPredicate;
+import seedu.address.testutil.TypicalModules;
+import seedu.address.testutil.TypicalVideos;
+
+public class ListObserverTest {
+
+    private static final ModuleCode MODULE_CODE = ModuleCode.of("CS2040S");
+
+    private final TrackerEventSystem trackerEventSystem = new TrackerEventSystem();
+    private RefreshCountingModelManager model;
+    private ReadOnlyLecture lecture;
+
+    @BeforeEach
+    public void setUp() {
+        model = new RefreshCountingModelManager();
+        trackerEventSystem.addOnTrackerEditedObserver(new ListObserver(model));
+
+        ReadOnlyModule module = model.getModule(MODULE_CODE);
+        lecture = module.getLectureList().get(1);
+        model.updateFilteredVideoList(new VideoPredicate(lecture), MODULE_CODE, lecture);
+        model.videoListRefreshCount = 0;
+    }
+
+    @Test
+    public void onTrackerEdited_manyEventsInDisplayedLecture_videoListRefreshedOnce() {
+        for (int i = 0; i < 500; i++) {
+            trackerEventSystem.triggerOnVideoEditedEvent(MODULE_CODE, lecture.getName(),
+                    TypicalVideos.CONTENT_VIDEO, TypicalVideos.CONTENT_VIDEO);
+        }
+        trackerEventSystem.publishEvents();
+
+        assertEquals(1, model.videoListRefreshCount);
+        assertEquals(DisplayListLevel.VIDEO, model.getLastListLevel());
+    }
+
+    @Test
+    public void onTrackerEdited_eventsInOtherLecture_videoListNotRefreshed() {
+        ReadOnlyLecture otherLecture = model.getModule(MODULE_CODE).getLectureList().get(0);
+        trackerEventSystem.triggerOnVideoEditedEvent(MODULE_CODE, otherLecture.getName(),
+                TypicalVideos.INTRO_VIDEO, TypicalVideos.INTRO_VIDEO);
+        trackerEventSystem.publishEvents();
+
+        assertEquals(0, model.videoListRefreshCount);
+    }
+
+    /**
+     * A {@code ModelManager} that counts the number of times the video list is refreshed.
+     */
+    private static class RefreshCountingModelManager extends ModelManager {
+        private int videoListRefreshCount = 0;
+
+        private RefreshCountingModelManager() {
+            super(TypicalModules.getTypicalTracker(), new UserPrefs());
+        }
+
+        @Override
+        public void updateFilteredVideoList(Predicate<Video> predicate, ModuleCode moduleCode,
+                ReadOnlyLecture lecture) {
+            videoListRefreshCount++;
+            super.updateFilteredVideoList(predicate, moduleCode, lecture);
+        }
+    }
+}
@@ -12,11 +12,18 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.lecture.ReadOnlyLecture;
+import seedu.address.model.lecture.exceptions.LectureNotFoundException;
+import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ModuleContainsKeywordsPredicate;
+import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.video.Video;
 import seedu.address.testutil.TypicalLectures;
 import seedu.address.testutil.TypicalModules;
 import seedu.address.testutil.TypicalVideos;
+import seedu.address.testutil.VideoBuilder;
 
 public class ModelManagerTest {
 
@@ -119,6 +126,41 @@ public class ModelManagerTest {
                 modelManager.setVideo(null, TypicalVideos.CONTENT_VIDEO, TypicalVideos.CONTENT_VIDEO));
     }
 
+    @Test
+    public void batch_changesToSameLecture_videoListChangedOnce() {
+        modelManager = new ModelManager(TypicalModules.getTypicalTracker(), new UserPrefs());
+        ModuleCode moduleCode = TypicalModules.CS2040S.getCode();
+        ReadOnlyLecture lecture = modelManager.getLecture(moduleCode, TypicalLectures.CS2040S_WEEK_2.getName());
+        int[] changeCount = {0};
+        lecture.getVideoList().addListener((ListChangeListener<Video>) change -> changeCount[0]++);
+
+        Batch batch = new Batch();
+        Video unwatchedContentVideo = new VideoBuilder(TypicalVideos.CONTENT_VIDEO).withWatched(false).build();
+        batch.setVideo(lecture, TypicalVideos.CONTENT_VIDEO, unwatchedContentVideo);
+        batch.deleteVideo(lecture, TypicalVideos.ANALYSIS_VIDEO);
+        batch.addVideo(lecture, TypicalVideos.INTRO_VIDEO);
+        modelManager.batch(batch);
+
+        assertEquals(Arrays.asList(unwatchedContentVideo, TypicalVideos.INTRO_VIDEO), lecture.getVideoList());
+        assertEquals(0, lecture.getWatchedVideoCount());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void batch_invalidChange_noChangesApplied() {
+        modelManager = new ModelManager(TypicalModules.getTypicalTracker(), new UserPrefs());
+        ModuleCode moduleCode = TypicalModules.CS2040S.getCode();
+        ReadOnlyModule module = modelManager.getModule(moduleCode);
+        ReadOnlyLecture lecture = modelManager.getLecture(moduleCode, TypicalLectures.CS2040S_WEEK_2.getName());
+
+        Batch batch = new Batch();
+        batch.deleteVideo(lecture, TypicalVideos.ANALYSIS_VIDEO);
+        batch.deleteLecture(module, TypicalLectures.ST2334_TOPIC_1);
+
+        assertThrows(LectureNotFoundException.class, () -> modelManager.batch(batch));
+        assertTrue(lecture.hasVideo(TypicalVideos.ANALYSIS_VIDEO));
+    }
+
     @Test
     public void getFilteredModuleList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredModuleList().remove(0));
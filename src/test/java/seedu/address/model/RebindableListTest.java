@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class RebindableListTest {
+
+    private final RebindableList<String> list = new RebindableList<>();
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.addListener((ListChangeListener.Change<? extends String> change) -> changes.add(change.toString()));
+    }
+
+    @Test
+    public void get_unbound_throwsIndexOutOfBoundsException() {
+        assertEquals(0, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    public void setSource_sameSource_noChange() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b");
+        assertTrue(list.setSource(source));
+        assertEquals(1, changes.size());
+
+        assertFalse(list.setSource(source));
+        assertEquals(1, changes.size());
+        assertEquals(List.of("a", "b"), list);
+    }
+
+    @Test
+    public void setSource_differentSource_itemsReplacedAndOldSourceIgnored() {
+        ObservableList<String> oldSource = FXCollections.observableArrayList("a");
+        ObservableList<String> newSource = FXCollections.observableArrayList("b", "c");
+        list.setSource(oldSource);
+        list.setSource(newSource);
+        assertEquals(List.of("b", "c"), list);
+
+        changes.clear();
+        oldSource.add("d");
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void sourceChanged_changeForwarded() {
+        ObservableList<String> source = FXCollections.observableArrayList("a");
+        list.setSource(source);
+        changes.clear();
+
+        source.add("b");
+        assertEquals(1, changes.size());
+        assertEquals(List.of("a", "b"), list);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -14,13 +15,18 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.lecture.LectureName;
 import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ReadOnlyModule;
 import seedu.address.model.module.exceptions.DuplicateModuleException;
 import seedu.address.model.module.exceptions.ModuleNotFoundException;
+import seedu.address.model.video.Video;
 import seedu.address.testutil.ModuleBuilder;
+import seedu.address.testutil.TypicalLectures;
 import seedu.address.testutil.TypicalModules;
+import seedu.address.testutil.TypicalVideos;
 
 public class TrackerTest {
 
@@ -231,6 +237,56 @@ public class TrackerTest {
         assertEquals(tracker.getModule(module.getCode()), module);
     }
 
+    @Test
+    public void getLecture_existingPath_returnsLecture() {
+        Module module = TypicalModules.getCs2040s();
+        Lecture lecture = TypicalLectures.getCs2040sWeek2();
+
+        tracker.addModule(module);
+
+        assertEquals(lecture, tracker.getLecture(module.getCode(), lecture.getName()));
+    }
+
+    @Test
+    public void getLecture_moduleDoesNotExist_returnsNull() {
+        assertNull(tracker.getLecture(TypicalModules.getCs2040s().getCode(),
+                TypicalLectures.getCs2040sWeek2().getName()));
+    }
+
+    @Test
+    public void getVideo_existingPath_returnsVideo() {
+        Module module = TypicalModules.getCs2040s();
+        Lecture lecture = TypicalLectures.getCs2040sWeek2();
+        Video video = TypicalVideos.ANALYSIS_VIDEO;
+
+        tracker.addModule(module);
+
+        assertEquals(video, tracker.getVideo(module.getCode(), lecture.getName(), video.getName()));
+    }
+
+    @Test
+    public void getVideo_lectureDoesNotExist_returnsNull() {
+        Module module = TypicalModules.getCs2040s();
+
+        tracker.addModule(module);
+
+        assertNull(tracker.getVideo(module.getCode(), new LectureName("Week 100"),
+                TypicalVideos.ANALYSIS_VIDEO.getName()));
+    }
+
+    @Test
+    public void getVideo_afterResetData_resolvesNewData() {
+        tracker.addModule(TypicalModules.getCs2107());
+        tracker.resetData(TypicalModules.getTypicalTracker());
+
+        Module module = TypicalModules.getCs2040s();
+        Lecture lecture = TypicalLectures.getCs2040sWeek2();
+        Video video = TypicalVideos.ANALYSIS_VIDEO;
+
+        assertNull(tracker.getModule(TypicalModules.getCs2107().getCode()));
+        assertEquals(video, tracker.getVideo(module.getCode(), lecture.getName(), video.getName()));
+    }
+
     @Test
     public void equals() {
         Tracker tracker = TypicalModules.getTypicalTracker();
@@ -282,5 +338,10 @@ public class TrackerTest {
         public boolean hasModule(ModuleCode moduleCode) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public long getVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
@@ -0,0 +1,232 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.video.UniqueVideoList;
+import seedu.address.model.video.Video;
+import seedu.address.model.video.VideoName;
+import seedu.address.model.video.exceptions.DuplicateVideoException;
+import seedu.address.model.video.exceptions.VideoNotFoundException;
+import seedu.address.testutil.TypicalVideos;
+import seedu.address.testutil.VideoBuilder;
+
+public class UniqueDataListTest {
+
+    private final UniqueVideoList videos = new UniqueVideoList();
+
+    @Test
+    public void contains_nullData_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> videos.contains(null));
+    }
+
+    @Test
+    public void contains_dataWithSameKeyInList_returnsTrue() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        Video editedVideo = new VideoBuilder(TypicalVideos.CONTENT_VIDEO).withWatched(false).build();
+        assertTrue(videos.contains(editedVideo));
+    }
+
+    @Test
+    public void containsKey_keyNotInList_returnsFalse() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        assertFalse(videos.containsKey(TypicalVideos.ANALYSIS_VIDEO.getName()));
+    }
+
+    @Test
+    public void get_keyInList_returnsData() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        videos.add(TypicalVideos.ANALYSIS_VIDEO);
+        assertEquals(TypicalVideos.ANALYSIS_VIDEO, videos.get(new VideoName("Vid 2")));
+    }
+
+    @Test
+    public void get_keyNotInList_returnsNull() {
+        assertNull(videos.get(TypicalVideos.CONTENT_VIDEO.getName()));
+    }
+
+    @Test
+    public void add_duplicateData_throwsDuplicateVideoException() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        assertThrows(DuplicateVideoException.class, () -> videos.add(TypicalVideos.CONTENT_VIDEO));
+    }
+
+    @Test
+    public void setData_editedDataHasDifferentKey_reindexesData() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        Video editedVideo = new VideoBuilder(TypicalVideos.CONTENT_VIDEO).withName("Renamed").build();
+        videos.setVideo(TypicalVideos.CONTENT_VIDEO, editedVideo);
+
+        assertFalse(videos.containsKey(TypicalVideos.CONTENT_VIDEO.getName()));
+        assertEquals(editedVideo, videos.get(new VideoName("Renamed")));
+        assertEquals(List.of(editedVideo), videos.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setData_editedDataHasKeyOfAnotherData_throwsDuplicateVideoException() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        videos.add(TypicalVideos.ANALYSIS_VIDEO);
+        Video editedVideo = new VideoBuilder(TypicalVideos.CONTENT_VIDEO).withName("Vid 2").build();
+
+        assertThrows(DuplicateVideoException.class, () -> videos.setVideo(TypicalVideos.CONTENT_VIDEO, editedVideo));
+    }
+
+    @Test
+    public void setData_targetNotEqualToDataInList_throwsVideoNotFoundException() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        Video differentFields = new VideoBuilder(TypicalVideos.CONTENT_VIDEO).withWatched(false).build();
+
+        assertThrows(VideoNotFoundException.class, () ->
+                videos.setVideo(differentFields, TypicalVideos.ANALYSIS_VIDEO));
+    }
+
+    @Test
+    public void remove_dataInList_removesDataAndKey() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        videos.remove(TypicalVideos.CONTENT_VIDEO);
+
+        assertFalse(videos.contains(TypicalVideos.CONTENT_VIDEO));
+        assertTrue(videos.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void remove_dataWithSameKeyButDifferentFields_throwsVideoNotFoundException() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        Video differentFields = new VideoBuilder(TypicalVideos.CONTENT_VIDEO).withWatched(false).build();
+
+        assertThrows(VideoNotFoundException.class, () -> videos.remove(differentFields));
+    }
+
+    @Test
+    public void setAllData_listWithDuplicateData_throwsDuplicateVideoException() {
+        List<Video> duplicates = Arrays.asList(TypicalVideos.CONTENT_VIDEO, TypicalVideos.ANALYSIS_VIDEO,
+                new VideoBuilder(TypicalVideos.CONTENT_VIDEO).withWatched(false).build());
+
+        assertThrows(DuplicateVideoException.class, () -> videos.setVideos(duplicates));
+    }
+
+    @Test
+    public void setAllData_validList_replacesDataAndIndex() {
+        videos.add(TypicalVideos.REVISION_VIDEO);
+        videos.setVideos(Arrays.asList(TypicalVideos.CONTENT_VIDEO, TypicalVideos.ANALYSIS_VIDEO));
+
+        assertFalse(videos.contains(TypicalVideos.REVISION_VIDEO));
+        assertEquals(TypicalVideos.CONTENT_VIDEO, videos.get(TypicalVideos.CONTENT_VIDEO.getName()));
+        assertEquals(TypicalVideos.ANALYSIS_VIDEO, videos.get(TypicalVideos.ANALYSIS_VIDEO.getName()));
+    }
+
+    @Test
+    public void setAllData_uniqueDataList_copiesIndex() {
+        UniqueVideoList replacement = new UniqueVideoList();
+        replacement.add(TypicalVideos.INTRO_VIDEO);
+        videos.setVideos(replacement);
+
+        assertEquals(TypicalVideos.INTRO_VIDEO, videos.get(TypicalVideos.INTRO_VIDEO.getName()));
+    }
+
+    @Test
+    public void setAllData_unindexedUniqueDataList_indexNotBuilt() {
+        UniqueDataList<VideoName, Video> replacement = new UniqueDataList<>(new ArrayObservableList<>(), false,
+                Video::getName, DuplicateVideoException::new, VideoNotFoundException::new);
+        replacement.setAllData(List.of(TypicalVideos.CONTENT_VIDEO, TypicalVideos.INTRO_VIDEO));
+        List<VideoName> searchedKeys = new ArrayList<>();
+        UniqueDataList<VideoName, Video> dataList = new UniqueDataList<>(Video::getName,
+                DuplicateVideoException::new, VideoNotFoundException::new) {
+            @Override
+            protected Video findByKey(List<Video> list, VideoName key) {
+                searchedKeys.add(key);
+                return super.findByKey(list, key);
+            }
+        };
+
+        dataList.setAllData(replacement);
+
+        assertEquals(TypicalVideos.INTRO_VIDEO, dataList.get(TypicalVideos.INTRO_VIDEO.getName()));
+        assertEquals(List.of(TypicalVideos.INTRO_VIDEO.getName()), searchedKeys);
+    }
+
+    @Test
+    public void setAllData_uniqueDataListModifiedAfterCopy_otherListUnchanged() {
+        UniqueVideoList replacement = new UniqueVideoList();
+        replacement.add(TypicalVideos.INTRO_VIDEO);
+        videos.setVideos(replacement);
+
+        replacement.add(TypicalVideos.CONTENT_VIDEO);
+        videos.remove(TypicalVideos.INTRO_VIDEO);
+
+        assertFalse(videos.containsKey(TypicalVideos.CONTENT_VIDEO.getName()));
+        assertTrue(replacement.containsKey(TypicalVideos.INTRO_VIDEO.getName()));
+        assertEquals(2, replacement.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_calledTwice_returnsSameView() {
+        assertSame(videos.asUnmodifiableObservableList(), videos.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_dataOutOfOrder_keepsListSorted() {
+        videos.add(TypicalVideos.ANALYSIS_VIDEO);
+        videos.add(TypicalVideos.INTRO_VIDEO);
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+
+        assertEquals(sorted(TypicalVideos.ANALYSIS_VIDEO, TypicalVideos.INTRO_VIDEO, TypicalVideos.CONTENT_VIDEO),
+                videos.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setData_editedDataSortsElsewhere_movesData() {
+        videos.setVideos(Arrays.asList(TypicalVideos.INTRO_VIDEO, TypicalVideos.CONTENT_VIDEO,
+                TypicalVideos.ANALYSIS_VIDEO));
+        Video editedVideo = new VideoBuilder(TypicalVideos.INTRO_VIDEO).withName("zzz").build();
+        videos.setVideo(TypicalVideos.INTRO_VIDEO, editedVideo);
+
+        assertEquals(sorted(editedVideo, TypicalVideos.CONTENT_VIDEO, TypicalVideos.ANALYSIS_VIDEO),
+                videos.asUnmodifiableObservableList());
+        assertEquals(editedVideo, videos.asUnmodifiableObservableList().get(2));
+    }
+
+    @Test
+    public void remove_dataComparedAsEqualToAnother_removesExactData() {
+        Video lowerCase = new VideoBuilder(TypicalVideos.CONTENT_VIDEO).withName("video").build();
+        Video upperCase = new VideoBuilder(TypicalVideos.CONTENT_VIDEO).withName("VIDEO").build();
+        videos.add(lowerCase);
+        videos.add(upperCase);
+        videos.remove(upperCase);
+
+        assertEquals(List.of(lowerCase), videos.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void applyChanges_dataOutOfOrder_keepsListSortedAndNotifiesOnce() {
+        videos.setVideos(Arrays.asList(TypicalVideos.INTRO_VIDEO, TypicalVideos.CONTENT_VIDEO));
+        Video editedVideo = new VideoBuilder(TypicalVideos.INTRO_VIDEO).withName("zzz").build();
+        List<Integer> notifications = new ArrayList<>();
+        videos.asUnmodifiableObservableList().addListener((ListChangeListener<Video>) change ->
+                notifications.add(1));
+
+        videos.applyChanges(List.of(TypicalVideos.INTRO_VIDEO),
+                List.of(editedVideo, TypicalVideos.ANALYSIS_VIDEO));
+
+        assertEquals(sorted(editedVideo, TypicalVideos.CONTENT_VIDEO, TypicalVideos.ANALYSIS_VIDEO),
+                videos.asUnmodifiableObservableList());
+        assertEquals(1, notifications.size());
+    }
+
+    private static List<Video> sorted(Video... videos) {
+        List<Video> sortedVideos = new ArrayList<>(Arrays.asList(videos));
+        sortedVideos.sort(Video::compareTo);
+        return sortedVideos;
+    }
+}
@@ -15,6 +15,7 @@ import seedu.address.model.video.exceptions.VideoNotFoundException;
 import seedu.address.testutil.LectureBuilder;
 import seedu.address.testutil.TypicalLectures;
 import seedu.address.testutil.TypicalVideos;
+import seedu.address.testutil.VideoBuilder;
 
 public class LectureTest {
 
@@ -30,6 +31,43 @@ public class LectureTest {
         assertThrows(UnsupportedOperationException.class, () -> lecture.getVideoList().remove(0));
     }
 
+    @Test
+    public void getWatchedVideoCount_videosChanged_countUpdated() {
+        Lecture lecture = new LectureBuilder().withVideos(TypicalVideos.CONTENT_VIDEO).build();
+        assertEquals(1, lecture.getWatchedVideoCount());
+        assertTrue(lecture.isCompleted());
+
+        lecture.addVideo(TypicalVideos.INTRO_VIDEO);
+        assertEquals(1, lecture.getWatchedVideoCount());
+        assertFalse(lecture.isCompleted());
+
+        Video watchedIntroVideo = new VideoBuilder(TypicalVideos.INTRO_VIDEO).withWatched(true).build();
+        lecture.setVideo(TypicalVideos.INTRO_VIDEO, watchedIntroVideo);
+        assertEquals(2, lecture.getWatchedVideoCount());
+        assertTrue(lecture.isCompleted());
+
+        lecture.removeVideo(TypicalVideos.CONTENT_VIDEO);
+        lecture.removeVideo(watchedIntroVideo);
+        assertEquals(0, lecture.getWatchedVideoCount());
+        assertFalse(lecture.isCompleted());
+    }
+
+    @Test
+    public void hashCode_videosChanged_equalsHashCodeOfEqualLecture() {
+        Lecture lecture = new LectureBuilder().withVideos(TypicalVideos.CONTENT_VIDEO).build();
+        Video watchedIntroVideo = new VideoBuilder(TypicalVideos.INTRO_VIDEO).withWatched(true).build();
+
+        lecture.addVideo(TypicalVideos.INTRO_VIDEO);
+        lecture.addVideo(TypicalVideos.ANALYSIS_VIDEO);
+        lecture.setVideo(TypicalVideos.INTRO_VIDEO, watchedIntroVideo);
+        lecture.removeVideo(TypicalVideos.CONTENT_VIDEO);
+
+        Lecture expectedLecture = new LectureBuilder()
+                .withVideos(TypicalVideos.ANALYSIS_VIDEO, watchedIntroVideo).build();
+        assertEquals(expectedLecture.hashCode(), lecture.hashCode());
+        assertEquals(expectedLecture, lecture);
+    }
+
     @Test
     public void isSameLecture_sameObject_returnsTrue() {
         assertTrue(lecture.isSameLecture(lecture));
@@ -172,6 +210,9 @@ public class LectureTest {
 
         assertTrue(lecture.equals(lectureCopy));
 
+        // same values with videos of the other lecture -> returns true
+        assertTrue(lecture.equals(new Lecture(lecture.getName(), lecture.getTags(), lecture)));
+
         // same object -> returns true
         assertTrue(lecture.equals(lecture));
 
@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.lecture.Lecture;
@@ -13,9 +17,13 @@ import seedu.address.model.lecture.ReadOnlyLecture;
 import seedu.address.model.lecture.exceptions.DuplicateLectureException;
 import seedu.address.model.lecture.exceptions.LectureNotFoundException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.video.Video;
+import seedu.address.testutil.LectureBuilder;
 import seedu.address.testutil.ModuleBuilder;
 import seedu.address.testutil.TypicalLectures;
 import seedu.address.testutil.TypicalModules;
+import seedu.address.testutil.TypicalVideos;
+import seedu.address.testutil.VideoBuilder;
 
 public class ModuleTest {
 
@@ -31,6 +39,110 @@ public class ModuleTest {
         assertThrows(UnsupportedOperationException.class, () -> module.getLectureList().remove(0));
     }
 
+    @Test
+    public void constructor_lecturesSource_copiesLecturesIndependently() {
+        Module editedModule = new Module(module.getCode(), new ModuleName("Random Name"), module.getTags(), module);
+
+        assertEquals(module.getLectureList(), editedModule.getLectureList());
+
+        editedModule.removeLecture(TypicalLectures.getCs2040sWeek1());
+
+        assertTrue(module.hasLecture(TypicalLectures.getCs2040sWeek1().getName()));
+        assertFalse(editedModule.hasLecture(TypicalLectures.getCs2040sWeek1().getName()));
+    }
+
+    @Test
+    public void constructor_lectureLoader_lecturesLoadedWhenFirstNeeded() {
+        List<Integer> loadCount = new ArrayList<>();
+        Module lazyModule = new Module(module.getCode(), module.getName(), module.getTags(),
+                module.getLectureCount(), module.getCompletedLectureCount(), module.getLecturesHash(), () -> {
+                    loadCount.add(1);
+                    return new ModuleBuilder(module).build().getLectureList().stream()
+                            .map(lecture -> (Lecture) lecture).collect(Collectors.toList());
+                });
+
+        assertEquals(module.getLectureCount(), lazyModule.getLectureCount());
+        assertEquals(module.getCompletedLectureCount(), lazyModule.getCompletedLectureCount());
+        assertFalse(lazyModule.isLecturesLoaded());
+
+        // Editing the module without its lectures does not load them
+        Module editedModule = new Module(module.getCode(), new ModuleName("Random Name"), module.getTags(),
+                lazyModule);
+        assertFalse(editedModule.isLecturesLoaded());
+        assertEquals(0, loadCount.size());
+
+        // Comparing the module does not load its lectures
+        int unloadedHashCode = lazyModule.hashCode();
+        assertEquals(module.hashCode(), unloadedHashCode);
+        assertEquals(module, lazyModule);
+        assertFalse(lazyModule.equals(new Module(module.getCode(), module.getName(), module.getTags(),
+                module.getLectureCount(), module.getCompletedLectureCount(), module.getLecturesHash() + 1, List::of)));
+        assertEquals(editedModule, new Module(editedModule.getCode(), editedModule.getName(), editedModule.getTags(),
+                lazyModule));
+        assertEquals(0, loadCount.size());
+
+        assertEquals(module.getLectureList(), lazyModule.getLectureList());
+        assertEquals(unloadedHashCode, lazyModule.hashCode());
+        assertTrue(lazyModule.isLecturesLoaded());
+        assertEquals(module, lazyModule);
+        assertEquals(module.hashCode(), lazyModule.hashCode());
+        assertEquals(1, loadCount.size());
+    }
+
+    @Test
+    public void constructor_invalidLectureCounts_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Module(module.getCode(), module.getName(),
+                module.getTags(), 1, 2, 0, List::of));
+    }
+
+    @Test
+    public void getCompletedLectureCount_lecturesAndVideosChanged_countUpdated() {
+        Lecture completedLecture = new LectureBuilder().withName("Week 1")
+                .withVideos(TypicalVideos.CONTENT_VIDEO).build();
+        Lecture incompleteLecture = new LectureBuilder().withName("Week 2")
+                .withVideos(TypicalVideos.INTRO_VIDEO).build();
+        Module module = new ModuleBuilder().withLectures(completedLecture, incompleteLecture).build();
+        assertEquals(1, module.getCompletedLectureCount());
+
+        Video watchedIntroVideo = new VideoBuilder(TypicalVideos.INTRO_VIDEO).withWatched(true).build();
+        incompleteLecture.setVideo(TypicalVideos.INTRO_VIDEO, watchedIntroVideo);
+        assertEquals(2, module.getCompletedLectureCount());
+
+        module.removeLecture(completedLecture);
+        assertEquals(1, module.getCompletedLectureCount());
+
+        Lecture editedLecture = new LectureBuilder().withName("Week 3").build();
+        module.setLecture(incompleteLecture, editedLecture);
+        assertEquals(0, module.getCompletedLectureCount());
+
+        // changes to a lecture that is no longer in the module are not counted
+        incompleteLecture.setVideo(watchedIntroVideo, TypicalVideos.INTRO_VIDEO);
+        incompleteLecture.setVideo(TypicalVideos.INTRO_VIDEO, watchedIntroVideo);
+        assertEquals(0, module.getCompletedLectureCount());
+    }
+
+    @Test
+    public void hashCode_lecturesAndVideosChanged_equalsHashCodeOfEqualModule() {
+        Lecture lecture = new LectureBuilder().withName("Week 1").withVideos(TypicalVideos.CONTENT_VIDEO).build();
+        Module module = new ModuleBuilder().withLectures(lecture).build();
+        int originalHashCode = module.hashCode();
+
+        lecture.addVideo(TypicalVideos.INTRO_VIDEO);
+        assertFalse(originalHashCode == module.hashCode());
+
+        module.addLecture(new LectureBuilder().withName("Week 2").build());
+        module.removeLecture(new LectureBuilder().withName("Week 2").build());
+        lecture.removeVideo(TypicalVideos.INTRO_VIDEO);
+        assertEquals(originalHashCode, module.hashCode());
+
+        Lecture expectedLecture = new LectureBuilder().withName("Week 1")
+                .withVideos(TypicalVideos.CONTENT_VIDEO, TypicalVideos.REVISION_VIDEO).build();
+        lecture.addVideo(TypicalVideos.REVISION_VIDEO);
+        Module expectedModule = new ModuleBuilder().withLectures(expectedLecture).build();
+        assertEquals(expectedModule.hashCode(), module.hashCode());
+        assertEquals(expectedModule, module);
+    }
+
     @Test
     public void isSameModule_sameObject_returnsTrue() {
         assertTrue(module.isSameModule(module));
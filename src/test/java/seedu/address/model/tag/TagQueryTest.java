@@ -0,0 +1,97 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagQueryTest {
+
+    private final Set<Tag> mathHeavy = Tag.setOf(List.of(new Tag("Math"), new Tag("Heavy")));
+    private final Set<Tag> intro = Tag.setOf(List.of(new Tag("Intro")));
+
+    @Test
+    public void anyOf_keywordPrefixOfTagIgnoringCase_matches() {
+        TagQuery query = TagQuery.anyOf(List.of("mat", "Nothing"));
+
+        assertTrue(query.matches(mathHeavy));
+        assertFalse(query.matches(intro));
+    }
+
+    @Test
+    public void anyOf_keywordWithSpaces_spacesIgnored() {
+        assertTrue(TagQuery.anyOf(List.of("He avy")).matches(mathHeavy));
+    }
+
+    @Test
+    public void anyOf_noKeywords_matchesNothing() {
+        assertFalse(TagQuery.anyOf(List.of()).matches(mathHeavy));
+    }
+
+    @Test
+    public void noneOf_keywords_matchesSetsWithoutMatchingTag() {
+        TagQuery query = TagQuery.noneOf(List.of("Heavy"));
+
+        assertFalse(query.matches(mathHeavy));
+        assertTrue(query.matches(intro));
+        assertTrue(query.matches(Tag.setOf(List.of())));
+    }
+
+    @Test
+    public void and_queries_matchesSetsMatchedByBoth() {
+        TagQuery query = TagQuery.anyOf(List.of("Math")).and(TagQuery.anyOf(List.of("Heavy")));
+
+        assertTrue(query.matches(mathHeavy));
+        assertFalse(query.matches(Tag.setOf(List.of(new Tag("Math")))));
+        assertFalse(query.and(TagQuery.noneOf(List.of("Math"))).matches(mathHeavy));
+    }
+
+    @Test
+    public void and_tagAddedAfterQueryResolved_tagMatchedInEveryClause() {
+        TagQuery query = TagQuery.anyOf(List.of("LateAnd")).and(TagQuery.noneOf(List.of("LateAndNot")));
+
+        assertTrue(query.matches(Tag.setOf(List.of(new Tag("LateAndAlso")))));
+        assertFalse(query.matches(Tag.setOf(List.of(new Tag("LateAndNotThis")))));
+    }
+
+    @Test
+    public void matches_emptyKeywordReached_throwsIllegalArgumentException() {
+        TagQuery query = TagQuery.anyOf(List.of("Heavy", " "));
+
+        assertTrue(query.matches(mathHeavy));
+        assertThrows(IllegalArgumentException.class, () -> query.matches(intro));
+    }
+
+    @Test
+    public void matches_tagAddedAfterQueryResolved_tagMatched() {
+        TagQuery query = TagQuery.anyOf(List.of("LateTag"));
+        assertFalse(query.matches(intro));
+
+        assertTrue(query.matches(Tag.setOf(List.of(new Tag("LateTagQuery")))));
+    }
+
+    @Test
+    public void matches_setNotFromSetOf_matches() {
+        Set<Tag> tags = new HashSet<>(List.of(new Tag("Unshared")));
+
+        assertTrue(TagQuery.anyOf(List.of("unshared")).matches(tags));
+    }
+
+    @Test
+    public void equals() {
+        TagQuery query = TagQuery.anyOf(List.of("Math"));
+
+        assertEquals(query, TagQuery.anyOf(List.of("Math")));
+        assertNotEquals(query, TagQuery.noneOf(List.of("Math")));
+        assertNotEquals(query, TagQuery.anyOf(List.of("Heavy")));
+        assertNotEquals(query, null);
+    }
+
+}
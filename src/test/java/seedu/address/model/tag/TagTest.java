@@ -1,7 +1,13 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -23,4 +29,36 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
+    @Test
+    public void of_sameTagName_returnsSameTag() {
+        assertSame(Tag.of("Math"), Tag.of(new String("Math")));
+    }
+
+    @Test
+    public void setOf_equalTags_returnsSameSetOfSharedTags() {
+        Set<Tag> tags = Tag.setOf(List.of(new Tag("Math"), new Tag("Heavy")));
+
+        assertSame(tags, Tag.setOf(List.of(Tag.of("Heavy"), Tag.of("Math"))));
+        assertEquals(Set.of(new Tag("Math"), new Tag("Heavy")), tags);
+        tags.forEach(tag -> assertSame(Tag.of(tag.getTagName()), tag));
+    }
+
+    @Test
+    public void setOf_sharedSet_returnsSameSet() {
+        Set<Tag> tags = Tag.setOf(List.of(Tag.of("Math")));
+
+        assertSame(tags, Tag.setOf(tags));
+        assertSame(tags, Tag.setOf(new HashSet<>(tags)));
+    }
+
+    @Test
+    public void setOf_modifySet_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> Tag.setOf(List.of()).add(Tag.of("Math")));
+    }
+
 }
@@ -0,0 +1,163 @@
+package seedu.address.model.video;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+
+import seedu.address.model.video.exceptions.DuplicateVideoException;
+import seedu.address.model.video.exceptions.VideoNotFoundException;
+import seedu.address.testutil.TypicalVideos;
+import seedu.address.testutil.VideoBuilder;
+
+public class CompactUniqueVideoListTest {
+
+    private final CompactUniqueVideoList videos = new CompactUniqueVideoList();
+
+    @Test
+    public void add_videosOutOfOrder_storesEqualVideosInOrder() {
+        videos.add(TypicalVideos.INTRO_VIDEO);
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        videos.add(TypicalVideos.ANALYSIS_VIDEO);
+
+        assertEquals(List.of(TypicalVideos.CONTENT_VIDEO, TypicalVideos.ANALYSIS_VIDEO, TypicalVideos.INTRO_VIDEO),
+                videos.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_duplicateVideo_throwsDuplicateVideoException() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        Video editedVideo = new VideoBuilder(TypicalVideos.CONTENT_VIDEO).withWatched(false).build();
+
+        assertThrows(DuplicateVideoException.class, () -> videos.add(editedVideo));
+    }
+
+    @Test
+    public void get_videoNameInList_returnsEqualVideo() {
+        videos.add(TypicalVideos.INTRO_VIDEO);
+        videos.add(TypicalVideos.ANALYSIS_VIDEO);
+
+        assertEquals(TypicalVideos.INTRO_VIDEO, videos.get(TypicalVideos.INTRO_VIDEO.getName()));
+        assertEquals(TypicalVideos.ANALYSIS_VIDEO, videos.get(TypicalVideos.ANALYSIS_VIDEO.getName()));
+        assertNull(videos.get(TypicalVideos.CONTENT_VIDEO.getName()));
+    }
+
+    @Test
+    public void contains_nameDiffersOnlyInCase_returnsFalse() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        Video renamedVideo = new VideoBuilder(TypicalVideos.CONTENT_VIDEO).withName("VID 1").build();
+
+        assertTrue(videos.contains(TypicalVideos.CONTENT_VIDEO));
+        assertFalse(videos.contains(renamedVideo));
+    }
+
+    @Test
+    public void setData_editedVideoSortsElsewhere_movesVideo() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        videos.add(TypicalVideos.ANALYSIS_VIDEO);
+        Video renamedVideo = new VideoBuilder(TypicalVideos.CONTENT_VIDEO).withName("Vid 9").build();
+
+        videos.setVideo(TypicalVideos.CONTENT_VIDEO, renamedVideo);
+
+        assertEquals(List.of(TypicalVideos.ANALYSIS_VIDEO, renamedVideo), videos.asUnmodifiableObservableList());
+        assertFalse(videos.containsKey(TypicalVideos.CONTENT_VIDEO.getName()));
+    }
+
+    @Test
+    public void remove_videoWithDifferentFields_throwsVideoNotFoundException() {
+        videos.add(TypicalVideos.INTRO_VIDEO);
+        Video editedVideo = new VideoBuilder(TypicalVideos.INTRO_VIDEO).withWatched(true).build();
+
+        assertThrows(VideoNotFoundException.class, () -> videos.remove(editedVideo));
+    }
+
+    @Test
+    public void remove_videoInList_removesVideoAndKeepsOthers() {
+        videos.setVideos(List.of(TypicalVideos.CONTENT_VIDEO, TypicalVideos.ANALYSIS_VIDEO,
+                TypicalVideos.INTRO_VIDEO));
+
+        videos.remove(TypicalVideos.ANALYSIS_VIDEO);
+
+        assertEquals(List.of(TypicalVideos.CONTENT_VIDEO, TypicalVideos.INTRO_VIDEO),
+                videos.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setVideos_manyVideos_storesAllFields() {
+        List<Video> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(new VideoBuilder().withName(String.format("Vid %03d", i)).withWatched(i % 3 == 0)
+                    .withTimestamp(String.format("00:%02d:%02d", i / 60, i % 60))
+                    .withTags(i % 2 == 0 ? "Even" : "Odd").build());
+        }
+
+        videos.setVideos(expected);
+
+        assertEquals(expected, videos.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void get_videoReadTwice_returnsSameInstance() {
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+        ObservableList<Video> videoList = videos.asUnmodifiableObservableList();
+
+        assertSame(videoList.get(0), videoList.get(0));
+    }
+
+    @Test
+    public void add_sizeCrossesCompactThreshold_storageSwitchedAndVideosKept() {
+        CompactUniqueVideoList adaptiveVideos = new CompactUniqueVideoList(4);
+        List<Video> expected = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Video video = new VideoBuilder().withName("Vid " + i).withWatched(i % 2 == 0).build();
+            expected.add(video);
+            adaptiveVideos.add(video);
+        }
+        assertEquals(expected, adaptiveVideos.asUnmodifiableObservableList());
+        assertTrue(adaptiveVideos.containsKey(expected.get(5).getName()));
+
+        // The videos are stored as objects again once fewer than half the threshold remain
+        for (int i = 5; i > 0; i--) {
+            adaptiveVideos.remove(expected.remove(i));
+        }
+        assertEquals(expected, adaptiveVideos.asUnmodifiableObservableList());
+        assertSame(expected.get(0), adaptiveVideos.get(expected.get(0).getName()));
+        assertFalse(adaptiveVideos.containsKey(new VideoName("Vid 5")));
+    }
+
+    @Test
+    public void setVideos_compactVideoList_copiesVideosIndependently() {
+        videos.setVideos(List.of(TypicalVideos.CONTENT_VIDEO, TypicalVideos.INTRO_VIDEO));
+        CompactUniqueVideoList copy = new CompactUniqueVideoList();
+
+        copy.setVideos(videos);
+        copy.remove(TypicalVideos.CONTENT_VIDEO);
+
+        assertEquals(List.of(TypicalVideos.CONTENT_VIDEO, TypicalVideos.INTRO_VIDEO),
+                videos.asUnmodifiableObservableList());
+        assertEquals(List.of(TypicalVideos.INTRO_VIDEO), copy.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setVideos_uniqueVideoList_replacesVideos() {
+        UniqueVideoList replacement = new UniqueVideoList();
+        replacement.add(TypicalVideos.REVISION_VIDEO);
+        videos.add(TypicalVideos.CONTENT_VIDEO);
+
+        videos.setVideos(replacement);
+
+        assertEquals(List.of(TypicalVideos.REVISION_VIDEO), videos.asUnmodifiableObservableList());
+        assertTrue(videos.containsKey(TypicalVideos.REVISION_VIDEO.getName()));
+        assertFalse(videos.containsKey(TypicalVideos.CONTENT_VIDEO.getName()));
+    }
+
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.video;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -12,9 +13,21 @@ public class VideoTimestampTest {
     public void constructor_validTimestamp_returnsVideoTimestamp() {
         VideoTimestamp timestamp = new VideoTimestamp("99:59:59");
 
-        assertTrue(timestamp.hours == 99);
-        assertTrue(timestamp.minutes == 59);
-        assertTrue(timestamp.seconds == 59);
+        assertTrue(timestamp.getHours() == 99);
+        assertTrue(timestamp.getMinutes() == 59);
+        assertTrue(timestamp.getSeconds() == 59);
+    }
+
+    @Test
+    public void getTotalSeconds_validTimestamp_returnsTotalSeconds() {
+        assertEquals(0, new VideoTimestamp().getTotalSeconds());
+        assertEquals(3723, new VideoTimestamp("01:02:03").getTotalSeconds());
+        assertEquals(359999, new VideoTimestamp("99:59:59").getTotalSeconds());
+    }
+
+    @Test
+    public void toString_validTimestamp_returnsTimestamp() {
+        assertEquals("01:02:03", new VideoTimestamp("01:02:03").toString());
     }
 
     @Test
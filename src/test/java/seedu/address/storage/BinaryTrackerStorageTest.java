@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ModuleUtil.loadLectures;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.TrackerFileFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTracker;
+import seedu.address.model.Tracker;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.module.exceptions.LectureLoadingException;
+import seedu.address.testutil.TestUtil;
+import seedu.address.testutil.TypicalModules;
+
+public class BinaryTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readSave_typicalTracker_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTracker.bin");
+        BinaryTrackerStorage storage = new BinaryTrackerStorage(filePath);
+        Tracker original = TypicalModules.getTypicalTracker();
+
+        storage.saveTracker(original);
+        assertEquals(original, loadLectures(new Tracker(storage.readTracker().get())));
+
+        // Modify data, overwrite exiting file, and read back
+        original.removeModule(TypicalModules.getCs2040s());
+        storage.saveTracker(original);
+        assertEquals(original, loadLectures(new Tracker(storage.readTracker().get())));
+        assertFalse(Files.exists(filePath.resolveSibling("TempTracker.bin.tmp")));
+    }
+
+    @Test
+    public void readTracker_binaryFile_lecturesLoadedWhenFirstNeeded() throws Exception {
+        Path filePath = testFolder.resolve("TempTracker.bin");
+        BinaryTrackerStorage storage = new BinaryTrackerStorage(filePath);
+        Tracker original = TypicalModules.getTypicalTracker();
+        storage.saveTracker(original);
+
+        Tracker tracker = new Tracker(storage.readTracker().get());
+        for (ReadOnlyModule module : tracker.getModuleList()) {
+            ReadOnlyModule originalModule = original.getModule(module.getCode());
+            assertFalse(((Module) module).isLecturesLoaded());
+            assertEquals(originalModule.getLectureCount(), module.getLectureCount());
+            assertEquals(originalModule.getCompletedLectureCount(), module.getCompletedLectureCount());
+        }
+        assertEquals(original, loadLectures(tracker));
+    }
+
+    @Test
+    public void readTracker_corruptedLectures_throwsLectureLoadingExceptionWhenLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempTracker.bin");
+        BinaryTrackerStorage storage = new BinaryTrackerStorage(filePath);
+        Tracker original = new Tracker();
+        original.addModule(TypicalModules.getCs2040s());
+        storage.saveTracker(original);
+
+        // Replaces the name of the first lecture with an id that is not in the string table
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int recordPosition = buffer.getInt(buffer.getInt(bytes.length - Integer.BYTES) + Integer.BYTES);
+        int tagCount = buffer.getInt(recordPosition + 3 * Integer.BYTES);
+        buffer.putInt(recordPosition + (7 + tagCount) * Integer.BYTES, Integer.MAX_VALUE);
+        Files.write(filePath, bytes);
+
+        ReadOnlyModule module = storage.readTracker().get().getModuleList().get(0);
+        assertEquals(TypicalModules.getCs2040s().getCode(), module.getCode());
+        assertThrows(LectureLoadingException.class, () -> module.getLectureList());
+    }
+
+    @Test
+    public void readTracker_mismatchedLecturesHash_throwsLectureLoadingExceptionWhenLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempTracker.bin");
+        BinaryTrackerStorage storage = new BinaryTrackerStorage(filePath);
+        Tracker original = new Tracker();
+        original.addModule(TypicalModules.getCs2040s());
+        storage.saveTracker(original);
+
+        // Changes the sum of the hashes of the lectures in the header of the module
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int recordPosition = buffer.getInt(buffer.getInt(bytes.length - Integer.BYTES) + Integer.BYTES);
+        int tagCount = buffer.getInt(recordPosition + 3 * Integer.BYTES);
+        int lecturesHashPosition = recordPosition + (6 + tagCount) * Integer.BYTES;
+        buffer.putInt(lecturesHashPosition, buffer.getInt(lecturesHashPosition) + 1);
+        Files.write(filePath, bytes);
+
+        ReadOnlyModule module = storage.readTracker().get().getModuleList().get(0);
+        assertFalse(TypicalModules.getCs2040s().equals(module));
+        assertThrows(LectureLoadingException.class, () -> module.getLectureList());
+    }
+
+    @Test
+    public void readTracker_fileReplacedBeforeLecturesLoaded_lecturesReadFromReadFile() throws Exception {
+        Path filePath = testFolder.resolve("TempTracker.bin");
+        BinaryTrackerStorage storage = new BinaryTrackerStorage(filePath);
+        Tracker original = TypicalModules.getTypicalTracker();
+        storage.saveTracker(original);
+
+        ReadOnlyTracker readTracker = storage.readTracker().get();
+        // A mapped file cannot be replaced on every platform
+        assertFalse(TestUtil.isFileMapped(filePath));
+        Tracker replacement = new Tracker();
+        replacement.addModule(TypicalModules.getCs2107());
+        storage.saveTracker(replacement);
+
+        assertEquals(original, loadLectures(new Tracker(readTracker)));
+    }
+
+    @Test
+    public void readTracker_binaryFileByJsonStorage_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTracker.bin");
+        Tracker original = TypicalModules.getTypicalTracker();
+        new BinaryTrackerStorage(filePath).saveTracker(original);
+
+        assertEquals(original, loadLectures(new Tracker(new JsonTrackerStorage(filePath).readTracker().get())));
+    }
+
+    @Test
+    public void readTracker_jsonFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTracker.json");
+        Tracker original = TypicalModules.getTypicalTracker();
+        new JsonTrackerStorage(filePath).saveTracker(original);
+
+        assertEquals(original, loadLectures(new Tracker(new BinaryTrackerStorage(filePath).readTracker().get())));
+    }
+
+    @Test
+    public void readTracker_changesAppended_changesApplied() throws Exception {
+        Path filePath = testFolder.resolve("TempTracker.bin");
+        BinaryTrackerStorage storage = new BinaryTrackerStorage(filePath);
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        storage.saveTracker(tracker);
+
+        Module cs2040s = TypicalModules.getCs2040s();
+        tracker.removeModule(cs2040s);
+        storage.appendChanges(List.of(new JsonAdaptedTrackerChange(cs2040s, null)), new Tracker());
+
+        assertEquals(tracker, loadLectures(new Tracker(storage.readTracker().get())));
+    }
+
+    @Test
+    public void readTracker_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTracker.bin");
+        BinaryTrackerStorage storage = new BinaryTrackerStorage(filePath);
+        storage.saveTracker(TypicalModules.getTypicalTracker());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 5));
+
+        assertThrows(DataConversionException.class, () -> storage.readTracker());
+    }
+
+    @Test
+    public void readTracker_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTracker.bin");
+        BinaryTrackerStorage storage = new BinaryTrackerStorage(filePath);
+        storage.saveTracker(TypicalModules.getTypicalTracker());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[7] = (byte) (BinaryTrackerStream.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> storage.readTracker());
+    }
+
+    @Test
+    public void detectFormat() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempTracker.bin");
+        new BinaryTrackerStorage(binaryFilePath).saveTracker(TypicalModules.getTypicalTracker());
+        assertEquals(TrackerFileFormat.BINARY, JsonTrackerStorage.detectFormat(binaryFilePath));
+
+        Path jsonFilePath = testFolder.resolve("TempTracker.json");
+        new JsonTrackerStorage(jsonFilePath).saveTracker(TypicalModules.getTypicalTracker());
+        assertEquals(TrackerFileFormat.JSON, JsonTrackerStorage.detectFormat(jsonFilePath));
+    }
+
+    @Test
+    public void saveTracker_nullTracker_throwsNullPointerException() {
+        BinaryTrackerStorage storage = new BinaryTrackerStorage(testFolder.resolve("TempTracker.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveTracker(null));
+    }
+}
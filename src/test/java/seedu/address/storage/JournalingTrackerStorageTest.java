@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ModuleUtil.loadLectures;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Tracker;
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.module.Module;
+import seedu.address.model.video.Video;
+import seedu.address.testutil.LectureBuilder;
+import seedu.address.testutil.TypicalModules;
+import seedu.address.testutil.TypicalVideos;
+import seedu.address.testutil.VideoBuilder;
+
+public class JournalingTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournalingTrackerStorage storage;
+
+    private Tracker tracker;
+    private final List<JsonAdaptedTrackerChange> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("TempTracker.json");
+        storage = new JournalingTrackerStorage(filePath);
+
+        Module cs2040s = TypicalModules.getCs2040s();
+        Module st2334 = TypicalModules.getSt2334();
+        tracker = new Tracker();
+        tracker.addModule(cs2040s);
+        tracker.addModule(st2334);
+        storage.saveTracker(tracker);
+
+        tracker.removeModule(st2334);
+        changes.add(new JsonAdaptedTrackerChange(st2334, null));
+
+        Lecture lecture = new LectureBuilder().withName("Week 8").build();
+        cs2040s.addLecture(lecture);
+        changes.add(new JsonAdaptedTrackerChange(cs2040s.getCode(), null, lecture));
+
+        lecture.addVideo(TypicalVideos.INTRO_VIDEO);
+        changes.add(new JsonAdaptedTrackerChange(cs2040s.getCode(), lecture.getName(), null,
+                TypicalVideos.INTRO_VIDEO));
+
+        Video watchedVideo = new VideoBuilder(TypicalVideos.INTRO_VIDEO).withWatched(true).build();
+        lecture.setVideo(TypicalVideos.INTRO_VIDEO, watchedVideo);
+        changes.add(new JsonAdaptedTrackerChange(cs2040s.getCode(), lecture.getName(), TypicalVideos.INTRO_VIDEO,
+                watchedVideo));
+    }
+
+    @Test
+    public void readTracker_changesAppended_changesApplied() throws Exception {
+        storage.appendChanges(changes.subList(0, 2), tracker);
+        storage.appendChanges(changes.subList(2, changes.size()), tracker);
+
+        assertEquals(tracker, loadLectures(new Tracker(storage.readTracker().get())));
+    }
+
+    @Test
+    public void readTracker_changesAlreadyInSnapshot_trackerUnchanged() throws Exception {
+        storage.appendChanges(changes, tracker);
+        new JsonTrackerStorage(filePath).saveTracker(tracker);
+
+        assertEquals(tracker, loadLectures(new Tracker(storage.readTracker().get())));
+    }
+
+    @Test
+    public void readTracker_changePartlyAppended_changeIgnored() throws Exception {
+        storage.appendChanges(changes.subList(0, 1), tracker);
+        Path journalFilePath = JournalingTrackerStorage.getJournalFilePath(filePath);
+        FileUtil.writeToFile(journalFilePath, FileUtil.readFromFile(journalFilePath) + "{\"kind\":\"MOD");
+
+        Tracker expectedTracker = new Tracker();
+        expectedTracker.addModule(TypicalModules.getCs2040s());
+        assertEquals(expectedTracker, loadLectures(new Tracker(storage.readTracker().get())));
+    }
+
+    @Test
+    public void readTracker_invalidChange_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(JournalingTrackerStorage.getJournalFilePath(filePath), "{\"kind\":\"LECTURE\"}\n");
+
+        assertThrows(DataConversionException.class, () -> storage.readTracker());
+    }
+
+    @Test
+    public void saveTracker_changesAppended_journalDeleted() throws Exception {
+        storage.appendChanges(changes, tracker);
+        storage.saveTracker(tracker);
+
+        assertFalse(Files.exists(JournalingTrackerStorage.getJournalFilePath(filePath)));
+        assertEquals(tracker, loadLectures(new Tracker(storage.readTracker().get())));
+    }
+
+    @Test
+    public void appendChanges_nullChanges_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.appendChanges(null, tracker));
+    }
+}
@@ -10,6 +10,8 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ReadOnlyModule;
 import seedu.address.testutil.TypicalModules;
@@ -73,6 +75,29 @@ public class JsonAdaptedModuleTest {
         assertThrows(IllegalValueException.class, expectedMessage, module::toModelType);
     }
 
+    @Test
+    public void toModelType_manyLectures_returnsModule() throws Exception {
+        List<JsonAdaptedLecture> manyLectures = createLectures(JsonAdaptedModule.LECTURE_SLICE_SIZE * 4);
+        List<Lecture> expectedLectures = new ArrayList<>();
+        for (JsonAdaptedLecture lecture : manyLectures) {
+            expectedLectures.add(lecture.toModelType());
+        }
+
+        JsonAdaptedModule module = new JsonAdaptedModule(VALID_CODE, VALID_NAME, manyLectures, VALID_TAGS);
+        assertEquals(new Module(ORIGINAL_MODULE.getCode(), ORIGINAL_MODULE.getName(), ORIGINAL_MODULE.getTags(),
+                expectedLectures), module.toModelType());
+    }
+
+    @Test
+    public void toModelType_manyLecturesWithDuplicate_throwsIllegalValueException() {
+        List<JsonAdaptedLecture> manyLectures = createLectures(JsonAdaptedModule.LECTURE_SLICE_SIZE * 4);
+        manyLectures.add(manyLectures.get(0));
+
+        JsonAdaptedModule module = new JsonAdaptedModule(VALID_CODE, VALID_NAME, manyLectures, VALID_TAGS);
+        String expectedMessage = JsonAdaptedModule.MESSAGE_DUPLICATE_LECTURE;
+        assertThrows(IllegalValueException.class, expectedMessage, module::toModelType);
+    }
+
     @Test
     public void toModelType_nullInLectures_nullValueIgnored() throws Exception {
         List<JsonAdaptedLecture> lecturesContainingNull = new ArrayList<>(VALID_LECTURES);
@@ -100,4 +125,12 @@ public class JsonAdaptedModuleTest {
         assertEquals(ORIGINAL_MODULE, module.toModelType());
     }
 
+    private static List<JsonAdaptedLecture> createLectures(int count) {
+        List<JsonAdaptedLecture> lectures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lectures.add(new JsonAdaptedLecture("Lecture " + i, List.of(), List.of()));
+        }
+        return lectures;
+    }
+
 }
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Tracker;
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.lecture.LectureName;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+import seedu.address.testutil.TypicalModules;
+
+public class JsonAdaptedTrackerChangeTest {
+
+    @Test
+    public void applyTo_moduleRenamed_lecturesNotLoaded() throws Exception {
+        Module module = TypicalModules.getCs2040s();
+        List<Integer> loadCount = new ArrayList<>();
+        Module lazyModule = new Module(module.getCode(), module.getName(), module.getTags(),
+                module.getLectureCount(), module.getCompletedLectureCount(), module.getLecturesHash(), () -> {
+                    loadCount.add(1);
+                    return new ModuleBuilder(module).build().getLectureList().stream()
+                            .map(lecture -> (Lecture) lecture).collect(Collectors.toList());
+                });
+        Tracker tracker = new Tracker();
+        tracker.addModule(lazyModule);
+
+        ModuleCode editedCode = TypicalModules.getCs2107().getCode();
+        Module editedModule = new Module(editedCode, module.getName(), module.getTags(), lazyModule);
+        new JsonAdaptedTrackerChange(lazyModule, editedModule).applyTo(tracker);
+
+        assertNull(tracker.getModule(module.getCode()));
+        assertEquals(module.getLectureCount(), tracker.getModule(editedCode).getLectureCount());
+        assertEquals(0, loadCount.size());
+        assertEquals(module.getLectureList(), tracker.getModule(editedCode).getLectureList());
+    }
+
+    @Test
+    public void applyTo_lectureRenamed_videosKept() throws Exception {
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        Module module = (Module) tracker.getModule(TypicalModules.getCs2040s().getCode());
+        Lecture lecture = (Lecture) module.getLectureList().get(0);
+
+        Lecture editedLecture = new Lecture(LectureName.of("Renamed"), lecture.getTags(), lecture);
+        new JsonAdaptedTrackerChange(module.getCode(), lecture, editedLecture).applyTo(tracker);
+
+        assertFalse(module.hasLecture(lecture.getName()));
+        assertEquals(lecture.getVideoList(), module.getLecture(editedLecture.getName()).getVideoList());
+    }
+
+    @Test
+    public void applyTo_moduleReplacedByOtherLectures_lecturesReplaced() throws Exception {
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        Module module = (Module) tracker.getModule(TypicalModules.getCs2040s().getCode());
+        Module otherModule = TypicalModules.getSt2334();
+
+        Module replacingModule = new Module(module.getCode(), module.getName(), module.getTags(), otherModule);
+        new JsonAdaptedTrackerChange(module, replacingModule).applyTo(tracker);
+
+        assertEquals(otherModule.getLectureList(), tracker.getModule(module.getCode()).getLectureList());
+    }
+}
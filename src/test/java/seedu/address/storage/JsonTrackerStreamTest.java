@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.TrackerFileFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Tracker;
+import seedu.address.testutil.TypicalModules;
+
+public class JsonTrackerStreamTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableTrackerTest");
+    private static final Path TYPICAL_TRACKER_FILE = TEST_DATA_FOLDER.resolve("typicalTracker.json");
+    private static final Path INVALID_MODULE_FILE = TEST_DATA_FOLDER.resolve("invalidModuleTracker.json");
+    private static final Path DUPLICATE_MODULE_FILE = TEST_DATA_FOLDER.resolve("duplicateModuleTracker.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalTrackerFile_success() throws Exception {
+        assertEquals(TypicalModules.getTypicalTracker(), JsonTrackerStream.read(TYPICAL_TRACKER_FILE));
+    }
+
+    @Test
+    public void read_invalidModuleFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonTrackerStream.read(INVALID_MODULE_FILE));
+    }
+
+    @Test
+    public void read_duplicateModules_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableTracker.MESSAGE_DUPLICATE_MODULE, () ->
+                JsonTrackerStream.read(DUPLICATE_MODULE_FILE));
+    }
+
+    @Test
+    public void read_unknownFieldsAndNullElements_ignored() throws Exception {
+        Path filePath = testFolder.resolve("tracker.json");
+        FileUtil.writeToFile(filePath, "{ \"extra\" : { \"modules\" : 1 }, \"modules\" : [ null, { \"code\" : "
+                + "\"CS2040S\", \"name\" : \"Data Structures\", \"lectures\" : null, \"tagged\" : [ null ], "
+                + "\"extra\" : [ 1, 2 ] } ] }");
+
+        Tracker tracker = JsonTrackerStream.read(filePath);
+
+        assertEquals(1, tracker.getModuleList().size());
+        assertEquals("CS2040S", tracker.getModuleList().get(0).getCode().code);
+    }
+
+    @Test
+    public void read_selectedModules_otherModulesSkipped() throws Exception {
+        Path filePath = testFolder.resolve("tracker.json");
+        FileUtil.writeToFile(filePath, "{ \"modules\" : [ { \"code\" : \"CS2040S\", \"name\" : \"Data Structures\", "
+                + "\"lectures\" : [ { \"name\" : \"\" } ] }, { \"name\" : \"Missing Code\" }, "
+                + "{ \"name\" : \"Probability\", \"code\" : \"ST2334\" } ] }");
+
+        Tracker tracker = JsonTrackerStream.read(filePath, "ST2334"::equals);
+
+        assertEquals(1, tracker.getModuleList().size());
+        assertEquals("ST2334", tracker.getModuleList().get(0).getCode().code);
+        assertThrows(IllegalValueException.class, () -> JsonTrackerStream.read(filePath));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("tracker.json");
+        FileUtil.writeToFile(filePath, "{ \"modules\" : [ { \"code\" : ");
+
+        assertThrows(IOException.class, () -> JsonTrackerStream.read(filePath));
+    }
+
+    @Test
+    public void write_compressed_readBackAndSmaller() throws Exception {
+        Path filePath = testFolder.resolve("tracker.json");
+        Path compressedFilePath = testFolder.resolve("tracker.json.gz");
+        Tracker tracker = TypicalModules.getTypicalTracker();
+
+        JsonTrackerStream.write(tracker, filePath);
+        JsonTrackerStream.write(tracker, compressedFilePath, true);
+
+        assertFalse(JsonTrackerStream.isCompressedFile(filePath));
+        assertTrue(JsonTrackerStream.isCompressedFile(compressedFilePath));
+        assertTrue(Files.size(compressedFilePath) < Files.size(filePath));
+        assertEquals(tracker, JsonTrackerStream.read(compressedFilePath));
+        assertEquals(TrackerFileFormat.JSON, JsonTrackerStorage.detectFormat(compressedFilePath));
+    }
+
+    @Test
+    public void write_typicalTracker_sameAsJsonSerializableTracker() throws Exception {
+        Path filePath = testFolder.resolve("tracker.json");
+        Tracker tracker = TypicalModules.getTypicalTracker();
+
+        JsonTrackerStream.write(tracker, filePath);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTracker(tracker)), FileUtil.readFromFile(filePath));
+        assertEquals(tracker, JsonTrackerStream.read(filePath));
+    }
+}
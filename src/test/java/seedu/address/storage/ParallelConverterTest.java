@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final int SLICE_SIZE = 4;
+
+    @Test
+    public void convertAll_manyElements_convertedInOrder() throws Exception {
+        List<Integer> sources = createSources(SLICE_SIZE * 25);
+        List<Integer> expected = new ArrayList<>();
+        for (Integer source : sources) {
+            expected.add(source * 2);
+        }
+
+        assertEquals(expected, ParallelConverter.convertAll(sources, source -> source * 2, SLICE_SIZE));
+    }
+
+    @Test
+    public void convertAll_nullElements_nullValuesIgnored() throws Exception {
+        List<Integer> sources = new ArrayList<>(createSources(SLICE_SIZE * 2));
+        sources.add(0, null);
+        sources.add(SLICE_SIZE, null);
+
+        assertEquals(createSources(SLICE_SIZE * 2), ParallelConverter.convertAll(sources, source -> source,
+                SLICE_SIZE));
+    }
+
+    @Test
+    public void convertAll_failingElements_throwsFailureOfFirstElement() {
+        List<Integer> sources = createSources(SLICE_SIZE * 25);
+
+        assertThrows(IllegalValueException.class, "10", () -> ParallelConverter.convertAll(sources, source -> {
+            if (source % 10 == 0 && source > 0) {
+                throw new IllegalValueException(String.valueOf(source));
+            }
+            return source;
+        }, SLICE_SIZE));
+    }
+
+    @Test
+    public void convertAll_firstElementFails_laterElementsNotConverted() throws Exception {
+        List<Integer> sources = createSources(SLICE_SIZE * 25);
+        AtomicInteger conversionCount = new AtomicInteger();
+
+        // With a single thread, the forked halves could only be converted after the first slice fails
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            Exception failure = pool.submit(() -> {
+                try {
+                    ParallelConverter.convertAll(sources, source -> {
+                        conversionCount.incrementAndGet();
+                        throw new IllegalValueException(String.valueOf(source));
+                    }, SLICE_SIZE);
+                    return null;
+                } catch (IllegalValueException ive) {
+                    return ive;
+                }
+            }).get();
+            assertEquals("0", failure.getMessage());
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(1, conversionCount.get());
+    }
+
+    @Test
+    public void convertAll_otherCheckedException_exceptionPropagated() {
+        List<Integer> sources = createSources(SLICE_SIZE * 25);
+
+        assertThrows(IOException.class, "50", () -> ParallelConverter.convertAll(sources, source -> {
+            if (source == 50) {
+                throw new IOException(String.valueOf(source));
+            }
+            return source;
+        }, SLICE_SIZE));
+    }
+
+    @Test
+    public void convertAll_invalidSliceSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelConverter.convertAll(createSources(1),
+                source -> source, 0));
+    }
+
+    private static List<Integer> createSources(int count) {
+        List<Integer> sources = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            sources.add(i);
+        }
+        return sources;
+    }
+}
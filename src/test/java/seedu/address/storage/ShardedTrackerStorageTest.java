@@ -0,0 +1,206 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ModuleUtil.loadLectures;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.TrackerFileFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Tracker;
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ReadOnlyModule;
+import seedu.address.model.module.exceptions.LectureLoadingException;
+import seedu.address.testutil.LectureBuilder;
+import seedu.address.testutil.ModuleBuilder;
+import seedu.address.testutil.TestUtil;
+import seedu.address.testutil.TypicalModules;
+
+public class ShardedTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path shardDirectoryPath;
+    private ShardedTrackerStorage storage;
+    private Tracker tracker;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("TempTracker.json");
+        shardDirectoryPath = ShardedTrackerStorage.getShardDirectoryPath(filePath);
+        storage = new ShardedTrackerStorage(filePath);
+        tracker = TypicalModules.getTypicalTracker();
+        storage.saveTracker(tracker);
+    }
+
+    @Test
+    public void readSave_typicalTracker_success() throws Exception {
+        assertEquals(tracker, loadLectures(new Tracker(storage.readTracker().get())));
+        assertEquals(tracker, loadLectures(new Tracker(new JsonTrackerStorage(filePath).readTracker().get())));
+        assertEquals(TrackerFileFormat.SHARDED, JsonTrackerStorage.detectFormat(filePath));
+
+        for (Module module : List.of(TypicalModules.getCs2040s(), TypicalModules.getSt2334())) {
+            assertTrue(Files.exists(shardDirectoryPath.resolve(module.getCode().code + ".json")));
+        }
+    }
+
+    @Test
+    public void saveTracker_moduleRemoved_shardDeleted() throws Exception {
+        Module cs2040s = TypicalModules.getCs2040s();
+        tracker.removeModule(cs2040s);
+        storage.saveTracker(tracker);
+
+        assertFalse(Files.exists(shardDirectoryPath.resolve(cs2040s.getCode().code + ".json")));
+        assertEquals(tracker, loadLectures(new Tracker(storage.readTracker().get())));
+    }
+
+    @Test
+    public void appendChanges_lectureAdded_onlyAffectedShardRewritten() throws Exception {
+        Module cs2040s = TypicalModules.getCs2040s();
+        Path st2334ShardPath = shardDirectoryPath.resolve(TypicalModules.getSt2334().getCode().code + ".json");
+        // Replace an unaffected shard with a marker that is only kept if the shard is not rewritten
+        String unaffectedShard = FileUtil.readFromFile(st2334ShardPath) + "\n";
+        FileUtil.writeToFile(st2334ShardPath, unaffectedShard);
+
+        Lecture lecture = new LectureBuilder().withName("Week 12").build();
+        //CHECKSTYLE.OFF: SeparatorWrap
+        ((Module) tracker.getModule(cs2040s.getCode())).addLecture(lecture);
+        //CHECKSTYLE.ON: SeparatorWrap
+        storage.appendChanges(List.of(new JsonAdaptedTrackerChange(cs2040s.getCode(), null, lecture)), tracker);
+
+        assertEquals(unaffectedShard, FileUtil.readFromFile(st2334ShardPath));
+        assertEquals(tracker, loadLectures(new Tracker(storage.readTracker().get())));
+    }
+
+    @Test
+    public void appendChanges_modulesAddedAndRenamed_manifestUpdated() throws Exception {
+        Module addedModule = new ModuleBuilder().withCode("CS9999").build();
+        tracker.addModule(addedModule);
+        Module cs2040s = TypicalModules.getCs2040s();
+        Module renamedModule = new ModuleBuilder(cs2040s).withCode("CS2040").build();
+        tracker.setModule(tracker.getModule(cs2040s.getCode()), renamedModule);
+
+        storage.appendChanges(List.of(new JsonAdaptedTrackerChange(null, addedModule),
+                new JsonAdaptedTrackerChange(cs2040s, renamedModule)), tracker);
+
+        assertFalse(Files.exists(shardDirectoryPath.resolve(cs2040s.getCode().code + ".json")));
+        assertEquals(tracker, loadLectures(new Tracker(storage.readTracker().get())));
+    }
+
+    @Test
+    public void appendChanges_affectedShardCorrupted_shardWrittenWithoutReadingIt() throws Exception {
+        Module cs2040s = TypicalModules.getCs2040s();
+        FileUtil.writeToFile(shardDirectoryPath.resolve(cs2040s.getCode().code + ".json"), "{");
+
+        Lecture lecture = new LectureBuilder().withName("Week 12").build();
+        //CHECKSTYLE.OFF: SeparatorWrap
+        ((Module) tracker.getModule(cs2040s.getCode())).addLecture(lecture);
+        //CHECKSTYLE.ON: SeparatorWrap
+        storage.appendChanges(List.of(new JsonAdaptedTrackerChange(cs2040s.getCode(), null, lecture)), tracker);
+
+        assertEquals(tracker, loadLectures(new Tracker(storage.readTracker().get())));
+    }
+
+    @Test
+    public void needsCompaction_returnsFalse() {
+        assertFalse(storage.needsCompaction());
+    }
+
+    @Test
+    public void readTracker_selectedModules_otherShardsNotRead() throws Exception {
+        Module st2334 = TypicalModules.getSt2334();
+        FileUtil.writeToFile(shardDirectoryPath.resolve(TypicalModules.getCs2040s().getCode().code + ".json"), "{");
+
+        Tracker expectedTracker = new Tracker();
+        expectedTracker.addModule(st2334);
+        assertEquals(expectedTracker,
+                loadLectures(new Tracker(storage.readTracker(filePath, Set.of(st2334.getCode())).get())));
+    }
+
+    @Test
+    public void readTracker_shardedFile_lecturesLoadedWhenFirstNeeded() throws Exception {
+        Tracker readTracker = new Tracker(storage.readTracker().get());
+        for (ReadOnlyModule module : readTracker.getModuleList()) {
+            ReadOnlyModule originalModule = tracker.getModule(module.getCode());
+            assertFalse(((Module) module).isLecturesLoaded());
+            assertEquals(originalModule.getName(), module.getName());
+            assertEquals(originalModule.getTags(), module.getTags());
+            assertEquals(originalModule.getLectureCount(), module.getLectureCount());
+            assertEquals(originalModule.getCompletedLectureCount(), module.getCompletedLectureCount());
+        }
+        assertEquals(tracker, loadLectures(readTracker));
+    }
+
+    @Test
+    public void readTracker_moduleRenamedBeforeLecturesLoaded_lecturesReadFromReadFile() throws Exception {
+        Tracker readTracker = new Tracker(storage.readTracker().get());
+        Module cs2040s = (Module) readTracker.getModule(TypicalModules.getCs2040s().getCode());
+        // A mapped file cannot be replaced or deleted on every platform
+        assertFalse(TestUtil.isFileMapped(shardDirectoryPath.resolve(cs2040s.getCode().code + ".json")));
+        Module renamedModule = new Module(ModuleCode.of("CS2040"), cs2040s.getName(), cs2040s.getTags(), cs2040s);
+        readTracker.setModule(cs2040s, renamedModule);
+
+        // The saved module is a copy, as it is when saved by a TrackerSaver
+        Tracker changedModules = new Tracker();
+        changedModules.addModule(new Module(renamedModule.getCode(), renamedModule.getName(),
+                renamedModule.getTags(), renamedModule));
+        storage.appendChanges(List.of(new JsonAdaptedTrackerChange(cs2040s, renamedModule)), changedModules);
+
+        assertFalse(Files.exists(shardDirectoryPath.resolve(cs2040s.getCode().code + ".json")));
+        assertFalse(renamedModule.isLecturesLoaded());
+        assertEquals(TypicalModules.getCs2040s().getLectureList(), renamedModule.getLectureList());
+        assertEquals(loadLectures(readTracker), loadLectures(new Tracker(storage.readTracker().get())));
+    }
+
+    @Test
+    public void readTracker_mismatchedShard_throwsLectureLoadingExceptionWhenLoaded() throws Exception {
+        Module cs2040s = TypicalModules.getCs2040s();
+        Files.copy(shardDirectoryPath.resolve(TypicalModules.getSt2334().getCode().code + ".json"),
+                shardDirectoryPath.resolve(cs2040s.getCode().code + ".json"), StandardCopyOption.REPLACE_EXISTING);
+
+        ReadOnlyModule module = storage.readTracker().get().getModule(cs2040s.getCode());
+        assertThrows(LectureLoadingException.class, () -> module.getLectureList());
+    }
+
+    @Test
+    public void readTracker_shardChangedAfterManifest_throwsLectureLoadingExceptionWhenLoaded() throws Exception {
+        Module cs2040s = TypicalModules.getCs2040s();
+        Module editedCs2040s = new ModuleBuilder(cs2040s).withLectures().build();
+        FileUtil.writeToFile(shardDirectoryPath.resolve(cs2040s.getCode().code + ".json"),
+                JsonUtil.toJsonString(new JsonAdaptedModule(editedCs2040s)));
+
+        ReadOnlyModule module = storage.readTracker().get().getModule(cs2040s.getCode());
+        assertThrows(LectureLoadingException.class, () -> module.getLectureList());
+    }
+
+    @Test
+    public void readTracker_missingShard_throwsDataConversionException() throws Exception {
+        Files.delete(shardDirectoryPath.resolve(TypicalModules.getCs2040s().getCode().code + ".json"));
+
+        assertThrows(DataConversionException.class, () -> storage.readTracker());
+    }
+
+    @Test
+    public void readTracker_invalidModuleCodeInManifest_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(filePath, "{ \"shardedModules\" : [ { \"code\" : \"../TempTracker\" } ] }");
+
+        assertThrows(DataConversionException.class, () -> storage.readTracker());
+    }
+}
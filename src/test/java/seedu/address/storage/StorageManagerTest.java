@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 
@@ -60,6 +61,16 @@ public class StorageManagerTest {
         assertEquals(original, new Tracker(retrieved));
     }
 
+    @Test
+    public void saveTracker_compressedArchive_savedCompressed() throws Exception {
+        Tracker original = TypicalModules.getTypicalTracker();
+        Path archivePath = getTempFilePath("archive.json.gz");
+        storageManager.saveTracker(original, archivePath);
+
+        assertTrue(JsonTrackerStream.isCompressedFile(archivePath));
+        assertEquals(original, new Tracker(storageManager.readTracker(archivePath).get()));
+    }
+
     @Test
     public void getTrackerFilePath() {
         assertNotNull(storageManager.getTrackerFilePath());
@@ -0,0 +1,314 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ReadOnlyTracker;
+import seedu.address.model.Tracker;
+import seedu.address.model.lecture.Lecture;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.testutil.StorageStub;
+import seedu.address.testutil.TypicalModules;
+import seedu.address.testutil.VideoBuilder;
+
+public class TrackerSaverTest {
+
+    private final Queue<Runnable> scheduledWrites = new ArrayDeque<>();
+    private final StorageStubRecordingSaves storage = new StorageStubRecordingSaves();
+    private final TrackerSaver trackerSaver = new TrackerSaver(storage, scheduledWrites::add);
+
+    @Test
+    public void requestSave_trackerUnchanged_savedOnce() throws Exception {
+        Tracker tracker = TypicalModules.getTypicalTracker();
+
+        trackerSaver.requestSave(tracker);
+        runScheduledWrites();
+        trackerSaver.requestSave(tracker);
+        runScheduledWrites();
+
+        assertEquals(1, storage.savedTrackers.size());
+        assertEquals(tracker, storage.savedTrackers.get(0));
+    }
+
+    @Test
+    public void requestSave_changesBeforeWrite_latestSnapshotSavedOnce() throws Exception {
+        Tracker tracker = TypicalModules.getTypicalTracker();
+
+        trackerSaver.requestSave(tracker);
+        tracker.removeModule(TypicalModules.getSt2334());
+        trackerSaver.requestSave(tracker);
+        tracker.addModule(TypicalModules.getCs2107());
+        runScheduledWrites();
+
+        assertEquals(1, storage.savedTrackers.size());
+        Tracker expectedTracker = new Tracker();
+        expectedTracker.addModule(TypicalModules.getCs2040s());
+        assertEquals(expectedTracker, storage.savedTrackers.get(0));
+        assertNotSame(tracker, storage.savedTrackers.get(0));
+    }
+
+    @Test
+    public void requestSave_lectureChangedInPlace_onlyChangedModuleCopiedAgain() throws Exception {
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        trackerSaver.requestSave(tracker);
+        runScheduledWrites();
+
+        ModuleCode changedCode = TypicalModules.getSt2334().getCode();
+        Lecture changedLecture = (Lecture) tracker.getModule(changedCode).getLectureList().get(0);
+        changedLecture.addVideo(new VideoBuilder().withName("zzz").build());
+        tracker.markChanged();
+        trackerSaver.requestSave(tracker);
+        runScheduledWrites();
+
+        assertEquals(2, storage.savedTrackers.size());
+        ReadOnlyTracker firstSnapshot = storage.savedTrackers.get(0);
+        ReadOnlyTracker secondSnapshot = storage.savedTrackers.get(1);
+        ModuleCode unchangedCode = TypicalModules.getCs2040s().getCode();
+        assertSame(firstSnapshot.getModule(unchangedCode), secondSnapshot.getModule(unchangedCode));
+        assertNotSame(firstSnapshot.getModule(changedCode), secondSnapshot.getModule(changedCode));
+        assertEquals(tracker, secondSnapshot);
+    }
+
+    @Test
+    public void requestSave_earlierSaveFailed_throwsIoExceptionAndSavesAgain() throws Exception {
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        storage.shouldFail = true;
+        trackerSaver.requestSave(tracker);
+        runScheduledWrites();
+
+        storage.shouldFail = false;
+        assertThrows(IOException.class, () -> trackerSaver.requestSave(tracker));
+        runScheduledWrites();
+
+        assertEquals(1, storage.savedTrackers.size());
+    }
+
+    @Test
+    public void requestSave_executorRunsWriteImmediately_throwsIoExceptionOfWrite() {
+        StorageStubRecordingSaves failingStorage = new StorageStubRecordingSaves();
+        failingStorage.shouldFail = true;
+        TrackerSaver immediateTrackerSaver = new TrackerSaver(failingStorage, Runnable::run);
+
+        assertThrows(IOException.class, () -> immediateTrackerSaver.requestSave(new Tracker()));
+    }
+
+    @Test
+    public void requestSave_storageCanAppendChanges_appendsChangesAfterFirstSave() throws Exception {
+        storage.canAppendChanges = true;
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        JsonAdaptedTrackerChange change = new JsonAdaptedTrackerChange(TypicalModules.getSt2334(), null);
+
+        trackerSaver.requestSave(tracker, List.of(change));
+        runScheduledWrites();
+        tracker.removeModule(TypicalModules.getSt2334());
+        trackerSaver.requestSave(tracker, List.of(change));
+        runScheduledWrites();
+
+        assertEquals(1, storage.savedTrackers.size());
+        assertEquals(List.of(change), storage.appendedChanges);
+    }
+
+    @Test
+    public void requestSave_trackerMarkedSaved_appendsChangesWithoutSaving() throws Exception {
+        storage.canAppendChanges = true;
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        JsonAdaptedTrackerChange change = new JsonAdaptedTrackerChange(TypicalModules.getSt2334(), null);
+
+        trackerSaver.markSaved(tracker);
+        trackerSaver.requestSave(tracker, List.of(change));
+        runScheduledWrites();
+        tracker.removeModule(TypicalModules.getSt2334());
+        trackerSaver.requestSave(tracker, List.of(change));
+        runScheduledWrites();
+
+        assertEquals(0, storage.savedTrackers.size());
+        assertEquals(List.of(change), storage.appendedChanges);
+    }
+
+    @Test
+    public void requestSave_changesNotDescribed_savesWholeTracker() throws Exception {
+        storage.canAppendChanges = true;
+        Tracker tracker = TypicalModules.getTypicalTracker();
+
+        trackerSaver.requestSave(tracker);
+        runScheduledWrites();
+        tracker.removeModule(TypicalModules.getSt2334());
+        trackerSaver.requestSave(tracker);
+        runScheduledWrites();
+
+        assertEquals(2, storage.savedTrackers.size());
+        assertEquals(List.of(), storage.appendedChanges);
+    }
+
+    @Test
+    public void requestSave_compactionIntervalReached_savesWholeTracker() throws Exception {
+        storage.canAppendChanges = true;
+        TrackerSaver compactingTrackerSaver = new TrackerSaver(storage, scheduledWrites::add, 1);
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        JsonAdaptedTrackerChange change = new JsonAdaptedTrackerChange(null, TypicalModules.getCs2107());
+
+        compactingTrackerSaver.requestSave(tracker);
+        runScheduledWrites();
+        tracker.addModule(TypicalModules.getCs2107());
+        compactingTrackerSaver.requestSave(tracker, List.of(change));
+        runScheduledWrites();
+        tracker.removeModule(TypicalModules.getCs2107());
+        compactingTrackerSaver.requestSave(tracker, List.of(change));
+        runScheduledWrites();
+
+        assertEquals(2, storage.savedTrackers.size());
+        assertEquals(List.of(change), storage.appendedChanges);
+        assertEquals(TypicalModules.getTypicalTracker(), storage.savedTrackers.get(1));
+    }
+
+    @Test
+    public void requestSave_storageNotNeedingCompaction_appendsChangedModulesWithoutCompacting() throws Exception {
+        storage.canAppendChanges = true;
+        storage.needsCompaction = false;
+        TrackerSaver compactingTrackerSaver = new TrackerSaver(storage, scheduledWrites::add, 1);
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        JsonAdaptedTrackerChange addition = new JsonAdaptedTrackerChange(null, TypicalModules.getCs2107());
+        JsonAdaptedTrackerChange deletion = new JsonAdaptedTrackerChange(TypicalModules.getSt2334(), null);
+
+        compactingTrackerSaver.requestSave(tracker);
+        runScheduledWrites();
+        tracker.addModule(TypicalModules.getCs2107());
+        compactingTrackerSaver.requestSave(tracker, List.of(addition));
+        tracker.removeModule(TypicalModules.getSt2334());
+        compactingTrackerSaver.requestSave(tracker, List.of(deletion));
+        runScheduledWrites();
+
+        assertEquals(1, storage.savedTrackers.size());
+        assertEquals(List.of(addition, deletion), storage.appendedChanges);
+        Tracker expectedChangedModules = new Tracker();
+        expectedChangedModules.addModule(TypicalModules.getCs2107());
+        assertEquals(List.of(expectedChangedModules), storage.appendedChangedModules);
+    }
+
+    @Test
+    public void requestSave_earlierAppendFailed_savesWholeTracker() throws Exception {
+        storage.canAppendChanges = true;
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        JsonAdaptedTrackerChange change = new JsonAdaptedTrackerChange(TypicalModules.getSt2334(), null);
+        trackerSaver.requestSave(tracker);
+        runScheduledWrites();
+
+        storage.shouldFail = true;
+        tracker.removeModule(TypicalModules.getSt2334());
+        trackerSaver.requestSave(tracker, List.of(change));
+        runScheduledWrites();
+
+        storage.shouldFail = false;
+        assertThrows(IOException.class, () -> trackerSaver.requestSave(tracker, List.of(change)));
+        runScheduledWrites();
+
+        assertEquals(2, storage.savedTrackers.size());
+        assertEquals(List.of(), storage.appendedChanges);
+    }
+
+    @Test
+    public void requestCompaction_changesAppended_savesWholeTracker() throws Exception {
+        storage.canAppendChanges = true;
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        JsonAdaptedTrackerChange change = new JsonAdaptedTrackerChange(TypicalModules.getSt2334(), null);
+        trackerSaver.requestSave(tracker);
+        runScheduledWrites();
+        tracker.removeModule(TypicalModules.getSt2334());
+        trackerSaver.requestSave(tracker, List.of(change));
+        runScheduledWrites();
+
+        trackerSaver.requestCompaction(tracker);
+        runScheduledWrites();
+
+        assertEquals(2, storage.savedTrackers.size());
+        assertEquals(tracker, storage.savedTrackers.get(1));
+        assertEquals(List.of(change), storage.appendedChanges);
+    }
+
+    @Test
+    public void requestCompaction_noChangesAppended_doesNotSave() throws Exception {
+        storage.canAppendChanges = true;
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        trackerSaver.requestSave(tracker);
+        runScheduledWrites();
+
+        trackerSaver.requestCompaction(tracker);
+        runScheduledWrites();
+
+        assertEquals(1, storage.savedTrackers.size());
+    }
+
+    @Test
+    public void requestCompaction_storageNotNeedingCompaction_doesNotSave() throws Exception {
+        storage.canAppendChanges = true;
+        storage.needsCompaction = false;
+        Tracker tracker = TypicalModules.getTypicalTracker();
+        JsonAdaptedTrackerChange change = new JsonAdaptedTrackerChange(TypicalModules.getSt2334(), null);
+        trackerSaver.requestSave(tracker);
+        runScheduledWrites();
+        tracker.removeModule(TypicalModules.getSt2334());
+        trackerSaver.requestSave(tracker, List.of(change));
+        runScheduledWrites();
+
+        trackerSaver.requestCompaction(tracker);
+        runScheduledWrites();
+
+        assertEquals(1, storage.savedTrackers.size());
+    }
+
+    private void runScheduledWrites() {
+        while (!scheduledWrites.isEmpty()) {
+            scheduledWrites.remove().run();
+        }
+    }
+
+    /**
+     * A {@code Storage} stub that records the trackers saved.
+     */
+    private static class StorageStubRecordingSaves extends StorageStub {
+        private final List<ReadOnlyTracker> savedTrackers = new ArrayList<>();
+        private final List<JsonAdaptedTrackerChange> appendedChanges = new ArrayList<>();
+        private final List<ReadOnlyTracker> appendedChangedModules = new ArrayList<>();
+        private boolean canAppendChanges = false;
+        private boolean needsCompaction = true;
+        private boolean shouldFail = false;
+
+        @Override
+        public void saveTracker(ReadOnlyTracker tracker) throws IOException {
+            if (shouldFail) {
+                throw new IOException("dummy exception");
+            }
+            savedTrackers.add(tracker);
+        }
+
+        @Override
+        public boolean canAppendChanges() {
+            return canAppendChanges;
+        }
+
+        @Override
+        public void appendChanges(List<JsonAdaptedTrackerChange> changes, ReadOnlyTracker changedModules)
+                throws IOException {
+            if (shouldFail) {
+                throw new IOException("dummy exception");
+            }
+            appendedChanges.addAll(changes);
+            appendedChangedModules.add(changedModules);
+        }
+
+        @Override
+        public boolean needsCompaction() {
+            return needsCompaction;
+        }
+    }
+}
@@ -92,7 +92,7 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public ReadOnlyModule getModule(ModuleCode moduleCode) {
+    public Module getModule(ModuleCode moduleCode) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -117,7 +117,7 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public ReadOnlyLecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
+    public Lecture getLecture(ModuleCode moduleCode, LectureName lectureName) {
         throw new AssertionError("This method should not be called.");
     }
 
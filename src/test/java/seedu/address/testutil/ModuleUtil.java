@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import seedu.address.logic.commands.add.AddModuleCommand;
 import seedu.address.logic.commands.edit.EditModuleCommand;
 import seedu.address.logic.commands.edit.EditModuleCommand.EditModuleDescriptor;
+import seedu.address.model.ReadOnlyTracker;
 import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleCode;
 
@@ -82,4 +83,16 @@ public class ModuleUtil {
         return sb.toString();
     }
 
+
+    /**
+     * Loads the lectures of every module in {@code tracker}, as modules whose lectures have not been loaded are not
+     * compared by their lectures.
+     *
+     * @param tracker The tracker whose lectures are to be loaded.
+     * @return {@code tracker}.
+     */
+    public static <T extends ReadOnlyTracker> T loadLectures(T tracker) {
+        tracker.getModuleList().forEach(module -> module.getLectureList());
+        return tracker;
+    }
 }
@@ -28,4 +28,24 @@ public class TestUtil {
         return SANDBOX_FOLDER.resolve(fileName);
     }
 
+    /**
+     * Returns true if the file at {@code filePath} is mapped into the memory of this process, as listed by
+     * {@code /proc/self/maps}. Platforms without it, such as Windows, refuse to replace a mapped file instead, so false
+     * is returned there.
+     */
+    public static boolean isFileMapped(Path filePath) {
+        Path mapsPath = Paths.get("/proc/self/maps");
+        if (!Files.isReadable(mapsPath)) {
+            return false;
+        }
+
+        try {
+            String realPath = filePath.toRealPath().toString();
+            return Files.readAllLines(mapsPath).stream().anyMatch(line -> line.endsWith(realPath)
+                    || line.endsWith(realPath + " (deleted)"));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
 }